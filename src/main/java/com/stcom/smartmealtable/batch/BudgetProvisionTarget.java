@@ -0,0 +1,7 @@
+package com.stcom.smartmealtable.batch;
+
+/**
+ * 다음 달 예산을 생성할 프로필과 이어받을 한도. 일일 한도가 없으면 월별 예산만 생성한다.
+ */
+public record BudgetProvisionTarget(Long profileId, long monthlyLimit, Long dailyLimit) {
+}
@@ -0,0 +1,64 @@
+package com.stcom.smartmealtable.batch;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 청크 단위로 다음 달 월별 예산 1건과 일일 예산(말일까지)을 JDBC 배치로 insert 한다.
+ */
+@RequiredArgsConstructor
+public class BudgetProvisionWriter implements ItemWriter<BudgetProvisionTarget> {
+
+    private static final String INSERT_MONTHLY_SQL = """
+            insert into budget
+                (dtype, member_profile_id, spend_amount, budget_limit, budget_year_month,
+                 created_date, last_modified_date)
+            values ('MonthlyBudget', ?, 0, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DAILY_SQL = """
+            insert into budget
+                (dtype, member_profile_id, spend_amount, budget_limit, daily_budget_date,
+                 created_date, last_modified_date)
+            values ('DailyBudget', ?, 0, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final YearMonth targetYearMonth;
+
+    @Override
+    public void write(Chunk<? extends BudgetProvisionTarget> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date month = Date.valueOf(targetYearMonth.atDay(1));
+
+        List<? extends BudgetProvisionTarget> targets = chunk.getItems();
+        jdbcTemplate.batchUpdate(INSERT_MONTHLY_SQL, targets, targets.size(), (ps, target) -> {
+            ps.setLong(1, target.profileId());
+            ps.setLong(2, target.monthlyLimit());
+            ps.setDate(3, month);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        List<Object[]> dailyRows = new ArrayList<>();
+        for (BudgetProvisionTarget target : targets) {
+            if (target.dailyLimit() == null) {
+                continue;
+            }
+            for (LocalDate date = targetYearMonth.atDay(1); !date.isAfter(targetYearMonth.atEndOfMonth());
+                 date = date.plusDays(1)) {
+                dailyRows.add(new Object[]{target.profileId(), target.dailyLimit(), Date.valueOf(date), now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DAILY_SQL, dailyRows);
+    }
+}
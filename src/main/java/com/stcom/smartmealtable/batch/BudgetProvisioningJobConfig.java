@@ -0,0 +1,147 @@
+package com.stcom.smartmealtable.batch;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 월이 바뀌기 전에 이번 달 월별 예산이 있는 프로필마다 다음 달 월별/일일 예산을 미리 만들어 둔다.
+ * 한도는 이번 달 월별 예산과 말일 일일 예산의 한도를 그대로 이어받는다.
+ * <p>
+ * jobParameters: targetYearMonth (yyyy-MM, identifying). 실패한 인스턴스를 같은 파라미터로 다시 실행하면
+ * 실패한 파티션만 마지막 커밋 지점부터 재시작된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BudgetProvisioningJobConfig {
+
+    public static final String JOB_NAME = "budgetProvisioningJob";
+    public static final String TARGET_YEAR_MONTH = "targetYearMonth";
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int GRID_SIZE = 8;
+
+    // 다음 달 예산이 이미 있는 프로필(사용자가 직접 등록한 경우 등)은 제외한다.
+    // 기본 일일 한도가 있는 프로필은 일일 예산을 지연 생성하므로 월별 예산만 만든다.
+    private static final String TARGET_FROM_CLAUSE = """
+            from (
+                select m.member_profile_id as member_profile_id,
+                       m.budget_limit as monthly_limit,
+                       case when p.default_daily_limit is null then d.budget_limit end as daily_limit
+                from budget m
+                join member_profile p
+                    on p.member_profile_id = m.member_profile_id
+                left join budget d
+                    on d.member_profile_id = m.member_profile_id
+                   and d.dtype = 'DailyBudget'
+                   and d.daily_budget_date = :sourceLastDate
+                where m.dtype = 'MonthlyBudget'
+                  and m.budget_year_month = :sourceYearMonth
+                  and m.member_profile_id between :minId and :maxId
+                  and not exists (
+                      select 1 from budget n
+                      where n.member_profile_id = m.member_profile_id
+                        and n.dtype = 'MonthlyBudget'
+                        and n.budget_year_month = :targetYearMonth)
+            ) target
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Bean
+    public Job budgetProvisioningJob(Step budgetProvisioningManagerStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(budgetProvisioningManagerStep)
+                .build();
+    }
+
+    @Bean
+    public Step budgetProvisioningManagerStep(Step budgetProvisioningWorkerStep,
+                                              ProfileIdRangePartitioner budgetProvisioningPartitioner) {
+        return new StepBuilder("budgetProvisioningManagerStep", jobRepository)
+                .partitioner("budgetProvisioningWorkerStep", budgetProvisioningPartitioner)
+                .step(budgetProvisioningWorkerStep)
+                .gridSize(GRID_SIZE)
+                .taskExecutor(new SimpleAsyncTaskExecutor("budget-provisioning-"))
+                .build();
+    }
+
+    @Bean
+    public Step budgetProvisioningWorkerStep(JdbcPagingItemReader<BudgetProvisionTarget> budgetProvisionTargetReader,
+                                             BudgetProvisionWriter budgetProvisionWriter) {
+        // 직접 등록과 경합해 유니크 제약에 걸린 프로필은 건너뛴다.
+        return new StepBuilder("budgetProvisioningWorkerStep", jobRepository)
+                .<BudgetProvisionTarget, BudgetProvisionTarget>chunk(CHUNK_SIZE, transactionManager)
+                .reader(budgetProvisionTargetReader)
+                .writer(budgetProvisionWriter)
+                .faultTolerant()
+                .skip(DuplicateKeyException.class)
+                .skipLimit(CHUNK_SIZE)
+                .listener(new ThroughputLoggingListener())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ProfileIdRangePartitioner budgetProvisioningPartitioner(
+            @Value("#{jobParameters['" + TARGET_YEAR_MONTH + "']}") String targetYearMonth) {
+        return new ProfileIdRangePartitioner(jdbcTemplate, YearMonth.parse(targetYearMonth).minusMonths(1));
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<BudgetProvisionTarget> budgetProvisionTargetReader(
+            @Value("#{jobParameters['" + TARGET_YEAR_MONTH + "']}") String targetYearMonth,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        YearMonth target = YearMonth.parse(targetYearMonth);
+        YearMonth source = target.minusMonths(1);
+
+        return new JdbcPagingItemReaderBuilder<BudgetProvisionTarget>()
+                .name("budgetProvisionTargetReader")
+                .dataSource(dataSource)
+                .selectClause("select member_profile_id, monthly_limit, daily_limit")
+                .fromClause(TARGET_FROM_CLAUSE)
+                .sortKeys(Map.of("member_profile_id", Order.ASCENDING))
+                .parameterValues(Map.of(
+                        "sourceLastDate", Date.valueOf(source.atEndOfMonth()),
+                        "sourceYearMonth", Date.valueOf(source.atDay(1)),
+                        "targetYearMonth", Date.valueOf(target.atDay(1)),
+                        "minId", minId,
+                        "maxId", maxId))
+                .pageSize(CHUNK_SIZE)
+                .rowMapper((rs, rowNum) -> new BudgetProvisionTarget(
+                        rs.getLong("member_profile_id"),
+                        rs.getLong("monthly_limit"),
+                        rs.getObject("daily_limit", Long.class)))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public BudgetProvisionWriter budgetProvisionWriter(
+            @Value("#{jobParameters['" + TARGET_YEAR_MONTH + "']}") String targetYearMonth) {
+        return new BudgetProvisionWriter(jdbcTemplate, YearMonth.parse(targetYearMonth));
+    }
+}
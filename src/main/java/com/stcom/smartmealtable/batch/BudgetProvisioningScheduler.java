@@ -0,0 +1,43 @@
+package com.stcom.smartmealtable.batch;
+
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매월 25일부터 말일까지 매일 새벽 다음 달 예산 생성 잡을 실행한다.
+ * 이미 완료된 달은 건너뛰고, 실패했다면 다음 실행에서 이어서 재시작된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetProvisioningScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job budgetProvisioningJob;
+
+    @Scheduled(cron = "${budget.provisioning.cron:0 0 3 25-31 * *}")
+    public void provisionNextMonth() {
+        YearMonth target = YearMonth.now().plusMonths(1);
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(BudgetProvisioningJobConfig.TARGET_YEAR_MONTH, target.toString())
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(budgetProvisioningJob, parameters);
+            log.info("{} 예산 생성 잡 종료: {}", target, execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug("{} 예산 생성 잡은 이미 완료되었습니다.", target);
+        } catch (JobExecutionException e) {
+            log.error("{} 예산 생성 잡 실행 실패", target, e);
+        }
+    }
+}
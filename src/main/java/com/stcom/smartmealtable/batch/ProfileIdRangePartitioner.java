@@ -0,0 +1,56 @@
+package com.stcom.smartmealtable.batch;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 기준 월에 월별 예산이 있는 프로필 id 구간을 gridSize 개로 균등 분할한다.
+ */
+@RequiredArgsConstructor
+public class ProfileIdRangePartitioner implements Partitioner {
+
+    private static final String ID_RANGE_SQL = """
+            select min(member_profile_id), max(member_profile_id)
+            from budget
+            where dtype = 'MonthlyBudget' and budget_year_month = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final YearMonth sourceYearMonth;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] range = jdbcTemplate.queryForObject(ID_RANGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                Date.valueOf(sourceYearMonth.atDay(1)));
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        long minId = range[0];
+        long maxId = range[1];
+        // 대상이 없으면 아무 것도 읽지 않는 파티션 하나만 만든다.
+        if (minId == 0 && maxId == 0) {
+            partitions.put("partition0", rangeContext(0, -1));
+            return partitions;
+        }
+
+        long targetSize = (maxId - minId) / gridSize + 1;
+        int number = 0;
+        for (long start = minId; start <= maxId; start += targetSize) {
+            partitions.put("partition" + number++, rangeContext(start, Math.min(start + targetSize - 1, maxId)));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("minId", minId);
+        context.putLong("maxId", maxId);
+        return context;
+    }
+}
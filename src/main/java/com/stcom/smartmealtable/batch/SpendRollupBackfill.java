@@ -0,0 +1,133 @@
+package com.stcom.smartmealtable.batch;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 지출 통계 롤업(spend_rollup)이 생기기 전에 등록된 지출을 롤업에 채우는 일회성 잡.
+ * <p>
+ * 지출이 있는 프로필을 id 순으로 CHUNK_SIZE 명씩 읽어, 프로필마다 롤업 행을 지우고 지출 행에서 다시 집계한다.
+ * 한 청크는 한 트랜잭션이고 마지막으로 처리한 프로필 id 를 스텝 컨텍스트에 남기므로, 실패하면 다음 실행에서
+ * 이어서 재시작된다. 다시 집계하는 방식이라 이미 반영된 최근 지출을 두 번 더하지 않는다.
+ * <p>
+ * 완료되기 전에는 롤업이 일부 지출만 담고 있으므로 isCompleted 로 통계 조회를 막는다.
+ * 잡은 한 번만 완료되면 되므로 jobParameters 는 없다.
+ */
+@Slf4j
+@Component
+public class SpendRollupBackfill {
+
+    public static final String JOB_NAME = "spendRollupBackfillJob";
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String LAST_PROFILE_ID = "lastProfileId";
+
+    private static final String NEXT_PROFILE_IDS_SQL = """
+            select distinct member_profile_id
+            from expenditure
+            where member_profile_id > ?
+            order by member_profile_id
+            limit ?
+            """;
+
+    private static final String DELETE_SQL = "delete from spend_rollup where member_profile_id = ?";
+
+    private static final String INSERT_SQL = """
+            insert into spend_rollup
+                (member_profile_id, spent_date, spent_hour, trade_name, amount, expenditure_count)
+            select member_profile_id, cast(spent_date as date), extract(hour from spent_date), trade_name,
+                   sum(amount), count(*)
+            from expenditure
+            where member_profile_id = ?
+            group by member_profile_id, cast(spent_date as date), extract(hour from spent_date), trade_name
+            """;
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JdbcTemplate jdbcTemplate;
+    // JobLauncherTestUtils 가 Job 빈을 하나만 기대하므로 이 잡은 빈으로 등록하지 않는다.
+    private final Job job;
+
+    private volatile boolean completed;
+
+    public SpendRollupBackfill(JobLauncher jobLauncher, JobExplorer jobExplorer, JobRepository jobRepository,
+                               PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.job = new JobBuilder(JOB_NAME, jobRepository)
+                .start(new StepBuilder("spendRollupBackfillStep", jobRepository)
+                        .tasklet((contribution, chunkContext) -> {
+                            ExecutionContext context = chunkContext.getStepContext().getStepExecution()
+                                    .getExecutionContext();
+                            List<Long> profileIds = jdbcTemplate.queryForList(NEXT_PROFILE_IDS_SQL, Long.class,
+                                    context.getLong(LAST_PROFILE_ID, 0L), CHUNK_SIZE);
+                            if (profileIds.isEmpty()) {
+                                return RepeatStatus.FINISHED;
+                            }
+                            rebuild(profileIds);
+                            context.putLong(LAST_PROFILE_ID, profileIds.getLast());
+                            contribution.incrementWriteCount(profileIds.size());
+                            return RepeatStatus.CONTINUABLE;
+                        }, transactionManager)
+                        .listener(new ThroughputLoggingListener())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 완료될 때까지 주기적으로 실행한다. 이미 완료되었으면 아무 것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${spend.rollup.backfill.retry-interval-ms:3600000}",
+            initialDelayString = "${spend.rollup.backfill.initial-delay-ms:60000}")
+    public void backfill() {
+        if (isCompleted()) {
+            return;
+        }
+        try {
+            JobExecution execution = jobLauncher.run(job, new JobParameters());
+            completed = execution.getStatus() == BatchStatus.COMPLETED;
+            log.info("지출 통계 롤업 백필 잡 종료: {}", execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            completed = true;
+        } catch (JobExecutionException e) {
+            log.error("지출 통계 롤업 백필 잡 실행 실패", e);
+        }
+    }
+
+    /**
+     * 백필이 끝나 롤업이 모든 지출을 담고 있는지. 다른 인스턴스에서 완료한 경우도 포함한다.
+     */
+    public boolean isCompleted() {
+        if (completed) {
+            return true;
+        }
+        JobInstance instance = jobExplorer.getLastJobInstance(JOB_NAME);
+        JobExecution execution = (instance == null) ? null : jobExplorer.getLastJobExecution(instance);
+        completed = execution != null && execution.getStatus() == BatchStatus.COMPLETED;
+        return completed;
+    }
+
+    private void rebuild(List<Long> profileIds) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, profileIds, profileIds.size(), (ps, id) -> ps.setLong(1, id));
+        jdbcTemplate.batchUpdate(INSERT_SQL, profileIds, profileIds.size(), (ps, id) -> ps.setLong(1, id));
+    }
+}
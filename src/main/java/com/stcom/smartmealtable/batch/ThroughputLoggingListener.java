@@ -0,0 +1,26 @@
+package com.stcom.smartmealtable.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * 파티션별 처리량을 남긴다. 누적 지표는 Spring Batch 의 Micrometer 메트릭(spring.batch.*)으로 수집된다.
+ */
+@Slf4j
+public class ThroughputLoggingListener implements StepExecutionListener {
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        long millis = (start == null) ? 0 : Math.max(1, Duration.between(start, LocalDateTime.now()).toMillis());
+        long written = stepExecution.getWriteCount();
+        log.info("[{}] read={}, written={}, skipped={}, elapsed={}ms, {} items/s",
+                stepExecution.getStepName(), stepExecution.getReadCount(), written, stepExecution.getSkipCount(),
+                millis, (millis == 0) ? 0 : written * 1000 / millis);
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,95 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * 룰 파서가 정규식으로 찾은 위치에서 금액, 일시, 가맹점을 바로 읽는다.
+ * <p>
+ * 그룹 문자열을 잘라 내거나 "yyyy/MM/dd HH:mm" 문자열을 다시 만들어 파싱하지 않고, 원문의 숫자를 인덱스로 읽어
+ * LocalDateTime 을 만든다. 새로 만드는 문자열은 결과로 돌려주는 가맹점명 하나뿐이다.
+ * <p>
+ * 승인 문자에는 연도가 없으므로 수신 시각 기준으로 연도를 정한다. 수신 시각의 연도로 만든 일시가
+ * 수신 시각보다 하루 이상 뒤라면 작년 문자로 본다. (12월 문자를 1월에 처리하는 경우)
+ * 단말과 서버의 시계 차이를 고려해 하루의 여유를 둔다.
+ */
+final class ApprovalFieldExtractor {
+
+    private ApprovalFieldExtractor() {
+    }
+
+    /**
+     * [start, end) 구간의 "11,000" 형태 금액을 읽는다.
+     */
+    static long amount(CharSequence message, int start, int end) {
+        long amount = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = message.charAt(i);
+            if (c == ',') {
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > 18) {
+                throw new IllegalArgumentException("금액을 읽을 수 없습니다.");
+            }
+            amount = amount * 10 + (c - '0');
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("금액을 읽을 수 없습니다.");
+        }
+        return amount;
+    }
+
+    /**
+     * dateStart 위치의 "MM/dd" 와 timeStart 위치의 "HH:mm" 으로 일시를 만든다.
+     */
+    static LocalDateTime dateTime(CharSequence message, int dateStart, int timeStart, LocalDateTime receivedAt) {
+        int month = twoDigits(message, dateStart);
+        int day = twoDigits(message, dateStart + 3);
+        int hour = twoDigits(message, timeStart);
+        int minute = twoDigits(message, timeStart + 3);
+        if (month < 1 || month > 12 || day < 1 || hour > 23 || minute > 59) {
+            throw new IllegalArgumentException("승인 일시가 올바르지 않습니다.");
+        }
+
+        int year = receivedAt.getYear();
+        if (isValidDay(year, month, day)) {
+            LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute);
+            if (!dateTime.isAfter(receivedAt.plusDays(1))) {
+                return dateTime;
+            }
+        }
+        // 올해 날짜로 만들 수 없거나(2월 29일) 수신 시각보다 뒤라면 작년 문자다.
+        if (isValidDay(year - 1, month, day)) {
+            return LocalDateTime.of(year - 1, month, day, hour, minute);
+        }
+        throw new IllegalArgumentException("승인 일시가 올바르지 않습니다.");
+    }
+
+    /**
+     * [start, end) 구간에서 앞뒤 공백을 뺀 문자열을 한 번만 잘라 돌려준다.
+     */
+    static String trimmed(String message, int start, int end) {
+        while (start < end && Character.isWhitespace(message.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(start, end);
+    }
+
+    private static int twoDigits(CharSequence message, int at) {
+        char tens = message.charAt(at);
+        char ones = message.charAt(at + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            throw new IllegalArgumentException("승인 일시가 올바르지 않습니다.");
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static boolean isValidDay(int year, int month, int day) {
+        return day <= Month.of(month).length(Year.isLeap(year));
+    }
+}
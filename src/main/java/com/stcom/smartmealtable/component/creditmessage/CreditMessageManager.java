@@ -1,14 +1,33 @@
 package com.stcom.smartmealtable.component.creditmessage;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.springframework.stereotype.Component;
 
+/**
+ * 승인 문자 파싱 진입점. 카드사 룰 파서 → 학습된 템플릿 파서 → Gemini 순으로 시도한다.
+ * <p>
+ * 메트릭 credit.message.parse{path=rule|learned|gemini} 로 Gemini fallback 비율과
+ * 템플릿 학습으로 줄어든 fallback 수(learned)를 확인할 수 있다.
+ */
 @Component
-@RequiredArgsConstructor
 public class CreditMessageManager {
 
+    private static final int GEMINI_BATCH_SIZE = 20;
+    private static final int GEMINI_CONCURRENCY = 4;
+
     private final GeminiCreditMessageParser geminiParser;
+    private final GeminiResultCache geminiResultCache;
+    private final CreditTemplateLearner templateLearner;
 
     private final Map<String, CreditMessageParser> parsers = Map.of(
             "KB", new KBCreditMessageParser(),
@@ -16,22 +35,169 @@ public class CreditMessageManager {
             "SH", new SHCreditMessageParser()
     );
 
-    public ExpenditureDto parseMessage(String message) {
+    private final CreditVendorClassifier classifier = new CreditVendorClassifier(Map.of(
+            "KB", KBCreditMessageParser.MARKERS,
+            "NH", NHCreditMessageParser.MARKERS,
+            "SH", SHCreditMessageParser.MARKERS
+    ));
+
+    private final Counter ruleParsed;
+    private final Counter learnedParsed;
+    private final Counter geminiParsed;
+
+    public CreditMessageManager(GeminiCreditMessageParser geminiParser,
+                                GeminiResultCache geminiResultCache,
+                                CreditTemplateLearner templateLearner,
+                                MeterRegistry meterRegistry) {
+        this.geminiParser = geminiParser;
+        this.geminiResultCache = geminiResultCache;
+        this.templateLearner = templateLearner;
+        this.ruleParsed = pathCounter(meterRegistry, "rule");
+        this.learnedParsed = pathCounter(meterRegistry, "learned");
+        this.geminiParsed = pathCounter(meterRegistry, "gemini");
+    }
+
+    private static Counter pathCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("credit.message.parse")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓰며, null 이면 현재 시각으로 본다.
+     */
+    public ExpenditureDto parseMessage(String message, LocalDateTime receivedAt) {
         if (message == null || message.isEmpty()) {
             throw new IllegalArgumentException("메시지가 비어 있습니다.");
         }
 
-        for (CreditMessageParser parser : parsers.values()) {
-            if (parser.checkVendor(message)) {
-                try {
-                    return parser.parse(message);
-                } catch (Exception ignore) {
-                    // 룰 기반 파싱 실패 – Gemini 로 fallback
-                    break;
-                }
+        ExpenditureDto parsed = parseWithRules(message, receivedAt != null ? receivedAt : LocalDateTime.now());
+        if (parsed != null) {
+            return parsed;
+        }
+
+        return geminiResultCache.get(message, this::parseWithGemini);
+    }
+
+    /**
+     * 여러 문자를 파싱한다. 룰로 파싱되는 문자는 바로 처리하고, 나머지는 같은 문자끼리 묶어
+     * GEMINI_BATCH_SIZE 개씩 한 번의 Gemini 호출로 보낸다. Gemini 호출은 최대 GEMINI_CONCURRENCY 개까지 동시에 진행한다.
+     *
+     * @param receivedAts 문자별 수신 시각. messages 와 같은 순서이며, null 이거나 값이 null 이면 현재 시각으로 본다.
+     * @return 입력과 같은 순서의 결과. 파싱하지 못한 문자는 실패 사유를 담는다.
+     */
+    public List<CreditMessageParseResult> parseMessages(List<String> messages, List<LocalDateTime> receivedAts) {
+        if (receivedAts != null && receivedAts.size() != messages.size()) {
+            throw new IllegalArgumentException("수신 시각 수가 문자 수와 다릅니다.");
+        }
+        CreditMessageParseResult[] results = new CreditMessageParseResult[messages.size()];
+        Map<String, List<Integer>> pending = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < messages.size(); i++) {
+            String message = messages.get(i);
+            if (message == null || message.isEmpty()) {
+                results[i] = CreditMessageParseResult.failure("메시지가 비어 있습니다.");
+                continue;
+            }
+
+            LocalDateTime receivedAt = receivedAts != null ? receivedAts.get(i) : null;
+            ExpenditureDto parsed = parseWithRules(message, receivedAt != null ? receivedAt : now);
+            if (parsed == null) {
+                parsed = geminiResultCache.getIfPresent(message);
+            }
+            if (parsed != null) {
+                results[i] = CreditMessageParseResult.success(parsed);
+                continue;
+            }
+            pending.computeIfAbsent(GeminiResultCache.normalize(message), key -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> groups = new ArrayList<>(pending.values());
+        Semaphore permits = new Semaphore(GEMINI_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int from = 0; from < groups.size(); from += GEMINI_BATCH_SIZE) {
+                List<List<Integer>> chunk = groups.subList(from, Math.min(from + GEMINI_BATCH_SIZE, groups.size()));
+                executor.execute(() -> parseChunkWithGemini(messages, chunk, results, permits));
+            }
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = CreditMessageParseResult.failure("승인 문자를 파싱하지 못했습니다.");
+            }
+        }
+        return List.of(results);
+    }
+
+    private void parseChunkWithGemini(List<String> messages, List<List<Integer>> chunk,
+                                      CreditMessageParseResult[] results, Semaphore permits) {
+        List<String> representatives = chunk.stream().map(group -> messages.get(group.get(0))).toList();
+        List<ExpenditureDto> parsed;
+        try {
+            permits.acquire();
+            try {
+                geminiParsed.increment(representatives.size());
+                parsed = geminiResultCache.recordLatency(() -> geminiParser.parseAll(representatives));
+            } finally {
+                permits.release();
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            chunk.forEach(group -> group.forEach(i ->
+                    results[i] = CreditMessageParseResult.failure("Gemini 파싱 실패: " + e.getMessage())));
+            return;
+        }
+
+        for (int k = 0; k < chunk.size(); k++) {
+            ExpenditureDto dto = parsed.get(k);
+            String message = representatives.get(k);
+            if (dto != null) {
+                geminiResultCache.put(message, dto);
+                templateLearner.record(message, dto);
+            }
+            for (int i : chunk.get(k)) {
+                results[i] = dto != null
+                        ? CreditMessageParseResult.success(copy(dto))
+                        : CreditMessageParseResult.failure("승인 문자 형식을 인식하지 못했습니다.");
+            }
+        }
+    }
+
+    // 카드사 룰 파서, 학습된 템플릿 파서 순으로 시도한다. 둘 다 실패하면 null
+    private ExpenditureDto parseWithRules(String message, LocalDateTime receivedAt) {
+        // 카드사를 한 번에 판별한 뒤 해당 룰 파서 하나만 시도한다.
+        String vendor = classifier.classify(message);
+        CreditMessageParser parser = vendor != null ? parsers.get(vendor) : null;
+        if (parser != null) {
+            try {
+                ExpenditureDto dto = parser.parse(message, receivedAt);
+                ruleParsed.increment();
+                return dto;
+            } catch (Exception ignore) {
+                // 룰 기반 파싱 실패 – 학습된 템플릿, Gemini 순으로 fallback
             }
         }
 
-        return geminiParser.parse(message);
+        Optional<ExpenditureDto> learned = templateLearner.tryParse(message, receivedAt);
+        if (learned.isPresent()) {
+            learnedParsed.increment();
+            return learned.get();
+        }
+        return null;
+    }
+
+    private static ExpenditureDto copy(ExpenditureDto dto) {
+        return new ExpenditureDto(dto.getVendor(), dto.getSpentDate(), dto.getAmount(), dto.getTradeName());
+    }
+
+    // 캐시에 없어 실제로 Gemini 를 호출한 경우만 세고, 그 결과만 템플릿 학습 샘플로 남긴다.
+    private ExpenditureDto parseWithGemini(String message) {
+        geminiParsed.increment();
+        ExpenditureDto dto = geminiParser.parse(message);
+        templateLearner.record(message, dto);
+        return dto;
     }
 }
@@ -0,0 +1,46 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+
+/**
+ * 비동기 승인 문자 파싱 작업. 작업을 만든 회원만 결과를 조회할 수 있다.
+ */
+@Getter
+public class CreditMessageParseJob {
+
+    public enum Status { PENDING, DONE, FAILED }
+
+    private final String id;
+    private final Long memberId;
+    private final CompletableFuture<ExpenditureDto> result = new CompletableFuture<>();
+
+    CreditMessageParseJob(String id, Long memberId) {
+        this.id = id;
+        this.memberId = memberId;
+    }
+
+    public Status getStatus() {
+        if (!result.isDone()) {
+            return Status.PENDING;
+        }
+        return result.isCompletedExceptionally() ? Status.FAILED : Status.DONE;
+    }
+
+    /**
+     * @return 파싱 결과, 완료 전이거나 실패했으면 null
+     */
+    public ExpenditureDto getExpenditure() {
+        return getStatus() == Status.DONE ? result.join() : null;
+    }
+
+    /**
+     * @return 실패 사유, 실패하지 않았으면 null
+     */
+    public String getErrorMessage() {
+        if (getStatus() != Status.FAILED) {
+            return null;
+        }
+        return result.handle((dto, e) -> e.getMessage()).join();
+    }
+}
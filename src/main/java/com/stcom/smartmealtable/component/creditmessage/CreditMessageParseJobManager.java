@@ -0,0 +1,117 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승인 문자 파싱을 요청 스레드 밖에서 처리한다.
+ * <p>
+ * 작업마다 가상 스레드 하나를 쓰고, 동시에 파싱하는 수(Gemini 동시 호출 수)는 세마포어로 제한한다.
+ * 대기 중인 작업이 상한을 넘으면 새 작업을 받지 않는다.
+ * 진행 중인 작업은 크기 제한 없이 보관하고(대기 작업 상한으로 제한됨), 끝난 작업만 JOB_RETENTION 동안 보관한다.
+ * 작업 상태는 이 인스턴스 메모리에만 보관하므로 조회 요청은 같은 인스턴스로 라우팅되어야 한다.
+ */
+@Component
+@Slf4j
+public class CreditMessageParseJobManager {
+
+    private static final int MAX_CONCURRENT_PARSES = 32;
+    private static final int MAX_PENDING_JOBS = 10_000;
+    private static final Duration JOB_RETENTION = Duration.ofMinutes(10);
+    private static final long MAX_FINISHED_JOBS = MAX_PENDING_JOBS * 10L;
+
+    private final CreditMessageManager creditMessageManager;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore parsePermits = new Semaphore(MAX_CONCURRENT_PARSES);
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+    // 크기 제한으로 쫓겨나면 조회/SSE 중인 클라이언트가 작업을 잃으므로 진행 중인 작업은 따로 둔다.
+    private final ConcurrentMap<String, CreditMessageParseJob> runningJobs = new ConcurrentHashMap<>();
+    private final Cache<String, CreditMessageParseJob> finishedJobs;
+
+    public CreditMessageParseJobManager(CreditMessageManager creditMessageManager) {
+        this(creditMessageManager, MAX_FINISHED_JOBS);
+    }
+
+    CreditMessageParseJobManager(CreditMessageManager creditMessageManager, long maxFinishedJobs) {
+        this.creditMessageManager = creditMessageManager;
+        this.finishedJobs = Caffeine.newBuilder()
+                .expireAfterWrite(JOB_RETENTION)
+                .maximumSize(maxFinishedJobs)
+                .build();
+    }
+
+    /**
+     * @param receivedAt 문자 수신 시각. null 이면 현재 시각으로 본다.
+     */
+    public CreditMessageParseJob submit(Long memberId, String message, LocalDateTime receivedAt) {
+        if (message == null || message.isEmpty()) {
+            throw new IllegalArgumentException("메시지가 비어 있습니다.");
+        }
+        if (pendingJobs.incrementAndGet() > MAX_PENDING_JOBS) {
+            pendingJobs.decrementAndGet();
+            throw new RejectedExecutionException("대기 중인 파싱 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        CreditMessageParseJob job = new CreditMessageParseJob(UUID.randomUUID().toString(), memberId);
+        runningJobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, message, receivedAt));
+        } catch (RejectedExecutionException e) {
+            pendingJobs.decrementAndGet();
+            runningJobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<CreditMessageParseJob> findJob(Long memberId, String jobId) {
+        CreditMessageParseJob job = runningJobs.get(jobId);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(jobId);
+        }
+        return Optional.ofNullable(job)
+                .filter(job -> job.getMemberId().equals(memberId));
+    }
+
+    private void run(CreditMessageParseJob job, String message, LocalDateTime receivedAt) {
+        try {
+            parsePermits.acquire();
+            try {
+                job.getResult().complete(creditMessageManager.parseMessage(message, receivedAt));
+            } finally {
+                parsePermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.getResult().completeExceptionally(e);
+        } catch (Exception e) {
+            log.warn("승인 문자 파싱 작업 실패. jobId={}", job.getId(), e);
+            job.getResult().completeExceptionally(e);
+        } finally {
+            // 조회가 두 저장소 사이에서 작업을 놓치지 않도록 먼저 옮겨 넣고 지운다.
+            finishedJobs.put(job.getId(), job);
+            runningJobs.remove(job.getId());
+            pendingJobs.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
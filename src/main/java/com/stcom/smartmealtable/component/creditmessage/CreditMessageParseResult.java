@@ -0,0 +1,19 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+/**
+ * 여러 문자를 한 번에 파싱할 때 문자 한 건의 결과. expenditure 와 errorMessage 중 하나만 채워진다.
+ */
+public record CreditMessageParseResult(ExpenditureDto expenditure, String errorMessage) {
+
+    public static CreditMessageParseResult success(ExpenditureDto expenditure) {
+        return new CreditMessageParseResult(expenditure, null);
+    }
+
+    public static CreditMessageParseResult failure(String errorMessage) {
+        return new CreditMessageParseResult(null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return expenditure != null;
+    }
+}
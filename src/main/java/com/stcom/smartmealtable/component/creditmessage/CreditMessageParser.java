@@ -1,9 +1,18 @@
 package com.stcom.smartmealtable.component.creditmessage;
 
+import java.time.LocalDateTime;
+
 public interface CreditMessageParser {
 
     boolean checkVendor(String message);
 
     ExpenditureDto parse(String message);
 
+    /**
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓴다.
+     */
+    default ExpenditureDto parse(String message, LocalDateTime receivedAt) {
+        return parse(message);
+    }
+
 }
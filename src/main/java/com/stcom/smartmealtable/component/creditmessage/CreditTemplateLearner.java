@@ -0,0 +1,157 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 로 파싱한 문자를 템플릿별로 모아, 같은 템플릿이 일정 횟수 이상 일관된 결과를 내면
+ * 정규식 파서로 승격시킨다. 승격된 파서는 Gemini 호출보다 먼저 시도된다.
+ * <p>
+ * 학습 상태는 인스턴스 메모리에만 있으며 재시작하면 다시 학습한다.
+ */
+@Component
+@Slf4j
+public class CreditTemplateLearner {
+
+    private static final int MAX_LEARNED_TEMPLATES = 500;
+    private static final int MAX_CANDIDATES = 10_000;
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final int promotionThreshold;
+    private final Cache<String, Candidate> candidates = Caffeine.newBuilder()
+            .maximumSize(MAX_CANDIDATES)
+            .expireAfterAccess(Duration.ofDays(7))
+            .build();
+    private final List<LearnedTemplateParser> learnedParsers = new CopyOnWriteArrayList<>();
+    private final Set<String> learnedSignatures = ConcurrentHashMap.newKeySet();
+
+    public CreditTemplateLearner(@Value("${credit.template.promotion-threshold:5}") int promotionThreshold,
+                                 MeterRegistry meterRegistry) {
+        this.promotionThreshold = promotionThreshold;
+        Gauge.builder("credit.template.learned", learnedParsers, List::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓴다.
+     */
+    public Optional<ExpenditureDto> tryParse(String message, LocalDateTime receivedAt) {
+        if (learnedParsers.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String normalized = GeminiResultCache.normalize(message);
+        if (normalized.length() > MAX_MESSAGE_LENGTH) {
+            return Optional.empty();
+        }
+        for (LearnedTemplateParser parser : learnedParsers) {
+            ExpenditureDto dto = parser.tryParse(normalized, receivedAt);
+            if (dto != null) {
+                return Optional.of(dto);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gemini 파싱 결과를 학습 샘플로 기록한다.
+     */
+    public void record(String message, ExpenditureDto dto) {
+        if (dto == null || dto.getVendor() == null || dto.getSpentDate() == null
+                || dto.getAmount() == null || dto.getTradeName() == null) {
+            return;
+        }
+
+        String normalized = GeminiResultCache.normalize(message);
+        if (normalized.length() > MAX_MESSAGE_LENGTH) {
+            return;
+        }
+        MessageTemplate template = MessageTemplate.extract(normalized, dto);
+        if (template == null) {
+            return;
+        }
+
+        String signature = template.signature();
+        if (learnedSignatures.contains(signature)) {
+            return;
+        }
+        Candidate candidate = candidates.get(signature, key -> new Candidate());
+        List<Sample> samples = candidate.add(new Sample(normalized, dto), promotionThreshold);
+        if (samples != null) {
+            promote(signature, template, samples);
+        }
+    }
+
+    private void promote(String signature, MessageTemplate template, List<Sample> samples) {
+        String vendor = samples.get(0).dto().getVendor();
+        LearnedTemplateParser parser = new LearnedTemplateParser(vendor, template.toPattern());
+
+        // 모든 샘플을 Gemini 와 같은 결과로 재현해야만 승격한다.
+        boolean consistent = samples.stream().allMatch(sample -> reproduces(parser, sample));
+        if (!consistent) {
+            log.debug("템플릿 승격 보류 - 결과 불일치: {}", template.toPattern());
+            return;
+        }
+        if (learnedParsers.size() >= MAX_LEARNED_TEMPLATES) {
+            log.warn("학습 템플릿 수가 상한({})에 도달하여 승격하지 않습니다.", MAX_LEARNED_TEMPLATES);
+            return;
+        }
+
+        if (learnedSignatures.add(signature)) {
+            learnedParsers.add(parser);
+            candidates.invalidate(signature);
+            log.info("Gemini 파싱 템플릿을 룰 파서로 승격했습니다. vendor={}, pattern={}", vendor, template.toPattern());
+        }
+    }
+
+    private static boolean reproduces(LearnedTemplateParser parser, Sample sample) {
+        ExpenditureDto parsed = parser.tryParse(sample.message(), LocalDateTime.now());
+        ExpenditureDto expected = sample.dto();
+        return parsed != null
+                && Objects.equals(parsed.getVendor(), expected.getVendor())
+                && Objects.equals(parsed.getAmount(), expected.getAmount())
+                && parsed.getTradeName().equals(GeminiResultCache.normalize(expected.getTradeName()))
+                && parsed.getSpentDate().getMonth() == expected.getSpentDate().getMonth()
+                && parsed.getSpentDate().getDayOfMonth() == expected.getSpentDate().getDayOfMonth()
+                && parsed.getSpentDate().getHour() == expected.getSpentDate().getHour()
+                && parsed.getSpentDate().getMinute() == expected.getSpentDate().getMinute();
+    }
+
+    private record Sample(String message, ExpenditureDto dto) {
+    }
+
+    private static final class Candidate {
+
+        private final List<Sample> samples = new ArrayList<>();
+        private boolean evaluated;
+
+        /**
+         * @return 샘플이 처음으로 threshold 개에 도달하면 샘플 목록, 그 외에는 null
+         */
+        private synchronized List<Sample> add(Sample sample, int threshold) {
+            if (evaluated) {
+                return null;
+            }
+            samples.add(sample);
+            if (samples.size() < threshold) {
+                return null;
+            }
+            evaluated = true;
+            return List.copyOf(samples);
+        }
+    }
+}
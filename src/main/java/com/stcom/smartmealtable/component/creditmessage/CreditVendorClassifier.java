@@ -0,0 +1,111 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 카드사 표식 문자열(예: "[KB국민카드]", "신한카드")로 승인 문자의 카드사를 판별한다.
+ * <p>
+ * 모든 표식을 Aho–Corasick 오토마톤 하나로 묶어 메시지를 한 번만 훑는다.
+ * 여러 표식이 나오면 가장 앞에서 시작하는 표식이, 시작 위치가 같으면 더 긴 표식이 이긴다.
+ */
+final class CreditVendorClassifier {
+
+    private final Node root = new Node(0);
+    private final int maxMarkerLength;
+
+    CreditVendorClassifier(Map<String, List<String>> markersByVendor) {
+        int maxLength = 0;
+        for (Map.Entry<String, List<String>> entry : markersByVendor.entrySet()) {
+            for (String marker : entry.getValue()) {
+                insert(marker, entry.getKey());
+                maxLength = Math.max(maxLength, marker.length());
+            }
+        }
+        this.maxMarkerLength = maxLength;
+        linkFailures();
+    }
+
+    /**
+     * @return 판별한 카드사 코드, 표식이 없으면 null
+     */
+    String classify(String message) {
+        Node node = root;
+        String vendor = null;
+        int bestStart = Integer.MAX_VALUE;
+        int bestLength = 0;
+
+        for (int i = 0; i < message.length(); i++) {
+            // 이미 찾은 표식보다 앞에서 시작하는 표식은 더 나올 수 없다.
+            if (i - maxMarkerLength >= bestStart) {
+                break;
+            }
+
+            char c = message.charAt(i);
+            while (node != root && !node.next.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.next.getOrDefault(c, root);
+
+            for (Node out = node.vendor != null ? node : node.output; out != null; out = out.output) {
+                int start = i - out.depth + 1;
+                if (start < bestStart || (start == bestStart && out.depth > bestLength)) {
+                    vendor = out.vendor;
+                    bestStart = start;
+                    bestLength = out.depth;
+                }
+            }
+        }
+        return vendor;
+    }
+
+    private void insert(String marker, String vendor) {
+        Node node = root;
+        for (int i = 0; i < marker.length(); i++) {
+            int depth = i + 1;
+            node = node.next.computeIfAbsent(marker.charAt(i), c -> new Node(depth));
+        }
+        node.vendor = vendor;
+    }
+
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.next.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                child.fail = fail.next.getOrDefault(c, root);
+                child.output = child.fail.vendor != null ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> next = new HashMap<>();
+        private final int depth;
+        private Node fail;
+        // fail 링크를 따라가며 만나는 가장 가까운 표식 노드
+        private Node output;
+        private String vendor;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+    }
+}
@@ -2,20 +2,31 @@ package com.stcom.smartmealtable.component.creditmessage;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stcom.smartmealtable.infrastructure.resilience.CircuitBreaker;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import java.time.LocalDateTime;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.ChatClient.Builder;
 import org.springframework.stereotype.Component;
 
 
 @Component
-@RequiredArgsConstructor
 public class GeminiCreditMessageParser implements CreditMessageParser {
 
-    private final Builder chatClientBuilder;
+    // ChatClient 는 스레드 안전하므로 한 번 만들어 재사용한다.
+    private final ChatClient chatClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    public GeminiCreditMessageParser(Builder chatClientBuilder, ExternalApiCircuitBreakers circuitBreakers,
+                                     ObjectMapper objectMapper) {
+        this.chatClient = chatClientBuilder.build();
+        this.circuitBreaker = circuitBreakers.getGemini();
+        this.objectMapper = objectMapper;
+    }
 
     @Override
     public boolean checkVendor(String message) {
@@ -24,8 +35,6 @@ public class GeminiCreditMessageParser implements CreditMessageParser {
 
     @Override
     public ExpenditureDto parse(String message) {
-        ChatClient chatClient = chatClientBuilder.build();
-
         String prompt = String.format("""
                 너는 대한민국의 신용카드 승인 문자(SMS)를 파싱해서 JSON 형태로 반환하는 전문가야.
                 반드시 아래 형식의 JSON 만 출력해. 설명 문구나 코드 블록 표시(```)는 절대 포함하면 안 돼.
@@ -41,21 +50,85 @@ public class GeminiCreditMessageParser implements CreditMessageParser {
                 %s
                 """, message);
 
-        String jsonResponse = chatClient.prompt()
-                .user(prompt)
-                .call()
-                .content();
+        String jsonResponse = call(prompt);
         try {
-            JsonNode root = MAPPER.readTree(jsonResponse);
-            String vendor = root.path("vendor").asText("UNKNOWN");
-            String dateTimeStr = root.path("dateTime").asText();
-            long amount = root.path("amount").asLong();
-            String tradeName = root.path("tradeName").asText();
-
-            LocalDateTime dateTime = LocalDateTime.parse(dateTimeStr);
-            return new ExpenditureDto(vendor, dateTime, amount, tradeName);
+            return toDto(objectMapper.readTree(jsonResponse));
         } catch (Exception e) {
             throw new IllegalArgumentException("Gemini 파싱 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 여러 문자를 한 번의 Gemini 호출로 파싱한다.
+     *
+     * @return 입력과 같은 순서의 결과. 파싱하지 못한 문자는 null
+     */
+    public List<ExpenditureDto> parseAll(List<String> messages) {
+        StringBuilder numbered = new StringBuilder();
+        for (int i = 0; i < messages.size(); i++) {
+            numbered.append("[").append(i).append("]\n").append(messages.get(i)).append("\n\n");
+        }
+
+        String prompt = String.format("""
+                너는 대한민국의 신용카드 승인 문자(SMS)를 파싱해서 JSON 형태로 반환하는 전문가야.
+                반드시 아래 형식의 JSON 배열만 출력해. 설명 문구나 코드 블록 표시(```)는 절대 포함하면 안 돼.
+                각 원소의 index 는 SMS 앞의 [번호]와 같아야 하고, 승인 문자가 아니면 그 번호는 배열에서 빼.
+                
+                [
+                  {
+                    \"index\": <번호>,
+                    \"vendor\": \"<카드사 영문 약어, 예: KB, NH, SH, UNKNOWN>\",
+                    \"dateTime\": \"<ISO-8601 형식 yyyy-MM-dd'T'HH:mm:ss>\",
+                    \"amount\": <숫자형 원화 금액>,
+                    \"tradeName\": \"<가맹점명>\"
+                  }
+                ]
+                
+                다음은 파싱 대상 SMS 원문 목록이다:
+                %s
+                """, numbered);
+
+        String jsonResponse = call(prompt);
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(jsonResponse);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Gemini 파싱 실패: " + e.getMessage(), e);
+        }
+        if (!root.isArray()) {
+            throw new IllegalArgumentException("Gemini 파싱 실패: 배열 응답이 아닙니다.");
+        }
+
+        List<ExpenditureDto> results = new ArrayList<>(Collections.nCopies(messages.size(), null));
+        for (JsonNode node : root) {
+            int index = node.path("index").asInt(-1);
+            if (index < 0 || index >= messages.size()) {
+                continue;
+            }
+            try {
+                results.set(index, toDto(node));
+            } catch (Exception ignore) {
+                // 한 건의 형식 오류는 해당 문자만 실패로 처리한다.
+            }
+        }
+        return results;
+    }
+
+    private String call(String prompt) {
+        return circuitBreaker.execute(() -> chatClient.prompt()
+                .user(prompt)
+                .call()
+                .content());
+    }
+
+    private static ExpenditureDto toDto(JsonNode root) {
+        String vendor = root.path("vendor").asText("UNKNOWN");
+        String dateTimeStr = root.path("dateTime").asText();
+        long amount = root.path("amount").asLong();
+        String tradeName = root.path("tradeName").asText();
+
+        LocalDateTime dateTime = LocalDateTime.parse(dateTimeStr);
+        return new ExpenditureDto(vendor, dateTime, amount, tradeName);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.stcom.smartmealtable.infrastructure.cache.TwoLevelCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 파싱 결과 캐시. 로컬(L1) → Redis(L2) 순으로 조회하고, 둘 다 없을 때만 Gemini 를 호출한다.
+ * <p>
+ * 같은 문자에 대한 동시 요청은 하나의 Gemini 호출 결과를 함께 기다린다.
+ * 키는 공백과 [Web발신] 표시를 정규화한 메시지의 SHA-256 이다.
+ * <p>
+ * 메트릭: credit.gemini.cache{result=local_hit|redis_hit|coalesced|miss}, credit.gemini.latency
+ */
+@Component
+public class GeminiResultCache {
+
+    private static final Duration REDIS_TTL = Duration.ofDays(7);
+    private static final Duration LOCAL_TTL = Duration.ofHours(1);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    private static final Pattern WEB_SENDER = Pattern.compile("\\[Web발신]");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final ObjectMapper objectMapper;
+    private final TwoLevelCache<ExpenditureDto> cache;
+
+    public GeminiResultCache(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                             ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cache = TwoLevelCache.<ExpenditureDto>builder()
+                .name("Gemini 결과")
+                .keyPrefix("credit:gemini:")
+                .redisTemplate(redisTemplate)
+                .meterRegistry(meterRegistry)
+                .metricPrefix("credit.gemini")
+                .codec(new TwoLevelCache.Codec<>() {
+                    @Override
+                    public String encode(ExpenditureDto dto) {
+                        return toJson(dto);
+                    }
+
+                    @Override
+                    public ExpenditureDto decode(String json) throws Exception {
+                        return fromJson(json);
+                    }
+                })
+                .localMaxSize(LOCAL_MAX_SIZE)
+                .localTtl(dto -> LOCAL_TTL)
+                .redisTtl(dto -> REDIS_TTL)
+                .build();
+    }
+
+    public ExpenditureDto get(String message, Function<String, ExpenditureDto> parser) {
+        return copy(cache.get(normalize(message), () -> parser.apply(message)));
+    }
+
+    /**
+     * 없으면 miss 로 센다. 이후 put 으로 저장하는 결과는 다시 세지 않는다.
+     *
+     * @return 캐시된 결과, 없으면 null
+     */
+    public ExpenditureDto getIfPresent(String message) {
+        ExpenditureDto cached = cache.getIfPresent(normalize(message));
+        return cached != null ? copy(cached) : null;
+    }
+
+    /**
+     * 여러 문자를 한 번에 Gemini 로 파싱한 경우처럼 get 을 거치지 않은 결과를 저장한다. 적중/미스 메트릭은 바꾸지 않는다.
+     */
+    public void put(String message, ExpenditureDto dto) {
+        cache.put(normalize(message), copy(dto));
+    }
+
+    /**
+     * 여러 문자를 한 번에 파싱한 Gemini 호출 시간을 기록한다.
+     */
+    public <T> T recordLatency(Supplier<T> call) {
+        return cache.recordLatency(call);
+    }
+
+    static String normalize(String message) {
+        String normalized = Normalizer.normalize(message, Normalizer.Form.NFC);
+        normalized = WEB_SENDER.matcher(normalized).replaceAll(" ");
+        return WHITESPACES.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private String toJson(ExpenditureDto dto) {
+        ObjectNode node = objectMapper.createObjectNode()
+                .put("vendor", dto.getVendor())
+                .put("dateTime", dto.getSpentDate().toString())
+                .put("amount", dto.getAmount())
+                .put("tradeName", dto.getTradeName());
+        return node.toString();
+    }
+
+    private ExpenditureDto fromJson(String json) throws Exception {
+        JsonNode root = objectMapper.readTree(json);
+        return new ExpenditureDto(
+                root.path("vendor").asText(),
+                LocalDateTime.parse(root.path("dateTime").asText()),
+                root.path("amount").asLong(),
+                root.path("tradeName").asText());
+    }
+
+    // ExpenditureDto 는 가변 객체이므로 캐시에 든 인스턴스를 그대로 내보내지 않는다.
+    private static ExpenditureDto copy(ExpenditureDto dto) {
+        return new ExpenditureDto(dto.getVendor(), dto.getSpentDate(), dto.getAmount(), dto.getTradeName());
+    }
+}
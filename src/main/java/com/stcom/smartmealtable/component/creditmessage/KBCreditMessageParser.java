@@ -1,29 +1,37 @@
 package com.stcom.smartmealtable.component.creditmessage;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class KBCreditMessageParser implements CreditMessageParser {
 
+    static final List<String> MARKERS = List.of("[KB국민카드]");
+
+    // 모든 반복을 소유 수량자로 두어 되추적 없이 한 번에 매칭한다.
     private static final Pattern KB_PATTERN = Pattern.compile(
-            // 1: MM/dd, 2: HH:mm, 3: amount, 4: trade name
-            "\\[KB국민카드]\\s*(\\d{2}/\\d{2})\\s*(\\d{2}:\\d{2})\\s*승인\\s*([\\d,]+)원\\s*[가-힣A-Za-z]*\\s*(.+)"
+            // 1: MM/dd, 2: HH:mm, 3: 취소 여부, 4: amount, 5: trade name
+            "\\[KB국민카드]\\s*+(\\d{2}/\\d{2})\\s*+(\\d{2}:\\d{2})\\s*+승인(취소)?+\\s*+([\\d,]++)원"
+                    + "(?:\\s*+(?:일시불|\\d{1,2}개월(?:할부)?+))?+\\s*+(.++)"
     );
 
-    private static final DateTimeFormatter FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
-
     @Override
     public boolean checkVendor(String message) {
-        // 메시지에 "KB"가 포함되어 있는지 확인
-        return message != null && message.contains("KB");
+        return message != null && MARKERS.stream().anyMatch(message::contains);
     }
 
     @Override
     public ExpenditureDto parse(String message) {
+        return parse(message, LocalDateTime.now());
+    }
+
+    /**
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓴다.
+     * @return 승인취소 문자는 음수 금액의 지출
+     */
+    @Override
+    public ExpenditureDto parse(String message, LocalDateTime receivedAt) {
         if (message == null) {
             throw new IllegalArgumentException("메시지가 비어있습니다.");
         }
@@ -33,18 +41,12 @@ public class KBCreditMessageParser implements CreditMessageParser {
             throw new IllegalArgumentException("올바르지 않은 메시지 포맷입니다. " + message);
         }
 
-        String datePart = matcher.group(1);
-        String timePart = matcher.group(2);
-        String amountPart = matcher.group(3).replace(",", ""); // “11,000” → “11000”
-        String tradeName = matcher.group(4).trim();
-
-        int currentYear = LocalDate.now().getYear();
-        LocalDateTime dateTime = LocalDateTime.parse(
-                currentYear + "/" + datePart + " " + timePart, FORMATTER
-        );
-
-        long amount = Long.parseLong(amountPart);
+        LocalDateTime dateTime = ApprovalFieldExtractor.dateTime(message, matcher.start(1), matcher.start(2),
+                receivedAt);
+        long amount = ApprovalFieldExtractor.amount(message, matcher.start(4), matcher.end(4));
+        String tradeName = ApprovalFieldExtractor.trimmed(message, matcher.start(5), matcher.end(5));
 
-        return new ExpenditureDto("KB", dateTime, amount, tradeName);
+        boolean cancelled = matcher.start(3) != -1;
+        return new ExpenditureDto("KB", dateTime, cancelled ? -amount : amount, tradeName);
     }
 }
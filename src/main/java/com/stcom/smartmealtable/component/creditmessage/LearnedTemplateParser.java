@@ -0,0 +1,64 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini 결과로부터 학습한 템플릿 하나를 정규식으로 매칭하는 파서.
+ */
+final class LearnedTemplateParser implements CreditMessageParser {
+
+    private final String vendor;
+    private final Pattern pattern;
+
+    LearnedTemplateParser(String vendor, Pattern pattern) {
+        this.vendor = vendor;
+        this.pattern = pattern;
+    }
+
+    @Override
+    public boolean checkVendor(String message) {
+        return message != null && tryParse(GeminiResultCache.normalize(message), LocalDateTime.now()) != null;
+    }
+
+    @Override
+    public ExpenditureDto parse(String message) {
+        return parse(message, LocalDateTime.now());
+    }
+
+    @Override
+    public ExpenditureDto parse(String message, LocalDateTime receivedAt) {
+        if (message == null) {
+            throw new IllegalArgumentException("메시지가 비어 있습니다.");
+        }
+
+        ExpenditureDto dto = tryParse(GeminiResultCache.normalize(message), receivedAt);
+        if (dto == null) {
+            throw new IllegalArgumentException("학습된 템플릿과 일치하지 않습니다: " + message);
+        }
+        return dto;
+    }
+
+    /**
+     * @param normalized 정규화된 문자
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓴다.
+     * @return 파싱 결과, 템플릿과 맞지 않으면 null
+     */
+    ExpenditureDto tryParse(String normalized, LocalDateTime receivedAt) {
+        Matcher m = pattern.matcher(normalized);
+        if (!m.matches()) {
+            return null;
+        }
+
+        try {
+            long amount = ApprovalFieldExtractor.amount(normalized, m.start("amount"), m.end("amount"));
+            LocalDateTime dateTime = ApprovalFieldExtractor.dateTime(normalized, m.start("date"), m.start("time"),
+                    receivedAt);
+            String tradeName = ApprovalFieldExtractor.trimmed(normalized, m.start("trade"), m.end("trade"));
+            return new ExpenditureDto(vendor, dateTime, amount, tradeName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 승인 문자에서 금액·날짜·시각·가맹점명 위치를 슬롯으로 바꾸고, 그 밖의 숫자는 일반화한 템플릿.
+ * 같은 카드사 양식의 문자는 같은 템플릿(signature)으로 모인다.
+ */
+record MessageTemplate(List<Token> tokens) {
+
+    enum Kind { LITERAL, NUMBER, AMOUNT, DATE, TIME, TRADE_NAME }
+
+    record Token(Kind kind, String text) {
+    }
+
+    private static final Pattern NUMBER = Pattern.compile("\\d(?:[\\d,]*\\d)?");
+
+    /**
+     * Gemini 가 돌려준 값이 문자 안에서 모두 발견될 때만 템플릿을 만든다.
+     *
+     * @param message 정규화된 문자
+     * @return 템플릿, 값을 찾지 못하면 null
+     */
+    static MessageTemplate extract(String message, ExpenditureDto dto) {
+        LocalDateTime dateTime = dto.getSpentDate();
+        String tradeName = GeminiResultCache.normalize(dto.getTradeName());
+        if (tradeName.isEmpty()) {
+            return null;
+        }
+
+        List<Span> spans = new ArrayList<>();
+        // 가맹점명에 숫자가 들어 있을 수 있으므로 가장 먼저 자리를 잡는다.
+        if (!place(spans, message, Kind.TRADE_NAME, tradeName, 0)
+                || !place(spans, message, Kind.DATE,
+                String.format("%02d/%02d", dateTime.getMonthValue(), dateTime.getDayOfMonth()), 0)
+                || !place(spans, message, Kind.TIME,
+                String.format("%02d:%02d", dateTime.getHour(), dateTime.getMinute()), 0)
+                || !(place(spans, message, Kind.AMOUNT, String.format("%,d", dto.getAmount()), 1)
+                || place(spans, message, Kind.AMOUNT, String.valueOf(dto.getAmount()), 1))) {
+            return null;
+        }
+        spans.sort(Comparator.comparingInt(Span::start));
+
+        List<Token> tokens = new ArrayList<>();
+        int position = 0;
+        for (Span span : spans) {
+            addLiteral(tokens, message.substring(position, span.start()));
+            tokens.add(new Token(span.kind(), null));
+            position = span.end();
+        }
+        addLiteral(tokens, message.substring(position));
+        return new MessageTemplate(List.copyOf(tokens));
+    }
+
+    // text 가 다른 슬롯과 겹치지 않는 첫 위치를 찾는다. 금액은 뒤에 "원"이 붙은 경우만 인정한다.
+    private static boolean place(List<Span> spans, String message, Kind kind, String text, int suffixLength) {
+        String target = suffixLength > 0 ? text + "원" : text;
+        int from = 0;
+        while (true) {
+            int start = message.indexOf(target, from);
+            if (start < 0) {
+                return false;
+            }
+            int end = start + text.length();
+            boolean overlaps = spans.stream().anyMatch(s -> start < s.end() && s.start() < end);
+            boolean digitBefore = kind != Kind.TRADE_NAME && start > 0 && Character.isDigit(message.charAt(start - 1));
+            if (!overlaps && !digitBefore) {
+                spans.add(new Span(kind, start, end));
+                return true;
+            }
+            from = start + 1;
+        }
+    }
+
+    private static void addLiteral(List<Token> tokens, String text) {
+        Matcher matcher = NUMBER.matcher(text);
+        int position = 0;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                tokens.add(new Token(Kind.LITERAL, text.substring(position, matcher.start())));
+            }
+            tokens.add(new Token(Kind.NUMBER, null));
+            position = matcher.end();
+        }
+        if (position < text.length()) {
+            tokens.add(new Token(Kind.LITERAL, text.substring(position)));
+        }
+    }
+
+    String signature() {
+        StringBuilder signature = new StringBuilder();
+        for (Token token : tokens) {
+            if (token.kind() == Kind.LITERAL) {
+                signature.append(token.text());
+            } else {
+                signature.append('\u0000').append(token.kind().name()).append('\u0000');
+            }
+        }
+        return signature.toString();
+    }
+
+    Pattern toPattern() {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            boolean last = i == tokens.size() - 1;
+            regex.append(switch (token.kind()) {
+                case LITERAL -> Pattern.quote(token.text());
+                case NUMBER -> "\\d(?:[\\d,]*\\d)?";
+                case AMOUNT -> "(?<amount>\\d(?:[\\d,]*\\d)?)";
+                case DATE -> "(?<date>\\d{2}/\\d{2})";
+                case TIME -> "(?<time>\\d{2}:\\d{2})";
+                case TRADE_NAME -> last ? "(?<trade>.++)" : "(?<trade>.+?)";
+            });
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private record Span(Kind kind, int start, int end) {
+    }
+}
@@ -1,26 +1,39 @@
 package com.stcom.smartmealtable.component.creditmessage;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class NHCreditMessageParser implements CreditMessageParser {
 
+    static final List<String> MARKERS = List.of("NH카드", "NH농협카드");
+
+    // 모든 반복을 소유 수량자로 두어 되추적 없이 한 번에 매칭한다.
     private static final Pattern NH_PATTERN = Pattern.compile(
-            "NH(?:농협)?카드.*?승인.*?([\\d,]+)원.*?(\\d{2}/\\d{2})\\s*(\\d{2}:\\d{2})\\s+(.+?)(?:\\s+(?:총누적|잔여).*)?$"
+            // 1: 취소 여부, 2: amount, 3: MM/dd, 4: HH:mm, 5: trade name (+ 누적 안내)
+            "NH(?:농협)?+카드[^승\\n]*+승인(취소)?+\\D*+([\\d,]++)원"
+                    + "(?:\\s*+(?:일시불|\\d{1,2}개월(?:할부)?+))?+\\s*+(\\d{2}/\\d{2})\\s*+(\\d{2}:\\d{2})\\s++(.++)"
     );
 
-    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+    private static final Pattern TRAILER = Pattern.compile("\\s++(?:총누적|잔여)");
 
     @Override
     public boolean checkVendor(String message) {
-        return message != null && (message.contains("NH") || message.contains("농협"));
+        return message != null && MARKERS.stream().anyMatch(message::contains);
     }
 
     @Override
     public ExpenditureDto parse(String message) {
+        return parse(message, LocalDateTime.now());
+    }
+
+    /**
+     * @param receivedAt 문자 수신 시각. 승인 문자에 없는 연도를 정하는 데 쓴다.
+     * @return 승인취소 문자는 음수 금액의 지출
+     */
+    @Override
+    public ExpenditureDto parse(String message, LocalDateTime receivedAt) {
         if (message == null) {
             throw new IllegalArgumentException("메시지가 비어 있습니다.");
         }
@@ -30,14 +43,17 @@ public class NHCreditMessageParser implements CreditMessageParser {
             throw new IllegalArgumentException("농협카드 SMS 형식을 인식하지 못했습니다: " + message);
         }
 
-        long amount = Long.parseLong(m.group(1).replace(",", ""));
-        int thisYear = LocalDate.now().getYear();
-        LocalDateTime dateTime = LocalDateTime.parse(
-                thisYear + "/" + m.group(2) + " " + m.group(3), FMT
-        );
+        long amount = ApprovalFieldExtractor.amount(message, m.start(2), m.end(2));
+        LocalDateTime dateTime = ApprovalFieldExtractor.dateTime(message, m.start(3), m.start(4), receivedAt);
 
-        String trade = m.group(4).trim();
+        int tradeEnd = m.end(5);
+        Matcher trailer = TRAILER.matcher(message).region(m.start(5), tradeEnd);
+        if (trailer.find()) {
+            tradeEnd = trailer.start();
+        }
+        String trade = ApprovalFieldExtractor.trimmed(message, m.start(5), tradeEnd);
 
-        return new ExpenditureDto("NH", dateTime, amount, trade);
+        boolean cancelled = m.start(1) != -1;
+        return new ExpenditureDto("NH", dateTime, cancelled ? -amount : amount, trade);
     }
 }
@@ -0,0 +1,44 @@
+package com.stcom.smartmealtable.domain.Budget;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 카드 승인 문자로 등록된 지출의 중복 판별 키.
+ * <p>
+ * (프로필, 카드사, 승인 일시(분 단위), 금액, 가맹점) 을 SHA-256 으로 해시한 뒤 앞 128비트를 base64url 로 인코딩한 22자 문자열이다.
+ * 같은 문자가 두 번 수신되거나 다시 전달되어도 같은 값이 나온다.
+ */
+public final class ApprovalFingerprint {
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private ApprovalFingerprint() {
+    }
+
+    public static String of(Long profileId, String vendor, LocalDateTime spentDate, Long amount, String tradeName) {
+        String source = profileId + "|" + vendor + "|" + spentDate.truncatedTo(ChronoUnit.MINUTES) + "|" + amount
+                + "|" + normalize(tradeName);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String tradeName) {
+        if (tradeName == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(tradeName, Normalizer.Form.NFC);
+        return WHITESPACES.matcher(normalized).replaceAll(" ").trim();
+    }
+}
@@ -2,7 +2,9 @@ package com.stcom.smartmealtable.domain.Budget;
 
 import com.stcom.smartmealtable.domain.common.BaseTimeEntity;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.infrastructure.persistence.WonAmountConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,7 +15,8 @@ import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import java.math.BigDecimal;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -21,6 +24,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_budget_daily", columnNames = {"dtype", "member_profile_id", "daily_budget_date"}),
+        @UniqueConstraint(name = "uk_budget_monthly", columnNames = {"dtype", "member_profile_id", "budget_year_month"})
+})
 @NoArgsConstructor
 public abstract class Budget extends BaseTimeEntity {
 
@@ -33,49 +40,44 @@ public abstract class Budget extends BaseTimeEntity {
     @JoinColumn(name = "member_profile_id")
     private MemberProfile memberProfile;
 
-    private BigDecimal spendAmount = BigDecimal.ZERO;
+    // 금액은 원 단위 long 으로 다루고, 컬럼은 기존 DECIMAL 타입을 유지한다.
+    @Convert(converter = WonAmountConverter.class)
+    private long spendAmount;
 
+    @Convert(converter = WonAmountConverter.class)
     @Column(name = "budget_limit")
-    private BigDecimal limit;
+    private long limit;
 
 
-    protected Budget(MemberProfile memberProfile, BigDecimal limit) {
+    protected Budget(MemberProfile memberProfile, long limit) {
         this.memberProfile = memberProfile;
         this.limit = limit;
     }
 
-    public void addSpent(BigDecimal amount) {
-        this.spendAmount = spendAmount.add(amount);
-    }
-
-    public void addSpent(int amount) {
-        this.spendAmount = spendAmount.add(BigDecimal.valueOf(amount));
-    }
-
-    public void addSpent(double amount) {
-        this.spendAmount = spendAmount.add(BigDecimal.valueOf(amount));
+    public void addSpent(long amount) {
+        this.spendAmount += amount;
     }
 
     public void resetSpent() {
-        this.spendAmount = BigDecimal.ZERO;
+        this.spendAmount = 0;
     }
 
-    public BigDecimal getAvailableAmount() {
-        return limit.subtract(spendAmount);
+    public long getAvailableAmount() {
+        return limit - spendAmount;
     }
 
     public boolean isOverLimit() {
-        return spendAmount.compareTo(limit) > 0;
+        return spendAmount > limit;
     }
 
-    public void changeLimit(BigDecimal limit) {
-        if (limit == null || limit.signum() < 0) {
+    public void changeLimit(long limit) {
+        if (limit < 0) {
             throw new IllegalArgumentException("예산 한도는 0 이상이어야 합니다.");
         }
         this.limit = limit;
     }
 
-    public void subtractSpent(BigDecimal spent) {
-        this.spendAmount = this.spendAmount.subtract(spent);
+    public void subtractSpent(long spent) {
+        this.spendAmount -= spent;
     }
 }
@@ -3,7 +3,6 @@ package com.stcom.smartmealtable.domain.Budget;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,7 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class DailyBudget extends Budget {
 
-    public DailyBudget(MemberProfile memberProfile, BigDecimal limit,
+    public DailyBudget(MemberProfile memberProfile, long limit,
                        LocalDate date) {
         super(memberProfile, limit);
         this.date = date;
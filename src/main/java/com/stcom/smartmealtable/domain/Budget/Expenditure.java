@@ -7,9 +7,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import java.math.BigDecimal;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,6 +21,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_expenditure_profile_spent",
+        columnList = "member_profile_id, spent_date desc, expenditure_id desc"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_expenditure_approval_fingerprint",
+                columnNames = "approval_fingerprint"))
 public class Expenditure extends BaseTimeEntity {
 
     @Id
@@ -40,15 +46,25 @@ public class Expenditure extends BaseTimeEntity {
     @JoinColumn(name = "monthly_budget_id")
     private MonthlyBudget monthlyBudget;
 
+    // 프로필별 지출 내역 조회 시 예산 테이블 조인을 피하기 위한 비정규화 컬럼
+    @Column(name = "member_profile_id")
+    private Long memberProfileId;
+
+    // 승인 문자로 등록된 지출의 중복 판별 키(ApprovalFingerprint). 직접 입력한 지출은 null 이다.
+    // 등록 이후 내역을 수정해도 원래 승인 문자의 지문을 유지해 같은 문자가 다시 등록되지 않게 한다.
+    @Column(name = "approval_fingerprint", length = 22)
+    private String approvalFingerprint;
 
     @Builder
     public Expenditure(LocalDateTime spentDate, Long amount, String tradeName, DailyBudget dailyBudget,
-                       MonthlyBudget monthlyBudget) {
+                       MonthlyBudget monthlyBudget, String approvalFingerprint) {
         this.spentDate = spentDate;
         this.amount = amount;
         this.tradeName = tradeName;
         this.dailyBudget = dailyBudget;
         this.monthlyBudget = monthlyBudget;
+        this.memberProfileId = (dailyBudget == null) ? null : dailyBudget.getMemberProfile().getId();
+        this.approvalFingerprint = approvalFingerprint;
     }
 
     private void updateSpentDate(LocalDateTime spentDate) {
@@ -56,9 +72,9 @@ public class Expenditure extends BaseTimeEntity {
     }
 
     private void updateAmount(Long originAmount, Long afterAmount) {
-        Long difference = afterAmount - originAmount;
-        dailyBudget.addSpent(BigDecimal.valueOf(difference));
-        monthlyBudget.addSpent(BigDecimal.valueOf(difference));
+        long difference = afterAmount - originAmount;
+        dailyBudget.addSpent(difference);
+        monthlyBudget.addSpent(difference);
         this.amount = afterAmount;
     }
 
@@ -71,4 +87,16 @@ public class Expenditure extends BaseTimeEntity {
         updateAmount(this.amount, amount);
         updateTradeName(tradeName);
     }
+
+    /**
+     * 예산 엔티티는 건드리지 않고 지출 내역만 수정한다.
+     * 반환된 차액은 호출 측에서 예산 사용 금액에 원자적으로 반영해야 한다.
+     */
+    public long changeDetail(LocalDateTime spentDate, Long amount, String tradeName) {
+        long difference = amount - this.amount;
+        updateSpentDate(spentDate);
+        this.amount = amount;
+        updateTradeName(tradeName);
+        return difference;
+    }
 }
@@ -5,7 +5,6 @@ import com.stcom.smartmealtable.infrastructure.persistence.YearMonthConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import java.math.BigDecimal;
 import java.time.YearMonth;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,7 +14,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class MonthlyBudget extends Budget {
 
-    public MonthlyBudget(MemberProfile memberProfile, BigDecimal limit,
+    public MonthlyBudget(MemberProfile memberProfile, long limit,
                          YearMonth yearMonth) {
         super(memberProfile, limit);
         this.yearMonth = yearMonth;
@@ -0,0 +1,51 @@
+package com.stcom.smartmealtable.domain.Budget;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필 × 날짜 × 시간대 × 가맹점 단위 지출 합계.
+ * <p>
+ * 지출 통계는 지출 행 대신 이 테이블을 집계한다. 행은 ExpenditureService 가 지출을 등록/수정/삭제할 때
+ * 같은 트랜잭션에서 증감하며(SpendRollupBulkRepository), 엔티티로 직접 수정하지 않는다.
+ * 유니크 인덱스의 앞부분(member_profile_id, spent_date)이 기간 조회에도 쓰인다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_spend_rollup_key",
+        columnNames = {"member_profile_id", "spent_date", "spent_hour", "trade_name"}))
+public class SpendRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "spend_rollup_id")
+    private Long id;
+
+    @Column(name = "member_profile_id", nullable = false)
+    private Long memberProfileId;
+
+    @Column(name = "spent_date", nullable = false)
+    private LocalDate spentDate;
+
+    @Column(name = "spent_hour", nullable = false)
+    private int spentHour;
+
+    @Column(name = "trade_name", nullable = false)
+    private String tradeName;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(name = "expenditure_count", nullable = false)
+    private long expenditureCount;
+}
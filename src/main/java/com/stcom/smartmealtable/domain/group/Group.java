@@ -1,10 +1,12 @@
 package com.stcom.smartmealtable.domain.group;
 
 import com.stcom.smartmealtable.domain.Address.Address;
+import com.stcom.smartmealtable.infrastructure.search.GroupNameIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -18,6 +20,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "affiliation")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn
+@EntityListeners(GroupNameIndexListener.class)
 @Getter
 @NoArgsConstructor
 public abstract class Group {
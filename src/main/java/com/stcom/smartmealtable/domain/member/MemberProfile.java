@@ -5,8 +5,10 @@ import com.stcom.smartmealtable.domain.Address.AddressEntity;
 import com.stcom.smartmealtable.domain.Address.AddressType;
 import com.stcom.smartmealtable.domain.common.BaseTimeEntity;
 import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.infrastructure.persistence.WonAmountConverter;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -18,6 +20,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
@@ -51,6 +54,15 @@ public class MemberProfile extends BaseTimeEntity {
     @JoinColumn(name = "affiliation_id")
     private Group group;
 
+    // 값이 있으면 일일 예산 행을 미리 만들지 않고, 없는 날짜는 이 한도로 조회하며 첫 지출/수정 시 생성한다.
+    @Convert(converter = WonAmountConverter.class)
+    @Column(name = "default_daily_limit")
+    private Long defaultDailyLimit;
+
+    // 기본 한도가 적용되기 시작하는 날짜. 이전 날짜는 기본 한도로 대신하지 않는다. null 이면 날짜 제한 없이 적용한다.
+    @Column(name = "default_daily_limit_start_date")
+    private LocalDate defaultDailyLimitStartDate;
+
     @Builder
     public MemberProfile(Member member, String nickName, List<AddressEntity> addressHistory, MemberType type,
                          Group group) {
@@ -126,4 +138,22 @@ public class MemberProfile extends BaseTimeEntity {
         this.group = newGroup;
     }
 
+    public void changeDefaultDailyLimit(long defaultDailyLimit, LocalDate startDate) {
+        if (defaultDailyLimit < 0) {
+            throw new IllegalArgumentException("예산 한도는 0 이상이어야 합니다.");
+        }
+        this.defaultDailyLimit = defaultDailyLimit;
+        this.defaultDailyLimitStartDate = startDate;
+    }
+
+    /**
+     * 일일 예산 행이 없는 날짜를 대신할 기본 한도. 기본 한도가 없거나 적용 시작일 이전이면 null 이다.
+     */
+    public Long getDefaultDailyLimitOn(LocalDate date) {
+        if (defaultDailyLimitStartDate != null && date.isBefore(defaultDailyLimitStartDate)) {
+            return null;
+        }
+        return defaultDailyLimit;
+    }
+
 }
@@ -0,0 +1,11 @@
+package com.stcom.smartmealtable.exception;
+
+/**
+ * 외부 API 의 서킷이 열려 있거나 동시 호출 수가 가득 차 호출하지 않고 바로 실패한 경우.
+ */
+public class ExternApiUnavailableException extends ExternApiStatusError {
+
+    public ExternApiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -5,59 +5,107 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.stcom.smartmealtable.domain.Address.Address;
 import com.stcom.smartmealtable.exception.ExternApiStatusError;
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
+import com.stcom.smartmealtable.infrastructure.cache.AddressLookupCache;
+import com.stcom.smartmealtable.infrastructure.cache.AddressLookupCache.Geocode;
 import com.stcom.smartmealtable.infrastructure.dto.AddressRequest;
+import com.stcom.smartmealtable.infrastructure.resilience.CircuitBreaker;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+/**
+ * 카카오 로컬 API 로 도로명 주소의 좌표와 지번 주소를 조회한다.
+ * 조회 결과는 AddressLookupCache 에 캐시되어 같은 도로명 주소는 API 를 다시 호출하지 않는다.
+ */
 @Service
 public class KakaoAddressApiService implements AddressApiService {
 
-    @Value("${kakao.oauth.client-id}")
-    private String clientId;
-
-    private final RestClient client = RestClient.create();
+    private final String clientId;
+    private final RestClient client;
+    private final AddressLookupCache addressLookupCache;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoAddressApiService(@Value("${kakao.oauth.client-id}") String clientId,
+                                  @Value("${kakao.address.base-url:https://dapi.kakao.com}") String baseUrl,
+                                  RestClient.Builder restClientBuilder,
+                                  AddressLookupCache addressLookupCache,
+                                  ExternalApiCircuitBreakers circuitBreakers) {
+        this.clientId = clientId;
+        this.client = restClientBuilder
+                .baseUrl(baseUrl)
+                .build();
+        this.addressLookupCache = addressLookupCache;
+        this.circuitBreaker = circuitBreakers.getKakaoAddress();
+    }
 
     public Address createAddressFromRequest(AddressRequest requestDto) {
         try {
-            AddressSearchResponse addressSearchResponse = client.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("dapi.kakao.com")
-                            .path("/v2/local/search/address")
-                            .queryParam("query", requestDto.getRoadAddress())
-                            .build())
-                    .header("Authorization", "KakaoAK " + clientId)
-                    .retrieve()
-                    .body(AddressSearchResponse.class);
-            validateAddressSearchResponse(addressSearchResponse);
+            // 캐시에 있는 주소는 서킷이 열려 있어도 조회된다.
+            Geocode geocode = addressLookupCache.get(requestDto.getRoadAddress(),
+                    roadAddress -> circuitBreaker.execute(() -> searchAddress(roadAddress)));
             return Address.builder()
-                    .longitude(Double.parseDouble(addressSearchResponse.getDocuments().getFirst().getLongitude()))
-                    .latitude(Double.parseDouble(addressSearchResponse.getDocuments().getFirst().getLatitude()))
-                    .lotNumberAddress(addressSearchResponse.getDocuments().getFirst().getAddress().getAddressName())
-                    .roadAddress(addressSearchResponse.getDocuments().getFirst().getRoadAddress().getAddressName())
+                    .longitude(geocode.longitude())
+                    .latitude(geocode.latitude())
+                    .lotNumberAddress(geocode.lotNumberAddress())
+                    .roadAddress(geocode.roadAddress())
                     .detailAddress(requestDto.getDetailAddress())
                     .build();
 
+        } catch (ExternApiUnavailableException e) {
+            throw e;
         } catch (RuntimeException e) {
             throw new ExternApiStatusError("카카오 주소 Api 호출 중 오류가 발생했습니다.", e);
         }
     }
 
-    private void validateAddressSearchResponse(AddressSearchResponse addressSearchResponse) {
-        if (addressSearchResponse == null) {
-            throw new IllegalArgumentException("조회된 결과가 없습니다");
+    // 결과가 없거나 모호한 주소는 예외 대신 notFound 로 돌려주어 캐시되게 한다.
+    private Geocode searchAddress(String roadAddress) {
+        AddressSearchResponse addressSearchResponse = client.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v2/local/search/address")
+                        .queryParam("query", roadAddress)
+                        .build())
+                .header("Authorization", "KakaoAK " + clientId)
+                .retrieve()
+                .body(AddressSearchResponse.class);
+
+        String error = validateAddressSearchResponse(addressSearchResponse);
+        if (error != null) {
+            return Geocode.notFound(error);
+        }
+        Document document = addressSearchResponse.getDocuments().getFirst();
+        return Geocode.found(
+                document.getAddress().getAddressName(),
+                document.getRoadAddress().getAddressName(),
+                Double.parseDouble(document.getLatitude()),
+                Double.parseDouble(document.getLongitude()));
+    }
+
+    private String validateAddressSearchResponse(AddressSearchResponse addressSearchResponse) {
+        if (addressSearchResponse == null || addressSearchResponse.getDocuments() == null
+                || addressSearchResponse.getDocuments().isEmpty()) {
+            return "조회된 결과가 없습니다";
         }
 
         if (addressSearchResponse.getMeta().getTotalCount() >= 2) {
-            throw new IllegalArgumentException("주소가 모호합니다. 정확한 주소를 입력하세요");
+            return "주소가 모호합니다. 정확한 주소를 입력하세요";
+        }
+
+        Document document = addressSearchResponse.getDocuments().getFirst();
+        if (document.getAddress() == null || document.getRoadAddress() == null) {
+            return "도로명 주소를 찾을 수 없습니다";
         }
+        return null;
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     static class AddressSearchResponse {
         private Meta meta;
@@ -65,6 +113,7 @@ public class KakaoAddressApiService implements AddressApiService {
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     static class Meta {
@@ -74,6 +123,7 @@ public class KakaoAddressApiService implements AddressApiService {
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     static class Document {
@@ -94,6 +144,7 @@ public class KakaoAddressApiService implements AddressApiService {
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     static class LotAddress {
@@ -126,6 +177,7 @@ public class KakaoAddressApiService implements AddressApiService {
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     static class RoadAddress {
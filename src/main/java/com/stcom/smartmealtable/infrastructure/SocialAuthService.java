@@ -4,7 +4,10 @@ import static com.stcom.smartmealtable.infrastructure.social.SocialConst.GOOGLE;
 import static com.stcom.smartmealtable.infrastructure.social.SocialConst.KAKAO;
 
 import com.stcom.smartmealtable.exception.ExternApiStatusError;
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
 import com.stcom.smartmealtable.infrastructure.dto.TokenDto;
+import com.stcom.smartmealtable.infrastructure.resilience.CircuitBreaker;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import com.stcom.smartmealtable.infrastructure.social.GoogleHttpMessage;
 import com.stcom.smartmealtable.infrastructure.social.KakaoHttpMessage;
 import com.stcom.smartmealtable.infrastructure.social.SocialHttpMessage;
@@ -12,24 +15,42 @@ import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotEmpty;
 import java.util.HashMap;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClient.ResponseSpec;
 
 @Service
-@RequiredArgsConstructor
 public class SocialAuthService {
 
     private final Map<String, SocialHttpMessage> socialMap = new HashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakerMap = new HashMap<>();
     private final KakaoHttpMessage kakaoHttpMessage;
     private final GoogleHttpMessage googleHttpMessage;
-    private final RestClient client = RestClient.create();
+    private final ExternalApiCircuitBreakers circuitBreakers;
+    private final RestClient client;
+
+    // 주입받는 Builder 에는 OutboundHttpConfig 의 공유 커넥션 풀과 타임아웃이 적용되어 있다.
+    public SocialAuthService(KakaoHttpMessage kakaoHttpMessage, GoogleHttpMessage googleHttpMessage,
+                             ExternalApiCircuitBreakers circuitBreakers, RestClient.Builder restClientBuilder) {
+        this.kakaoHttpMessage = kakaoHttpMessage;
+        this.googleHttpMessage = googleHttpMessage;
+        this.circuitBreakers = circuitBreakers;
+        this.client = restClientBuilder.build();
+    }
 
     public TokenDto getTokenResponse(@NotEmpty String provider, @NotEmpty String code) {
         try {
-            ResponseSpec responseSpec = socialMap.get(provider).getRequestMessage(client, code).retrieve();
-            return socialMap.get(provider).getTokenResponse(responseSpec);
+            SocialHttpMessage socialHttpMessage = socialMap.get(provider);
+            // retrieve() 는 요청을 보내지 않으므로 응답 본문을 읽는 getTokenResponse 까지 서킷 안에서 실행한다.
+            TokenDto token = circuitBreakerMap.get(provider).execute(() -> {
+                ResponseSpec responseSpec = socialHttpMessage.getRequestMessage(client, code).retrieve();
+                return socialHttpMessage.getTokenResponse(responseSpec);
+            });
+            // 잘못된 ID 토큰(aud, iss, kid 등)은 공급자 장애가 아니므로 서킷 밖에서 검증해 실패로 세지 않는다.
+            socialHttpMessage.applyIdTokenClaims(token);
+            return token;
+        } catch (ExternApiUnavailableException e) {
+            throw e;
         } catch (RuntimeException e) {
             throw new ExternApiStatusError("소셜 로그인 서드파티 Api 호출 중 예외가 발생했습니다.", e);
         }
@@ -39,6 +60,8 @@ public class SocialAuthService {
     public void init() {
         socialMap.put(KAKAO, kakaoHttpMessage);
         socialMap.put(GOOGLE, googleHttpMessage);
+        circuitBreakerMap.put(KAKAO, circuitBreakers.getKakaoOauth());
+        circuitBreakerMap.put(GOOGLE, circuitBreakers.getGoogleOauth());
     }
 
 }
@@ -0,0 +1,108 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도로명 주소 → 좌표/지번 주소 조회 결과 캐시. 로컬(L1) → Redis(L2) 순으로 조회하고, 둘 다 없을 때만 카카오 API 를 호출한다.
+ * <p>
+ * 같은 학교 학생들이 같은 도로명 주소를 반복해서 입력하므로 키는 공백을 정규화한 도로명 주소의 SHA-256 이다.
+ * 결과가 없거나 모호한 주소도 짧은 TTL 로 캐시해 같은 잘못된 입력으로 API 를 반복 호출하지 않는다.
+ * 같은 주소에 대한 동시 요청은 하나의 API 호출 결과를 함께 기다린다.
+ * <p>
+ * 메트릭: address.lookup.cache{result=local_hit|redis_hit|negative_hit|coalesced|miss}, address.lookup.latency
+ */
+@Component
+public class AddressLookupCache {
+
+    private static final Duration REDIS_TTL = Duration.ofDays(30);
+    private static final Duration NEGATIVE_TTL = Duration.ofHours(1);
+    private static final Duration LOCAL_TTL = Duration.ofHours(6);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    // 소수점 6자리(약 10cm)로 반올림해 캐시 값과 API 응답의 좌표 표현을 맞춘다.
+    private static final double COORDINATE_SCALE = 1_000_000d;
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final TwoLevelCache<Geocode> cache;
+
+    public AddressLookupCache(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper) {
+        this.cache = TwoLevelCache.<Geocode>builder()
+                .name("주소 조회")
+                .keyPrefix("address:kakao:")
+                .redisTemplate(redisTemplate)
+                .meterRegistry(meterRegistry)
+                .metricPrefix("address.lookup")
+                .codec(new TwoLevelCache.Codec<>() {
+                    @Override
+                    public String encode(Geocode geocode) throws Exception {
+                        return objectMapper.writeValueAsString(geocode);
+                    }
+
+                    @Override
+                    public Geocode decode(String json) throws Exception {
+                        return objectMapper.readValue(json, Geocode.class);
+                    }
+                })
+                .localMaxSize(LOCAL_MAX_SIZE)
+                .localTtl(geocode -> geocode.isFound() ? LOCAL_TTL : NEGATIVE_TTL)
+                .redisTtl(geocode -> geocode.isFound() ? REDIS_TTL : NEGATIVE_TTL)
+                .negative(geocode -> !geocode.isFound())
+                .build();
+    }
+
+    /**
+     * 캐시된 조회 결과를 돌려주고, 없으면 lookup 으로 조회해 저장한다.
+     * 결과가 없거나 모호한 주소는 캐시된 경우에도 IllegalArgumentException 을 던진다.
+     * lookup 이 예외를 던지면(API 장애) 캐시하지 않는다.
+     */
+    public Geocode get(String roadAddress, Function<String, Geocode> lookup) {
+        return cache.get(normalize(roadAddress), () -> lookup.apply(roadAddress)).orThrow();
+    }
+
+    static String normalize(String roadAddress) {
+        String normalized = Normalizer.normalize(roadAddress, Normalizer.Form.NFC);
+        return WHITESPACES.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 도로명 주소 하나의 조회 결과. error 가 있으면 결과가 없거나 모호한 주소다.
+     */
+    public record Geocode(String lotNumberAddress, String roadAddress, Double latitude, Double longitude,
+                          String error) {
+
+        public static Geocode found(String lotNumberAddress, String roadAddress, double latitude,
+                                    double longitude) {
+            return new Geocode(lotNumberAddress, roadAddress, round(latitude), round(longitude), null);
+        }
+
+        public static Geocode notFound(String error) {
+            return new Geocode(null, null, null, null, error);
+        }
+
+        @JsonIgnore
+        public boolean isFound() {
+            return error == null;
+        }
+
+        private Geocode orThrow() {
+            if (!isFound()) {
+                throw new IllegalArgumentException(error);
+            }
+            return this;
+        }
+
+        private static double round(double coordinate) {
+            return Math.round(coordinate * COORDINATE_SCALE) / COORDINATE_SCALE;
+        }
+    }
+}
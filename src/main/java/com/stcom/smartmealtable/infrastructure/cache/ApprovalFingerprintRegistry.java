@@ -0,0 +1,123 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근에 등록된 승인 문자 지문을 Redis 에 잠시 보관한다.
+ * <p>
+ * 같은 승인 문자는 대부분 수 분 안에 다시 들어오므로, 이 구간의 중복은 SET NX 한 번으로 거른다.
+ * 이 구간이 지난 중복과 Redis 장애 시의 중복은 지출 테이블의 유니크 인덱스가 막는다.
+ * <p>
+ * 트랜잭션 안에서 선점한 지문은 트랜잭션이 롤백되면 다시 풀어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalFingerprintRegistry {
+
+    private static final String KEY_PREFIX = "expenditure:approval:";
+    private static final Duration HOT_WINDOW = Duration.ofMinutes(30);
+    private static final byte[] CLAIMED = "1".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * @return 선점에 성공하면 true, 최근에 이미 등록된 지문이면 false
+     */
+    public boolean claim(String fingerprint) {
+        return claimAll(List.of(fingerprint)).isEmpty();
+    }
+
+    /**
+     * 지문들을 한 번의 파이프라인으로 선점한다.
+     *
+     * @return 최근에 이미 등록되어 선점하지 못한 지문
+     */
+    public Set<String> claimAll(Collection<String> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> keys = fingerprints.stream().map(fingerprint -> KEY_PREFIX + fingerprint).toList();
+        List<Object> replies;
+        try {
+            replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), CLAIMED,
+                            Expiration.from(HOT_WINDOW), SetOption.SET_IF_ABSENT);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("승인 지문 선점 실패. 유니크 인덱스로만 중복을 확인합니다.", e);
+            return Set.of();
+        }
+
+        Set<String> duplicates = new HashSet<>();
+        List<String> claimedKeys = new ArrayList<>();
+        int i = 0;
+        for (String fingerprint : fingerprints) {
+            if (Boolean.TRUE.equals(replies.get(i))) {
+                claimedKeys.add(keys.get(i));
+            } else {
+                duplicates.add(fingerprint);
+            }
+            i++;
+        }
+        releaseOnRollback(claimedKeys);
+        return duplicates;
+    }
+
+    // 삭제된 지출의 승인 문자는 다시 등록할 수 있어야 한다.
+    public void releaseAfterCommit(String fingerprint) {
+        String key = KEY_PREFIX + fingerprint;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(List.of(key));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(List.of(key));
+            }
+        });
+    }
+
+    private void releaseOnRollback(List<String> keys) {
+        if (keys.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    delete(keys);
+                }
+            }
+        });
+    }
+
+    private void delete(List<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            // 풀지 못한 지문은 HOT_WINDOW 가 지나면 만료된다.
+            log.warn("승인 지문 해제 실패. keys={}", keys.size(), e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import static java.time.DayOfWeek.MONDAY;
+
+import com.stcom.smartmealtable.infrastructure.config.CacheConfig;
+import com.stcom.smartmealtable.service.event.DailyBudgetChangedEvent;
+import com.stcom.smartmealtable.service.event.MonthlyBudgetChangedEvent;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예산이 변경된 트랜잭션이 커밋된 뒤 예산 스냅샷 캐시를 무효화한다.
+ * 키 형식은 BudgetService 의 @Cacheable 키와 동일해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetCacheEvictListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDailyBudgetChanged(DailyBudgetChangedEvent event) {
+        Long profileId = event.profileId();
+        if (event.endDate() == null) {
+            // 끝이 없는 구간은 날짜별로 지울 수 없으므로 프로필의 일일/주간 캐시를 모두 지운다.
+            evictProfile(CacheConfig.DAILY_BUDGET, profileId);
+            evictProfile(CacheConfig.WEEKLY_BUDGET, profileId);
+            return;
+        }
+        for (LocalDate date = event.startDate(); !date.isAfter(event.endDate()); date = date.plusDays(1)) {
+            evict(CacheConfig.DAILY_BUDGET, profileId + ":" + date);
+        }
+        for (LocalDate monday = event.startDate().with(MONDAY); !monday.isAfter(event.endDate());
+             monday = monday.plusWeeks(1)) {
+            evict(CacheConfig.WEEKLY_BUDGET, profileId + ":" + monday);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMonthlyBudgetChanged(MonthlyBudgetChangedEvent event) {
+        evict(CacheConfig.MONTHLY_BUDGET, event.profileId() + ":" + event.yearMonth());
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(key);
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청을 실패시키지 않는다. 남은 항목은 TTL 로 만료된다.
+            log.warn("예산 캐시 무효화 실패 cache={}, key={}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void evictProfile(String cacheName, Long profileId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        String keyPrefix = profileId + ":";
+        try {
+            if (cache instanceof RedisCache redisCache) {
+                redisCache.clear(keyPrefix + "*");
+            } else if (cache.getNativeCache() instanceof Map<?, ?> entries) {
+                entries.keySet().removeIf(key -> key.toString().startsWith(keyPrefix));
+            } else {
+                cache.clear();
+            }
+        } catch (RuntimeException e) {
+            log.warn("예산 캐시 무효화 실패 cache={}, profileId={}: {}", cacheName, profileId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 외부 API 호출 결과를 로컬(L1) → Redis(L2) 순으로 조회하고, 둘 다 없을 때만 loader 를 호출하는 캐시.
+ * <p>
+ * 키는 호출하는 쪽에서 정규화한 문자열의 SHA-256 에 keyPrefix 를 붙인 것이다.
+ * 같은 키에 대한 동시 요청은 하나의 loader 호출 결과를 함께 기다리고, loader 가 예외를 던지면 캐시하지 않는다.
+ * Redis 장애 시에는 로그만 남기고 loader 호출로 넘어간다.
+ * <p>
+ * 메트릭: {metricPrefix}.cache{result=local_hit|redis_hit|coalesced|miss}, {metricPrefix}.latency.
+ * negative 를 지정하면 해당 값의 적중은 negative_hit 으로 따로 센다.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String name;
+    private final String keyPrefix;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Codec<V> codec;
+    private final Function<V, Duration> redisTtl;
+    private final Predicate<V> negative;
+    private final Cache<String, V> local;
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter negativeHits;
+    private final Counter coalesced;
+    private final Counter misses;
+    private final Timer latency;
+
+    /**
+     * @param name     로그에 쓰는 캐시 이름
+     * @param localTtl 값마다의 로컬 캐시 유지 시간
+     * @param redisTtl 값마다의 Redis 유지 시간
+     * @param negative 따로 세는 "결과 없음" 값인지. 없으면 구분하지 않는다.
+     */
+    @Builder
+    private TwoLevelCache(String name, String keyPrefix, RedisTemplate<String, String> redisTemplate,
+                          MeterRegistry meterRegistry, String metricPrefix, Codec<V> codec, int localMaxSize,
+                          Function<V, Duration> localTtl, Function<V, Duration> redisTtl, Predicate<V> negative) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.redisTtl = redisTtl;
+        this.negative = negative;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, V>() {
+                    @Override
+                    public long expireAfterCreate(String key, V value, long currentTime) {
+                        return localTtl.apply(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        String cacheMetric = metricPrefix + ".cache";
+        this.localHits = resultCounter(meterRegistry, cacheMetric, "local_hit");
+        this.redisHits = resultCounter(meterRegistry, cacheMetric, "redis_hit");
+        this.negativeHits = negative != null ? resultCounter(meterRegistry, cacheMetric, "negative_hit") : null;
+        this.coalesced = resultCounter(meterRegistry, cacheMetric, "coalesced");
+        this.misses = resultCounter(meterRegistry, cacheMetric, "miss");
+        this.latency = Timer.builder(metricPrefix + ".latency")
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String metric, String result) {
+        return Counter.builder(metric)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 값을 돌려주고, 없으면 loader 로 가져와 저장한다.
+     *
+     * @param key 정규화한 키. 같은 값이어야 할 입력은 같은 키가 되어야 한다.
+     */
+    public V get(String key, Supplier<V> loader) {
+        String cacheKey = cacheKey(key);
+
+        V cached = lookup(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(cacheKey, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        try {
+            misses.increment();
+            V loaded = latency.record(loader);
+            store(cacheKey, loaded);
+            flight.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            // Error 로 끝나도 함께 기다리는 요청이 영원히 멈추지 않도록 반드시 완료시킨다.
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    /**
+     * 없으면 miss 로 센다. 이후 put 으로 저장하는 값은 다시 세지 않는다.
+     *
+     * @return 캐시된 값, 없으면 null
+     */
+    public V getIfPresent(String key) {
+        V cached = lookup(cacheKey(key));
+        if (cached == null) {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * get 을 거치지 않고 가져온 값을 저장한다. 적중/미스 메트릭은 바꾸지 않는다.
+     */
+    public void put(String key, V value) {
+        store(cacheKey(key), value);
+    }
+
+    /**
+     * get 을 거치지 않은 loader 호출 시간을 같은 latency 메트릭에 기록한다.
+     */
+    public <T> T recordLatency(Supplier<T> call) {
+        return latency.record(call);
+    }
+
+    private String cacheKey(String key) {
+        return keyPrefix + hash(key);
+    }
+
+    private V lookup(String cacheKey) {
+        V cached = local.getIfPresent(cacheKey);
+        if (cached != null) {
+            countHit(cached, localHits);
+            return cached;
+        }
+
+        cached = readRedis(cacheKey);
+        if (cached != null) {
+            countHit(cached, redisHits);
+            local.put(cacheKey, cached);
+        }
+        return cached;
+    }
+
+    private void countHit(V value, Counter hits) {
+        (negative != null && negative.test(value) ? negativeHits : hits).increment();
+    }
+
+    private void store(String cacheKey, V value) {
+        local.put(cacheKey, value);
+        writeRedis(cacheKey, value);
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private V readRedis(String cacheKey) {
+        try {
+            String serialized = redisTemplate.opsForValue().get(cacheKey);
+            return serialized != null ? codec.decode(serialized) : null;
+        } catch (Exception e) {
+            log.warn("{} 캐시 조회 실패. key={}", name, cacheKey, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String cacheKey, V value) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, codec.encode(value), redisTtl.apply(value));
+        } catch (Exception e) {
+            log.warn("{} 캐시 저장 실패. key={}", name, cacheKey, e);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Redis 에 저장할 문자열과 값 사이의 변환.
+     */
+    public interface Codec<V> {
+
+        String encode(V value) throws Exception;
+
+        V decode(String serialized) throws Exception;
+    }
+}
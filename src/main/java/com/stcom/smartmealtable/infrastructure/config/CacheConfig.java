@@ -0,0 +1,68 @@
+package com.stcom.smartmealtable.infrastructure.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// 캐시 적중 시 트랜잭션(커넥션 획득)까지 가지 않도록 트랜잭션 프록시보다 바깥에서 동작시킨다.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String DAILY_BUDGET = "budget:daily";
+    public static final String WEEKLY_BUDGET = "budget:weekly";
+    public static final String MONTHLY_BUDGET = "budget:monthly";
+
+    private static final Duration BUDGET_TTL = Duration.ofMinutes(10);
+
+    @Bean
+    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+        ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        JavaType amountListType = mapper.getTypeFactory()
+                .constructCollectionType(List.class, BudgetAmountDto.class);
+
+        RedisCacheConfiguration amountConfig = budgetCacheConfiguration(
+                new Jackson2JsonRedisSerializer<>(mapper, BudgetAmountDto.class));
+        RedisCacheConfiguration amountListConfig = budgetCacheConfiguration(
+                new Jackson2JsonRedisSerializer<List<BudgetAmountDto>>(mapper, amountListType));
+
+        // 통계를 켜 두면 actuator 가 cache.gets{result=hit|miss} 메트릭으로 노출한다.
+        return RedisCacheManager.builder(redisConnectionFactory)
+                .withCacheConfiguration(DAILY_BUDGET, amountConfig)
+                .withCacheConfiguration(MONTHLY_BUDGET, amountConfig)
+                .withCacheConfiguration(WEEKLY_BUDGET, amountListConfig)
+                .disableCreateOnMissingCache()
+                .enableStatistics()
+                .build();
+    }
+
+    private RedisCacheConfiguration budgetCacheConfiguration(RedisSerializer<?> serializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(BUDGET_TTL)
+                .disableCachingNullValues()
+                .serializeValuesWith(SerializationPair.fromSerializer(serializer));
+    }
+
+    // Redis 장애 시에는 예외를 로그로만 남기고 DB 조회로 넘어간다.
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+}
@@ -0,0 +1,27 @@
+package com.stcom.smartmealtable.infrastructure.config;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 토큰 발급/검증(JwtTokenService)과 블랙리스트 등록(JwtBlacklistService)이 같은 키와 파서를 쓴다.
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public Key jwtSigningKey(@Value("${jwt.secret}") String jwtSecret) {
+        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Bean
+    public JwtParser jwtParser(Key jwtSigningKey) {
+        return Jwts.parserBuilder()
+                .setSigningKey(jwtSigningKey)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.stcom.smartmealtable.infrastructure.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * 카카오/구글 등 외부 API 호출에 쓰는 RestClient 설정.
+ * <p>
+ * 모든 RestClient.Builder 가 하나의 HttpClient 를 공유해 keep-alive 커넥션 풀을 함께 쓴다.
+ * 응답이 늦은 외부 API 가 요청 스레드를 무기한 붙잡지 않도록 연결/응답 타임아웃을 건다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public HttpClient outboundHttpClient(
+            @Value("${outbound.http.connect-timeout:2s}") Duration connectTimeout) {
+        // HTTP/1.1 커넥션은 응답 후 풀로 돌아가 다음 요청에서 재사용된다.
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public RestClientCustomizer outboundRestClientCustomizer(HttpClient outboundHttpClient,
+                                                             @Value("${outbound.http.read-timeout:5s}") Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder -> builder.requestFactory(requestFactory);
+    }
+}
@@ -15,10 +15,11 @@ public class TokenDto {
     private String provider;
     private String providerUserId;
     private String email;
+    private String idToken;
 
     @Builder
     public TokenDto(String accessToken, String refreshToken, Integer expiresIn, String tokenType, String provider,
-                    String providerUserId, String email) {
+                    String providerUserId, String email, String idToken) {
         this.accessToken = accessToken;
         this.refreshToken = refreshToken;
         this.expiresIn = expiresIn;
@@ -26,5 +27,6 @@ public class TokenDto {
         this.provider = provider;
         this.providerUserId = providerUserId;
         this.email = email;
+        this.idToken = idToken;
     }
 }
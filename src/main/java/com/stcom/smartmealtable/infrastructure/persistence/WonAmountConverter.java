@@ -0,0 +1,28 @@
+package com.stcom.smartmealtable.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * 원화 금액(long)을 기존 DECIMAL 컬럼에 그대로 저장한다. 원화는 소수 단위가 없으므로 소수부는 버린다(0 방향 절사).
+ * <p>
+ * 전환 이전에 소수 금액으로 저장된 행은 읽을 때 절사되고, 그 엔티티가 다른 이유로 UPDATE 되면 절사된 값이 그대로
+ * 컬럼에 다시 쓰인다. 읽고 쓸 때마다 BigDecimal 변환이 한 번씩 일어나는 비용은 컬럼을 BIGINT 로 옮길 때까지 남는다.
+ * 이 동작은 WonAmountConverterTest 와 BudgetRepositoryTest 에서 고정한다.
+ * <p>
+ * id 등 다른 Long 필드에 적용되지 않도록 autoApply 는 사용하지 않는다.
+ */
+@Converter
+public class WonAmountConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long attribute) {
+        return (attribute == null ? null : BigDecimal.valueOf(attribute));
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal dbData) {
+        return (dbData == null ? null : dbData.longValue());
+    }
+}
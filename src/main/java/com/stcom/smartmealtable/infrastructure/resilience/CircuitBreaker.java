@@ -0,0 +1,166 @@
+package com.stcom.smartmealtable.infrastructure.resilience;
+
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * 외부 API 하나에 대한 서킷 브레이커 + 동시 호출 수 제한(bulkhead).
+ * <p>
+ * 연속으로 failureThreshold 번 실패하면 서킷을 열고 openDuration 동안은 호출하지 않고 바로 실패한다.
+ * openDuration 이 지나면 한 건만 시험 호출(half-open)하고, 성공하면 닫고 실패하면 다시 연다.
+ * 시험 호출 중인 동안의 다른 요청은 바로 실패한다.
+ * <p>
+ * 동시에 maxConcurrentCalls 건을 넘는 호출은 기다리지 않고 바로 실패해, 응답이 느린 API 가 요청 스레드를 모두 붙잡지 않게 한다.
+ * <p>
+ * 4xx 응답(잘못된 인가 코드 등)은 API 가 정상적으로 응답한 것이므로 실패로 세지 않는다.
+ * <p>
+ * 메트릭: external.api.calls{provider, outcome=success|failure|rejected_open|rejected_bulkhead},
+ * external.api.circuit.state{provider} (0: 닫힘, 1: 시험 호출, 2: 열림)
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private static final Predicate<Throwable> PROVIDER_FAILURE = e -> !(e instanceof HttpClientErrorException);
+
+    @Getter
+    private final String provider;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Semaphore bulkhead;
+    private final LongSupplier nanoTime;
+
+    @Getter
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejectedOpen;
+    private final Counter rejectedBulkhead;
+
+    public CircuitBreaker(String provider, int failureThreshold, Duration openDuration, int maxConcurrentCalls,
+                          MeterRegistry meterRegistry) {
+        this(provider, failureThreshold, openDuration, maxConcurrentCalls, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String provider, int failureThreshold, Duration openDuration, int maxConcurrentCalls,
+                   MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.provider = provider;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.nanoTime = nanoTime;
+        this.successes = outcomeCounter(meterRegistry, "success");
+        this.failures = outcomeCounter(meterRegistry, "failure");
+        this.rejectedOpen = outcomeCounter(meterRegistry, "rejected_open");
+        this.rejectedBulkhead = outcomeCounter(meterRegistry, "rejected_bulkhead");
+        Gauge.builder("external.api.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    private Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("external.api.calls")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷이 닫혀 있고 동시 호출 수에 여유가 있을 때만 call 을 실행한다.
+     *
+     * @throws ExternApiUnavailableException 서킷이 열려 있거나 동시 호출 수가 가득 찬 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean probe = acquirePermission();
+        if (!bulkhead.tryAcquire()) {
+            if (probe) {
+                releaseProbe();
+            }
+            rejectedBulkhead.increment();
+            throw new ExternApiUnavailableException(provider + " API 동시 호출 수가 가득 찼습니다.");
+        }
+
+        try {
+            T result = call.get();
+            onSuccess(probe);
+            return result;
+        } catch (RuntimeException e) {
+            if (PROVIDER_FAILURE.test(e)) {
+                onFailure(probe);
+            } else {
+                onSuccess(probe);
+            }
+            throw e;
+        } catch (Error e) {
+            onFailure(probe);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private synchronized boolean acquirePermission() {
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN && !probing) {
+            probing = true;
+            return true;
+        }
+        rejectedOpen.increment();
+        throw new ExternApiUnavailableException(provider + " API 가 응답하지 않아 호출을 잠시 중단했습니다.");
+    }
+
+    private synchronized void releaseProbe() {
+        probing = false;
+    }
+
+    private synchronized void onSuccess(boolean probe) {
+        successes.increment();
+        if (probe) {
+            probing = false;
+            state = State.CLOSED;
+            log.info("{} API 서킷을 닫습니다.", provider);
+        }
+        if (state == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+    }
+
+    private synchronized void onFailure(boolean probe) {
+        failures.increment();
+        if (probe) {
+            probing = false;
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+        consecutiveFailures = 0;
+        log.warn("{} API 서킷을 엽니다. {}초 뒤 시험 호출합니다.", provider, Duration.ofNanos(openDurationNanos).toSeconds());
+    }
+}
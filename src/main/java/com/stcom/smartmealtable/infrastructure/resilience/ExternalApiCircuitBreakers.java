@@ -0,0 +1,37 @@
+package com.stcom.smartmealtable.infrastructure.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 별 서킷 브레이커. 한 API 의 장애가 다른 API 호출에 영향을 주지 않도록 API 마다 따로 둔다.
+ * <p>
+ * 로그인 토큰 발급과 주소 조회는 사용자가 응답을 기다리는 호출이라 동시 호출 수를 넉넉히 두고,
+ * Gemini 는 비동기 파싱 작업의 동시 실행 수(CreditMessageParseJobManager)에 맞춘다.
+ */
+@Getter
+@Component
+public class ExternalApiCircuitBreakers {
+
+    public static final String KAKAO_OAUTH = "kakao-oauth";
+    public static final String GOOGLE_OAUTH = "google-oauth";
+    public static final String KAKAO_ADDRESS = "kakao-address";
+    public static final String GEMINI = "gemini";
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final CircuitBreaker kakaoOauth;
+    private final CircuitBreaker googleOauth;
+    private final CircuitBreaker kakaoAddress;
+    private final CircuitBreaker gemini;
+
+    public ExternalApiCircuitBreakers(MeterRegistry meterRegistry) {
+        this.kakaoOauth = new CircuitBreaker(KAKAO_OAUTH, FAILURE_THRESHOLD, OPEN_DURATION, 50, meterRegistry);
+        this.googleOauth = new CircuitBreaker(GOOGLE_OAUTH, FAILURE_THRESHOLD, OPEN_DURATION, 50, meterRegistry);
+        this.kakaoAddress = new CircuitBreaker(KAKAO_ADDRESS, FAILURE_THRESHOLD, OPEN_DURATION, 50, meterRegistry);
+        this.gemini = new CircuitBreaker(GEMINI, FAILURE_THRESHOLD, OPEN_DURATION, 32, meterRegistry);
+    }
+}
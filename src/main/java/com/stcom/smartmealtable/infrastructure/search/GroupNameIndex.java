@@ -0,0 +1,326 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import com.stcom.smartmealtable.repository.GroupRepository;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
+import jakarta.annotation.PostConstruct;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹(학교/회사) 이름 검색용 메모리 n-gram 인덱스.
+ * <p>
+ * 이름을 정규화(NFC, 소문자, 공백 제거)한 뒤 1~3-gram 을 색인하고, 한글 이름은 초성 문자열("서울대학교" → "ㅅㅇㄷㅎㄱ")도 따로 색인한다.
+ * 검색어도 같은 방식으로 정규화하므로 대소문자와 공백을 무시하고 찾는다. 그래서 LIKE '%검색어%' 와 달리
+ * "서울 대" 로 "서울대학교" 를, "kaist" 로 "KAIST" 를 찾는다.
+ * 검색어의 n-gram 중 색인 목록이 가장 짧은 것을 후보로 삼고, 후보마다 정규화된 이름의 부분 문자열 일치를 다시 확인한다.
+ * 초성만으로 된 검색어는 초성 문자열에서 찾는다.
+ * <p>
+ * 순위: 완전 일치 → 앞부분 일치 → 중간 일치(앞쪽 위치 우선) 순이고, 같으면 짧은 이름이 먼저다.
+ * <p>
+ * 시작 시 전체 이름을 적재하고, 이후 변경은 GroupNameIndexListener 가 트랜잭션이 커밋된 뒤 반영한다.
+ * 인덱스는 인스턴스마다 따로 있으므로 다른 인스턴스의 변경은 GroupNameIndexSync 가 pub/sub 과 주기적 재적재로 맞춘다.
+ * 삭제/변경된 항목은 바로 지우지 않고 표시만 해 두었다가 일정 수 이상 쌓이면 다시 색인한다.
+ * 변경될 때마다 version 이 올라가므로, 검색 결과를 캐시하는 쪽은 version 으로 낡은 결과를 알아챌 수 있다.
+ */
+@Slf4j
+@Component
+public class GroupNameIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int COMPACT_THRESHOLD = 1_000;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private static final Comparator<Match> RANK = Comparator.comparingInt(Match::tier)
+            .thenComparingInt(Match::position)
+            .thenComparingInt(match -> match.entry().normalized().length())
+            .thenComparing(match -> match.entry().name())
+            .thenComparing(match -> match.entry().groupId());
+
+    private final GroupRepository groupRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 내부 문서 번호 → 항목. 삭제/변경된 항목은 null 로 남긴다.
+    private final List<Entry> docs = new ArrayList<>();
+    private final Map<Long, Integer> docByGroupId = new HashMap<>();
+    private final Map<String, Postings> namePostings = new HashMap<>();
+    private final Map<String, Postings> choseongPostings = new HashMap<>();
+    private int removed;
+    private volatile long version;
+
+    public GroupNameIndex(GroupRepository groupRepository) {
+        this.groupRepository = groupRepository;
+    }
+
+    /**
+     * 전체 이름을 다시 읽어 인덱스를 새로 만든다.
+     * 읽는 동안 put/remove 로 반영된 변경을 그보다 오래된 목록으로 덮어쓰지 않도록, 그런 경우에는 다시 읽는다.
+     */
+    @PostConstruct
+    public void load() {
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long readVersion = version;
+            List<GroupNameDto> names = groupRepository.findAllNames();
+            lock.writeLock().lock();
+            try {
+                if (version != readVersion) {
+                    continue;
+                }
+                clear();
+                for (GroupNameDto name : names) {
+                    add(name.getId(), name.getName());
+                }
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("그룹 이름 인덱스 적재 완료. groups={}", names.size());
+            return;
+        }
+        log.warn("그룹 이름 인덱스 적재 중 변경이 계속되어 이번 적재를 건너뜁니다. attempts={}", MAX_LOAD_ATTEMPTS);
+    }
+
+    /**
+     * 그룹 이름을 추가하거나 바꾼다.
+     *
+     * @return 바꾸기 전 이름. 없던 그룹이면 null
+     */
+    public String put(Long groupId, String name) {
+        lock.writeLock().lock();
+        try {
+            String previous = removeDoc(groupId);
+            if (name != null) {
+                add(groupId, name);
+            }
+            compactIfNeeded();
+            version++;
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 지우기 전 이름. 없던 그룹이면 null
+     */
+    public String remove(Long groupId) {
+        lock.writeLock().lock();
+        try {
+            String previous = removeDoc(groupId);
+            compactIfNeeded();
+            version++;
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 순위 순으로 정렬된 그룹 ID. 최대 limit 개
+     */
+    public List<Long> search(String keyword, int limit) {
+        return rank(keyword, limit).stream()
+                .map(Entry::groupId)
+                .toList();
+    }
+
+    /**
+     * search 와 같은 순위로 그룹 ID 와 이름을 돌려준다. DB 를 거치지 않는 자동 완성용이다.
+     */
+    public List<GroupSuggestion> suggest(String keyword, int limit) {
+        return rank(keyword, limit).stream()
+                .map(entry -> new GroupSuggestion(entry.groupId(), entry.name()))
+                .toList();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private List<Entry> rank(String keyword, int limit) {
+        String query = keyword == null ? "" : normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean choseongQuery = isChoseongOnly(query);
+
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, RANK.reversed());
+        lock.readLock().lock();
+        try {
+            Postings candidates = smallestPostings(choseongQuery ? choseongPostings : namePostings, query);
+            if (candidates == null) {
+                return List.of();
+            }
+            for (int i = 0; i < candidates.size; i++) {
+                Entry entry = docs.get(candidates.docs[i]);
+                if (entry == null) {
+                    continue;
+                }
+                Match match = match(entry, query, choseongQuery);
+                if (match == null) {
+                    continue;
+                }
+                top.offer(match);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Match[] ranked = top.toArray(new Match[0]);
+        Arrays.sort(ranked, RANK);
+        List<Entry> entries = new ArrayList<>(ranked.length);
+        for (Match match : ranked) {
+            entries.add(match.entry());
+        }
+        return entries;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByGroupId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Match match(Entry entry, String query, boolean choseongQuery) {
+        String target = choseongQuery ? entry.choseong() : entry.normalized();
+        int position = target.indexOf(query);
+        if (position < 0) {
+            return null;
+        }
+        int tier = target.length() == query.length() ? 0 : position == 0 ? 1 : 2;
+        return new Match(entry, tier, position);
+    }
+
+    // 검색어의 모든 n-gram 은 일치하는 이름에도 있으므로, 가장 짧은 색인 목록 하나만 보면 된다.
+    private static Postings smallestPostings(Map<String, Postings> postings, String query) {
+        int n = Math.min(query.length(), MAX_GRAM);
+        Postings smallest = null;
+        for (int i = 0; i + n <= query.length(); i++) {
+            Postings candidate = postings.get(query.substring(i, i + n));
+            if (candidate == null) {
+                return null;
+            }
+            if (smallest == null || candidate.size < smallest.size) {
+                smallest = candidate;
+            }
+        }
+        return smallest;
+    }
+
+    private void add(Long groupId, String name) {
+        String normalized = normalize(name);
+        String choseong = choseong(normalized);
+        int doc = docs.size();
+        docs.add(new Entry(groupId, name, normalized, choseong));
+        docByGroupId.put(groupId, doc);
+
+        index(namePostings, normalized, doc);
+        // 한글이 없는 이름은 초성 검색어와 일치할 수 없다.
+        if (!choseong.equals(normalized)) {
+            index(choseongPostings, choseong, doc);
+        }
+    }
+
+    private static void index(Map<String, Postings> postings, String text, int doc) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    private String removeDoc(Long groupId) {
+        Integer doc = docByGroupId.remove(groupId);
+        if (doc == null) {
+            return null;
+        }
+        removed++;
+        return docs.set(doc, null).name();
+    }
+
+    private void compactIfNeeded() {
+        if (removed < COMPACT_THRESHOLD || removed < docByGroupId.size()) {
+            return;
+        }
+        List<Entry> live = docs.stream().filter(entry -> entry != null).toList();
+        clear();
+        for (Entry entry : live) {
+            add(entry.groupId(), entry.name());
+        }
+    }
+
+    private void clear() {
+        docs.clear();
+        docByGroupId.clear();
+        namePostings.clear();
+        choseongPostings.clear();
+        removed = 0;
+    }
+
+    public static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return WHITESPACES.matcher(normalized).replaceAll("");
+    }
+
+    // 한글 음절은 초성으로 바꾸고, 나머지 문자는 그대로 둔다.
+    static String choseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(c >= '가' && c <= '힣' ? CHOSEONG.charAt((c - '가') / 588) : c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChoseongOnly(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (CHOSEONG.indexOf(query.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(Long groupId, String name, String normalized, String choseong) {
+    }
+
+    private record Match(Entry entry, int tier, int position) {
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
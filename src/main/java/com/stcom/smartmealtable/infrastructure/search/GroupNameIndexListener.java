@@ -0,0 +1,106 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import com.stcom.smartmealtable.domain.group.Group;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 그룹 생성/변경/삭제를 GroupNameIndex 에 반영한다.
+ * <p>
+ * 인덱스는 모든 요청이 함께 보므로 커밋되지 않은 이름이 보이지 않도록, flush 시점에는 그룹마다 마지막 이름만 기록해 두고
+ * 트랜잭션이 커밋된 뒤에 반영한다. 커밋되면 반영과 함께 바뀐 그룹 ID 를 GroupNameIndexSync 로 다른 인스턴스에 알리고,
+ * 롤백되면 아무것도 하지 않는다. 같은 트랜잭션에서 바꾼 그룹을 찾아야 하면 DB 를 조회한다.
+ * 인덱스 빈이 없는 컨텍스트(@DataJpaTest 등)에서는 아무것도 하지 않는다.
+ */
+public class GroupNameIndexListener {
+
+    private final ObjectProvider<GroupNameIndex> indexProvider;
+    private final ObjectProvider<GroupNameIndexSync> syncProvider;
+
+    public GroupNameIndexListener(ObjectProvider<GroupNameIndex> indexProvider,
+                                  ObjectProvider<GroupNameIndexSync> syncProvider) {
+        this.indexProvider = indexProvider;
+        this.syncProvider = syncProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Group group) {
+        recordChange(group.getId(), Optional.ofNullable(group.getName()));
+    }
+
+    @PostRemove
+    public void onRemoved(Group group) {
+        recordChange(group.getId(), Optional.empty());
+    }
+
+    private void recordChange(Long groupId, Optional<String> name) {
+        GroupNameIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        GroupNameIndexSync sync = syncProvider.getIfAvailable();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(index, groupId, name);
+            if (sync != null) {
+                sync.publish(groupId);
+            }
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(index);
+        if (pending == null) {
+            pending = new PendingChanges(index, sync);
+            TransactionSynchronizationManager.bindResource(index, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.names.put(groupId, name);
+    }
+
+    /**
+     * 현재 트랜잭션에서 바꾼 그룹 중 아직 인덱스에 반영되지 않은 것이 있는지.
+     * 있으면 그 트랜잭션 안의 검색은 인덱스 대신 DB 를 조회해야 자기 변경을 본다.
+     */
+    public static boolean hasPendingChanges(GroupNameIndex index) {
+        return TransactionSynchronizationManager.hasResource(index);
+    }
+
+    private static void apply(GroupNameIndex index, Long groupId, Optional<String> name) {
+        if (name.isPresent()) {
+            index.put(groupId, name.get());
+        } else {
+            index.remove(groupId);
+        }
+    }
+
+    private static class PendingChanges implements TransactionSynchronization {
+
+        private final GroupNameIndex index;
+        private final GroupNameIndexSync sync;
+        // 트랜잭션에서 마지막으로 flush 된 이름. 삭제되었으면 empty
+        private final Map<Long, Optional<String>> names = new LinkedHashMap<>();
+
+        PendingChanges(GroupNameIndex index, GroupNameIndexSync sync) {
+            this.index = index;
+            this.sync = sync;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(index);
+            if (status != STATUS_COMMITTED) {
+                return;
+            }
+            names.forEach((groupId, name) -> apply(index, groupId, name));
+            if (sync != null) {
+                names.keySet().forEach(sync::publish);
+            }
+        }
+    }
+}
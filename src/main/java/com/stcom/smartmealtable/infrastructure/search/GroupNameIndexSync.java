@@ -0,0 +1,77 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.repository.GroupRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스마다 따로 가진 GroupNameIndex 를 서로 맞춘다.
+ * <p>
+ * 그룹 변경이 커밋되면 GroupNameIndexListener 가 그룹 ID 를 채널로 알리고,
+ * 모든 인스턴스는 그 그룹의 이름을 DB 에서 다시 읽어 인덱스에 반영한다.
+ * 알림을 놓치면(Redis 장애, 구독 재연결 중 발행 등) 주기적인 전체 재적재 전까지 다른 인스턴스의 변경이 보이지 않는다.
+ */
+@Component
+@Slf4j
+public class GroupNameIndexSync implements MessageListener {
+
+    public static final String CHANNEL = "group:name-index:events";
+
+    private final GroupNameIndex index;
+    private final GroupRepository groupRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public GroupNameIndexSync(GroupNameIndex index,
+                              GroupRepository groupRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.index = index;
+        this.groupRepository = groupRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 그룹 변경이 커밋된 뒤 호출한다. 실패해도 변경은 이미 커밋되었으므로 로그만 남긴다.
+     */
+    void publish(Long groupId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(groupId));
+        } catch (RuntimeException e) {
+            log.warn("그룹 이름 인덱스 변경 알림 실패. 다음 재적재 때 반영됩니다. groupId={}", groupId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long groupId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        Optional<Group> group = groupRepository.findById(groupId);
+        if (group.isPresent()) {
+            index.put(groupId, group.get().getName());
+        } else {
+            index.remove(groupId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${group.name-index.reload-interval-ms:600000}",
+            initialDelayString = "${group.name-index.reload-interval-ms:600000}")
+    public void reload() {
+        index.load();
+    }
+}
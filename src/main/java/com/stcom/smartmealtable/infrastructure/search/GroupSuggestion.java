@@ -0,0 +1,7 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+/**
+ * 그룹 이름 자동 완성 항목.
+ */
+public record GroupSuggestion(Long id, String name) {
+}
@@ -2,14 +2,12 @@ package com.stcom.smartmealtable.infrastructure.social;
 
 import static com.stcom.smartmealtable.infrastructure.social.SocialConst.GOOGLE;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.stcom.smartmealtable.infrastructure.dto.TokenDto;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.Set;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -22,8 +20,13 @@ import org.springframework.web.client.RestClient.ResponseSpec;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class GoogleHttpMessage implements SocialHttpMessage {
 
+    private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private final IdTokenDecoder idTokenDecoder;
+
     @Value("${google.oauth.client-id}")
     private String clientId;
 
@@ -33,6 +36,9 @@ public class GoogleHttpMessage implements SocialHttpMessage {
     @Value("${google.oauth.redirect-uri}")
     private String redirectUri;
 
+    @Value("${google.oauth.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}")
+    private String jwksUri;
+
 
     @Override
     public RequestBodySpec getRequestMessage(RestClient client, String code) {
@@ -67,49 +73,30 @@ public class GoogleHttpMessage implements SocialHttpMessage {
                 .expiresIn(tokenResponse.getExpiresIn())
                 .tokenType(tokenResponse.getTokenType())
                 .provider(GOOGLE)
-                .providerUserId(extractProviderUserId(tokenResponse.getIdToken()))
-                .email(extractEmail(tokenResponse.getIdToken()))
+                .idToken(tokenResponse.getIdToken())
                 .build();
     }
 
+    @Override
+    public void applyIdTokenClaims(TokenDto token) {
+        // ID 토큰은 한 번만 디코딩한다. 검증에 실패하면 로그인을 진행하지 않는다.
+        IdTokenClaims claims = idTokenDecoder.decode(token.getIdToken(), idTokenIssuer());
+        token.setProviderUserId(claims.subject());
+        token.setEmail(claims.email());
+    }
+
     @Override
     public String extractProviderUserId(String idToken) {
-        if (idToken == null || idToken.isBlank()) {
-            return null;
-        }
         try {
-            String[] jwtParts = idToken.split("\\.");
-            if (jwtParts.length != 3) {
-                return null;
-            }
-
-            String payload = new String(Base64.getUrlDecoder().decode(jwtParts[1]), StandardCharsets.UTF_8);
-            JsonNode payloadJson = new ObjectMapper().readTree(payload);
-            return payloadJson.path("sub").asText(null);
-
-        } catch (Exception e) {
-            // 로깅: 어떤 공급자(token issuer)에 대한 토큰인지 같이 찍어도 좋습니다.
-            log.error("ID 토큰 파싱 오류: {}", e.getMessage());
+            return idTokenDecoder.decode(idToken, idTokenIssuer()).subject();
+        } catch (RuntimeException e) {
+            log.error("Google ID 토큰 검증 실패: {}", e.getMessage());
             return null;
         }
     }
 
-    public String extractEmail(String idToken) {
-        if (idToken == null || idToken.isBlank()) {
-            return null;
-        }
-        try {
-            String[] parts = idToken.split("\\.");
-            if (parts.length != 3) {
-                return null;
-            }
-            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
-            JsonNode node = new ObjectMapper().readTree(payload);
-            return node.has("email") ? node.get("email").asText() : null;
-        } catch (Exception e) {
-            log.error("Google ID 토큰에서 email 파싱 실패: {}", e.getMessage());
-            return null;
-        }
+    private IdTokenIssuer idTokenIssuer() {
+        return new IdTokenIssuer(ISSUERS, jwksUri, clientId);
     }
 
     @Data
@@ -0,0 +1,19 @@
+package com.stcom.smartmealtable.infrastructure.social;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * 검증된 OpenID Connect ID 토큰의 클레임 중 로그인에 쓰는 값.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record IdTokenClaims(
+        @JsonProperty("iss") String issuer,
+        @JsonProperty("sub") String subject,
+        // aud 는 문자열 하나이거나 배열이다.
+        @JsonProperty("aud") @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<String> audience,
+        @JsonProperty("exp") long expiresAt,
+        @JsonProperty("email") String email) {
+}
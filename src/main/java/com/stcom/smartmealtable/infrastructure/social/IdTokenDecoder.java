@@ -0,0 +1,216 @@
+package com.stcom.smartmealtable.infrastructure.social;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 카카오/구글 ID 토큰을 한 번 디코딩해 서명, 발급자, 대상, 만료 시각을 검증하고 클레임을 돌려준다.
+ * <p>
+ * 서명은 공급자의 JWKS 공개키(RS256)로 검증한다. 공개키 목록은 공급자별로 KEY_SET_TTL 동안 캐시하고,
+ * 모르는 kid 가 오면(키 교체) 다시 받는다. 만료나 키 교체로 다시 받을 때는 성공/실패와 관계없이
+ * 최소 REFRESH_INTERVAL 간격을 두어, 공급자 장애 중에 로그인마다 JWKS 요청을 반복하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdTokenDecoder {
+
+    private static final Duration KEY_SET_TTL = Duration.ofHours(6);
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final ObjectMapper objectMapper;
+    private final RestClient client;
+    private final Clock clock;
+    private final ConcurrentMap<String, JwkKeySet> keySets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdTokenDecoder(ObjectMapper objectMapper, RestClient.Builder restClientBuilder) {
+        this(objectMapper, restClientBuilder, Clock.systemUTC());
+    }
+
+    IdTokenDecoder(ObjectMapper objectMapper, RestClient.Builder restClientBuilder, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.client = restClientBuilder.build();
+        this.clock = clock;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식, 서명, 발급자, 대상, 만료 시각 중 하나라도 올바르지 않은 경우
+     */
+    public IdTokenClaims decode(String idToken, IdTokenIssuer issuer) {
+        if (idToken == null || idToken.isBlank()) {
+            throw new IllegalArgumentException("ID 토큰이 없습니다.");
+        }
+        int headerEnd = idToken.indexOf('.');
+        int payloadEnd = idToken.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || payloadEnd < 0 || idToken.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new IllegalArgumentException("ID 토큰 형식이 올바르지 않습니다.");
+        }
+
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        JwtHeader header;
+        IdTokenClaims claims;
+        try {
+            header = objectMapper.readValue(decoder.decode(idToken.substring(0, headerEnd)), JwtHeader.class);
+            claims = objectMapper.readValue(decoder.decode(idToken.substring(headerEnd + 1, payloadEnd)),
+                    IdTokenClaims.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("ID 토큰을 읽을 수 없습니다.", e);
+        }
+
+        if (!"RS256".equals(header.alg()) || header.kid() == null) {
+            throw new IllegalArgumentException("지원하지 않는 ID 토큰 서명 방식입니다. alg=" + header.alg());
+        }
+        PublicKey key = keySets.computeIfAbsent(issuer.jwksUri(), JwkKeySet::new).get(header.kid());
+        verifySignature(idToken, payloadEnd, key);
+        validateClaims(claims, issuer);
+        return claims;
+    }
+
+    private static void verifySignature(String idToken, int payloadEnd, PublicKey key) {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update(idToken.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (signature.verify(Base64.getUrlDecoder().decode(idToken.substring(payloadEnd + 1)))) {
+                return;
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("ID 토큰 서명을 검증할 수 없습니다.", e);
+        }
+        throw new IllegalArgumentException("ID 토큰 서명이 올바르지 않습니다.");
+    }
+
+    private void validateClaims(IdTokenClaims claims, IdTokenIssuer issuer) {
+        if (!issuer.issuers().contains(claims.issuer())) {
+            throw new IllegalArgumentException("ID 토큰 발급자가 올바르지 않습니다. iss=" + claims.issuer());
+        }
+        if (claims.audience() == null || !claims.audience().contains(issuer.audience())) {
+            throw new IllegalArgumentException("ID 토큰 대상이 올바르지 않습니다.");
+        }
+        if (Instant.ofEpochSecond(claims.expiresAt()).plus(CLOCK_SKEW).isBefore(clock.instant())) {
+            throw new IllegalArgumentException("만료된 ID 토큰입니다.");
+        }
+        if (claims.subject() == null) {
+            throw new IllegalArgumentException("ID 토큰에 사용자 식별자가 없습니다.");
+        }
+    }
+
+    /**
+     * 공급자 하나의 JWKS 공개키 캐시.
+     */
+    private class JwkKeySet {
+
+        private final String jwksUri;
+        // JWKS 를 받는 동안 가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 사용한다.
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile Map<String, PublicKey> keys = Map.of();
+        private volatile Instant fetchedAt = Instant.MIN;
+        // 마지막으로 JWKS 를 받으려고 시도한 시각. 실패해도 갱신한다.
+        private volatile Instant attemptedAt = Instant.MIN;
+
+        JwkKeySet(String jwksUri) {
+            this.jwksUri = jwksUri;
+        }
+
+        PublicKey get(String kid) {
+            PublicKey key = keys.get(kid);
+            if (key != null && fetchedAt.plus(KEY_SET_TTL).isAfter(clock.instant())) {
+                return key;
+            }
+            refreshLock.lock();
+            try {
+                Instant now = clock.instant();
+                boolean expired = !fetchedAt.plus(KEY_SET_TTL).isAfter(now);
+                boolean canRefresh = !attemptedAt.plus(REFRESH_INTERVAL).isAfter(now);
+                if (canRefresh && (expired || !keys.containsKey(kid))) {
+                    refresh(now, kid);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+            key = keys.get(kid);
+            if (key == null) {
+                throw new IllegalArgumentException("ID 토큰 서명 키를 찾을 수 없습니다. kid=" + kid);
+            }
+            return key;
+        }
+
+        private void refresh(Instant now, String kid) {
+            attemptedAt = now;
+            Jwks jwks;
+            try {
+                jwks = client.get()
+                        .uri(jwksUri)
+                        .retrieve()
+                        .body(Jwks.class);
+                if (jwks == null || jwks.keys() == null) {
+                    throw new IllegalStateException("JWKS 응답이 비어 있습니다. uri=" + jwksUri);
+                }
+            } catch (RuntimeException e) {
+                // 만료되었더라도 이미 알고 있는 키면 공급자 장애 동안 계속 사용한다.
+                if (keys.containsKey(kid)) {
+                    log.warn("JWKS 갱신 실패. 캐시된 공개키로 검증합니다. uri={}", jwksUri, e);
+                    return;
+                }
+                throw e;
+            }
+
+            Map<String, PublicKey> refreshed = new HashMap<>();
+            for (Jwk jwk : jwks.keys()) {
+                if (!"RSA".equals(jwk.kty()) || jwk.kid() == null) {
+                    continue;
+                }
+                try {
+                    refreshed.put(jwk.kid(), toPublicKey(jwk));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.warn("JWKS 공개키를 읽지 못했습니다. uri={}, kid={}", jwksUri, jwk.kid(), e);
+                }
+            }
+            keys = Map.copyOf(refreshed);
+            fetchedAt = now;
+        }
+    }
+
+    private static PublicKey toPublicKey(Jwk jwk) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jwk.n())),
+                new BigInteger(1, decoder.decode(jwk.e())));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record JwtHeader(String alg, String kid) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Jwks(List<Jwk> keys) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Jwk(String kty, String kid, String n, String e) {
+    }
+}
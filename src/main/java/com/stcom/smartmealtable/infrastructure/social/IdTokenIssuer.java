@@ -0,0 +1,13 @@
+package com.stcom.smartmealtable.infrastructure.social;
+
+import java.util.Set;
+
+/**
+ * ID 토큰을 발급하는 소셜 로그인 공급자의 검증 정보.
+ *
+ * @param issuers  허용하는 iss 값
+ * @param jwksUri  서명 검증용 공개키 목록(JWKS) 주소
+ * @param audience 우리 앱의 client id. 토큰의 aud 에 포함되어야 한다.
+ */
+public record IdTokenIssuer(Set<String> issuers, String jwksUri, String audience) {
+}
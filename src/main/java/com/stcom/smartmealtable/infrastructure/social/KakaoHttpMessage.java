@@ -2,12 +2,12 @@ package com.stcom.smartmealtable.infrastructure.social;
 
 import static com.stcom.smartmealtable.infrastructure.social.SocialConst.KAKAO;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.stcom.smartmealtable.infrastructure.dto.TokenDto;
+import java.util.Set;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -20,14 +20,22 @@ import org.springframework.web.client.RestClient.ResponseSpec;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class KakaoHttpMessage implements SocialHttpMessage {
 
+    private static final Set<String> ISSUERS = Set.of("https://kauth.kakao.com");
+
+    private final IdTokenDecoder idTokenDecoder;
+
     @Value("${kakao.oauth.client-id}")
     private String clientId;
 
     @Value("${kakao.oauth.redirect-uri}")
     private String redirectUri;
 
+    @Value("${kakao.oauth.jwks-uri:https://kauth.kakao.com/.well-known/jwks.json}")
+    private String jwksUri;
+
     @Override
     public RequestBodySpec getRequestMessage(RestClient client, String code) {
         return client.post()
@@ -61,57 +69,30 @@ public class KakaoHttpMessage implements SocialHttpMessage {
                 .expiresIn(tokenResponse.getExpiresIn())
                 .tokenType(tokenResponse.getTokenType())
                 .provider(KAKAO)
-                .providerUserId(extractProviderUserId(tokenResponse.getIdToken()))
-                .email(extractEmail(tokenResponse.getIdToken()))
+                .idToken(tokenResponse.getIdToken())
                 .build();
     }
 
     @Override
-    public String extractProviderUserId(String idToken) {
-        if (idToken == null || idToken.isEmpty()) {
-            return null;
-        }
+    public void applyIdTokenClaims(TokenDto token) {
+        // ID 토큰은 한 번만 디코딩한다. 검증에 실패하면 로그인을 진행하지 않는다.
+        IdTokenClaims claims = idTokenDecoder.decode(token.getIdToken(), idTokenIssuer());
+        token.setProviderUserId(claims.subject());
+        token.setEmail(claims.email());
+    }
 
+    @Override
+    public String extractProviderUserId(String idToken) {
         try {
-            String[] jwtParts = idToken.split("\\.");
-            if (jwtParts.length != 3) {
-                return null;
-            }
-
-            String payload = new String(java.util.Base64.getUrlDecoder().decode(jwtParts[1]));
-
-            // Jackson ObjectMapper를 사용하여 JSON 파싱
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode payloadJson = mapper.readTree(payload);
-
-            return payloadJson.has("sub") ? payloadJson.get("sub").asText() : null;
-        } catch (Exception e) {
-            // 예외 발생 시 로깅 및 null 반환
-            System.err.println("카카오 ID 토큰 파싱 오류: " + e.getMessage());
+            return idTokenDecoder.decode(idToken, idTokenIssuer()).subject();
+        } catch (RuntimeException e) {
+            log.error("Kakao ID 토큰 검증 실패: {}", e.getMessage());
             return null;
         }
     }
 
-    public String extractEmail(String idToken) {
-        if (idToken == null || idToken.isEmpty()) {
-            return null;
-        }
-        try {
-            String[] parts = idToken.split("\\.");
-            if (parts.length != 3) {
-                return null;
-            }
-            String payloadJson = new String(
-                    java.util.Base64.getUrlDecoder().decode(parts[1]),
-                    java.nio.charset.StandardCharsets.UTF_8
-            );
-
-            JsonNode node = new ObjectMapper().readTree(payloadJson);
-            return node.has("email") ? node.get("email").asText() : null;
-        } catch (Exception e) {
-            log.error("카카오 ID 토큰에서 email 파싱 실패", e);
-            return null;
-        }
+    private IdTokenIssuer idTokenIssuer() {
+        return new IdTokenIssuer(ISSUERS, jwksUri, clientId);
     }
 
     @Data
@@ -9,7 +9,17 @@ public interface SocialHttpMessage {
 
     RequestBodySpec getRequestMessage(RestClient client, String code);
 
+    /**
+     * 토큰 응답 본문을 읽는다. ID 토큰은 검증하지 않고 담아만 둔다.
+     */
     TokenDto getTokenResponse(ResponseSpec responseSpec);
 
+    /**
+     * ID 토큰을 검증해 공급자 사용자 식별자와 이메일을 채운다.
+     *
+     * @throws IllegalArgumentException ID 토큰이 올바르지 않은 경우
+     */
+    void applyIdTokenClaims(TokenDto token);
+
     String extractProviderUserId(String idToken);
 }
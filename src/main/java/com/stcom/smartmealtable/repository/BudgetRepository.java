@@ -3,12 +3,17 @@ package com.stcom.smartmealtable.repository;
 import com.stcom.smartmealtable.domain.Budget.Budget;
 import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -41,6 +46,11 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     @Query("select b from Budget b where type(b) = DailyBudget and b.memberProfile.id = :profileId and treat(b as DailyBudget).date = :date")
     Optional<DailyBudget> findDailyBudgetByMemberProfileIdAndDate(Long profileId, LocalDate date);
 
+    // 잠금 읽기는 스냅샷이 아닌 최신 커밋 값을 읽으므로 지연 생성 전 중복 확인에 사용한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Budget b where type(b) = DailyBudget and b.memberProfile.id = :profileId and treat(b as DailyBudget).date = :date")
+    Optional<DailyBudget> findDailyBudgetForUpdate(Long profileId, LocalDate date);
+
     @Query("select b from Budget b where type(b) = MonthlyBudget and b.memberProfile.id = :profileId and treat(b as MonthlyBudget).yearMonth = :yearMonth")
     Optional<MonthlyBudget> findMonthlyBudgetByMemberProfileIdAndYearMonth(Long profileId, YearMonth yearMonth);
 
@@ -48,6 +58,25 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     List<DailyBudget> findDailyBudgetsByMemberProfileIdAndDateBetween(Long profileId, LocalDate startOfWeek,
                                                                       LocalDate endOfWeek);
 
+    @Query("select new com.stcom.smartmealtable.repository.dto.BudgetAmountDto(b.spendAmount, b.limit) from Budget b where type(b) = DailyBudget and b.memberProfile.id = :profileId and treat(b as DailyBudget).date = :date")
+    Optional<BudgetAmountDto> findDailyBudgetAmountByMemberProfileIdAndDate(Long profileId, LocalDate date);
+
+    @Query("select new com.stcom.smartmealtable.repository.dto.BudgetAmountDto(b.spendAmount, b.limit) from Budget b where type(b) = MonthlyBudget and b.memberProfile.id = :profileId and treat(b as MonthlyBudget).yearMonth = :yearMonth")
+    Optional<BudgetAmountDto> findMonthlyBudgetAmountByMemberProfileIdAndYearMonth(Long profileId, YearMonth yearMonth);
+
+    @Query("select new com.stcom.smartmealtable.repository.dto.BudgetAmountDto(b.spendAmount, b.limit) from Budget b where type(b) = DailyBudget and b.memberProfile.id = :profileId and treat(b as DailyBudget).date between :startOfWeek and :endOfWeek order by treat(b as DailyBudget).date asc")
+    List<BudgetAmountDto> findDailyBudgetAmountsByMemberProfileIdAndDateBetween(Long profileId, LocalDate startOfWeek,
+                                                                               LocalDate endOfWeek);
+
+    @Query("select b from Budget b where type(b) = MonthlyBudget and b.memberProfile.id = :profileId and treat(b as MonthlyBudget).yearMonth between :from and :to")
+    List<MonthlyBudget> findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(Long profileId, YearMonth from,
+                                                                               YearMonth to);
+
     @Query("select b from Budget b where type(b) = MonthlyBudget and b.memberProfile.id = :profileId and treat(b as MonthlyBudget).yearMonth < :from order by treat(b as MonthlyBudget).yearMonth desc ")
     List<MonthlyBudget> findMonthlyBudgetsByMemberProfileIdAndYearMonthBefore(Long profileId, YearMonth from);
+
+    // 사용 금액은 엔티티를 읽어 더하지 않고 DB 에서 원자적으로 증감한다. (동시 지출 등록 시 갱신 유실 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Budget b set b.spendAmount = b.spendAmount + :amount where b.id in :budgetIds")
+    int addSpendAmount(@Param("budgetIds") Collection<Long> budgetIds, @Param("amount") long amount);
 }
@@ -0,0 +1,9 @@
+package com.stcom.smartmealtable.repository;
+
+import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import java.util.List;
+
+public interface ExpenditureBulkRepository {
+
+    void bulkInsert(List<Expenditure> expenditures);
+}
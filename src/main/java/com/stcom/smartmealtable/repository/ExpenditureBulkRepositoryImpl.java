@@ -0,0 +1,43 @@
+package com.stcom.smartmealtable.repository;
+
+import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로 대량 등록은 JDBC 배치로 처리한다.
+ * MySQL 에서는 rewriteBatchedStatements=true 로 multi-row insert 로 변환된다.
+ */
+@RequiredArgsConstructor
+public class ExpenditureBulkRepositoryImpl implements ExpenditureBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            insert into expenditure
+                (spent_date, amount, trade_name, daily_budget_id, monthly_budget_id, member_profile_id,
+                 approval_fingerprint, created_date, last_modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<Expenditure> expenditures) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, expenditures, BATCH_SIZE, (ps, expenditure) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(expenditure.getSpentDate()));
+            ps.setLong(2, expenditure.getAmount());
+            ps.setString(3, expenditure.getTradeName());
+            ps.setLong(4, expenditure.getDailyBudget().getId());
+            ps.setLong(5, expenditure.getMonthlyBudget().getId());
+            ps.setLong(6, expenditure.getMemberProfileId());
+            ps.setString(7, expenditure.getApprovalFingerprint());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
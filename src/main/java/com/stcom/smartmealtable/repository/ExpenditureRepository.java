@@ -1,11 +1,27 @@
 package com.stcom.smartmealtable.repository;
 
 import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ExpenditureRepository extends JpaRepository<Expenditure, Long> {
+public interface ExpenditureRepository extends JpaRepository<Expenditure, Long>, ExpenditureBulkRepository {
 
     Slice<Expenditure> findByDailyBudget_MemberProfile_IdOrderBySpentDateDesc(Long profileId, Pageable pageable);
+
+    @Query("select e from Expenditure e where e.memberProfileId = :profileId order by e.spentDate desc, e.id desc")
+    List<Expenditure> findFirstScrollByMemberProfileId(Long profileId, Pageable pageable);
+
+    // (spentDate, id) 커서 이후의 행만 인덱스 순서대로 읽는다.
+    @Query("select e from Expenditure e where e.memberProfileId = :profileId and (e.spentDate < :cursorSpentDate or (e.spentDate = :cursorSpentDate and e.id < :cursorId)) order by e.spentDate desc, e.id desc")
+    List<Expenditure> findNextScrollByMemberProfileId(Long profileId, LocalDateTime cursorSpentDate, Long cursorId,
+                                                      Pageable pageable);
+
+    // 유니크 인덱스로 지문 단위 조회만 하므로 지출 건수와 무관하게 비용이 일정하다.
+    @Query("select e.approvalFingerprint from Expenditure e where e.approvalFingerprint in :fingerprints")
+    List<String> findApprovalFingerprintsIn(Collection<String> fingerprints);
 }
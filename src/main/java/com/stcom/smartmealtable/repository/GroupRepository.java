@@ -1,11 +1,16 @@
 package com.stcom.smartmealtable.repository;
 
 import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
 import java.util.List;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
     List<Group> findByNameContaining(String name, Limit limit);
+
+    @Query("select new com.stcom.smartmealtable.repository.dto.GroupNameDto(g.id, g.name) from Group g")
+    List<GroupNameDto> findAllNames();
 }
@@ -2,9 +2,12 @@ package com.stcom.smartmealtable.repository;
 
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +20,16 @@ public interface MemberProfileRepository extends JpaRepository<MemberProfile, Lo
 
     @EntityGraph(attributePaths = {"member", "addressHistory", "group"})
     Optional<MemberProfile> findMemberProfileEntityGraphById(Long id);
+
+    @Query("select mp.defaultDailyLimit from MemberProfile mp where mp.id = :profileId")
+    Optional<Long> findDefaultDailyLimitById(@Param("profileId") Long profileId);
+
+    // 적용 시작일 이전 날짜면 비어 있다. MemberProfile#getDefaultDailyLimitOn 과 같은 규칙이다.
+    @Query("select mp.defaultDailyLimit from MemberProfile mp where mp.id = :profileId"
+            + " and (mp.defaultDailyLimitStartDate is null or mp.defaultDailyLimitStartDate <= :date)")
+    Optional<Long> findDefaultDailyLimitByIdOn(@Param("profileId") Long profileId, @Param("date") LocalDate date);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select mp from MemberProfile mp where mp.id = :profileId")
+    Optional<MemberProfile> findByIdForUpdate(@Param("profileId") Long profileId);
 }
@@ -0,0 +1,9 @@
+package com.stcom.smartmealtable.repository;
+
+import com.stcom.smartmealtable.repository.dto.SpendRollupDelta;
+import java.util.List;
+
+public interface SpendRollupBulkRepository {
+
+    void addSpend(List<SpendRollupDelta> deltas);
+}
@@ -0,0 +1,93 @@
+package com.stcom.smartmealtable.repository;
+
+import com.stcom.smartmealtable.repository.dto.SpendRollupDelta;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 롤업 행을 UPDATE 로 증감한다. 아직 없는 행은 금액 0 인 행을 먼저 만든 뒤 다시 UPDATE 한다.
+ * 빈 행 생성은 여러 번 해도 결과가 같으므로, 다른 트랜잭션이 같은 행을 먼저 만들어 유니크 인덱스와 충돌해도
+ * 충돌한 행만 건너뛰면 된다.
+ */
+@RequiredArgsConstructor
+public class SpendRollupBulkRepositoryImpl implements SpendRollupBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SQL = """
+            update spend_rollup
+               set amount = amount + ?, expenditure_count = expenditure_count + ?
+             where member_profile_id = ? and spent_date = ? and spent_hour = ? and trade_name = ?
+            """;
+
+    private static final String INSERT_EMPTY_SQL = """
+            insert into spend_rollup
+                (member_profile_id, spent_date, spent_hour, trade_name, amount, expenditure_count)
+            values (?, ?, ?, ?, 0, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addSpend(List<SpendRollupDelta> deltas) {
+        List<SpendRollupDelta> missing = update(deltas);
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_EMPTY_SQL, missing, BATCH_SIZE, (ps, delta) -> setKey(ps, 1, delta));
+        } catch (DuplicateKeyException e) {
+            missing.forEach(this::insertEmptyIfAbsent);
+        }
+        List<SpendRollupDelta> stillMissing = update(missing);
+        if (!stillMissing.isEmpty()) {
+            throw new IllegalStateException("지출 통계 반영에 실패했습니다.");
+        }
+    }
+
+    // 반영하지 못한(행이 없는) 항목을 돌려준다.
+    private List<SpendRollupDelta> update(List<SpendRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.amount());
+            ps.setLong(2, delta.count());
+            setKey(ps, 3, delta);
+        });
+        List<SpendRollupDelta> missing = new ArrayList<>();
+        int i = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(deltas.get(i));
+                }
+                i++;
+            }
+        }
+        return missing;
+    }
+
+    private void insertEmptyIfAbsent(SpendRollupDelta delta) {
+        try {
+            jdbcTemplate.update(INSERT_EMPTY_SQL, ps -> setKey(ps, 1, delta));
+        } catch (DuplicateKeyException ignore) {
+            // 이미 있는 행
+        }
+    }
+
+    private static void setKey(PreparedStatement ps, int from, SpendRollupDelta delta) throws SQLException {
+        ps.setLong(from, delta.profileId());
+        ps.setDate(from + 1, Date.valueOf(delta.spentDate()));
+        ps.setInt(from + 2, delta.spentHour());
+        ps.setString(from + 3, delta.tradeName());
+    }
+}
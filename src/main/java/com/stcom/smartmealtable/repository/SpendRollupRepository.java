@@ -0,0 +1,24 @@
+package com.stcom.smartmealtable.repository;
+
+import com.stcom.smartmealtable.domain.Budget.SpendRollup;
+import com.stcom.smartmealtable.repository.dto.DailySpendDto;
+import com.stcom.smartmealtable.repository.dto.HourlySpendDto;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SpendRollupRepository extends JpaRepository<SpendRollup, Long>, SpendRollupBulkRepository {
+
+    @Query("select new com.stcom.smartmealtable.repository.dto.DailySpendDto(r.spentDate, sum(r.amount), sum(r.expenditureCount)) from SpendRollup r where r.memberProfileId = :profileId and r.spentDate between :from and :to group by r.spentDate order by r.spentDate")
+    List<DailySpendDto> sumByDate(Long profileId, LocalDate from, LocalDate to);
+
+    @Query("select new com.stcom.smartmealtable.repository.dto.HourlySpendDto(r.spentHour, sum(r.amount), sum(r.expenditureCount)) from SpendRollup r where r.memberProfileId = :profileId and r.spentDate between :from and :to group by r.spentHour order by r.spentHour")
+    List<HourlySpendDto> sumByHour(Long profileId, LocalDate from, LocalDate to);
+
+    // 지출이 모두 삭제되어 건수가 0 인 가맹점은 제외한다.
+    @Query("select new com.stcom.smartmealtable.repository.dto.MerchantSpendDto(r.tradeName, sum(r.amount), sum(r.expenditureCount)) from SpendRollup r where r.memberProfileId = :profileId and r.spentDate between :from and :to group by r.tradeName having sum(r.expenditureCount) > 0 order by sum(r.amount) desc")
+    List<MerchantSpendDto> sumByMerchant(Long profileId, LocalDate from, LocalDate to, Pageable pageable);
+}
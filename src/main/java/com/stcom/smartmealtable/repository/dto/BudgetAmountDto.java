@@ -0,0 +1,21 @@
+package com.stcom.smartmealtable.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예산 조회 화면에서 필요한 사용 금액/한도만 읽어오는 projection DTO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetAmountDto {
+
+    private long spendAmount;
+    private long limit;
+
+    public long getAvailableAmount() {
+        return limit - spendAmount;
+    }
+}
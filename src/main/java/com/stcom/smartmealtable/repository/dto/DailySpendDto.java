@@ -0,0 +1,16 @@
+package com.stcom.smartmealtable.repository.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySpendDto {
+
+    private LocalDate date;
+    private long amount;
+    private long count;
+}
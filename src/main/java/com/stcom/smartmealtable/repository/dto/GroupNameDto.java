@@ -0,0 +1,14 @@
+package com.stcom.smartmealtable.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupNameDto {
+
+    private Long id;
+    private String name;
+}
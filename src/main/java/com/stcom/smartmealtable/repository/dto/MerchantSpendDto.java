@@ -0,0 +1,15 @@
+package com.stcom.smartmealtable.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerchantSpendDto {
+
+    private String tradeName;
+    private long amount;
+    private long count;
+}
@@ -0,0 +1,27 @@
+package com.stcom.smartmealtable.repository.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 지출 통계 롤업 한 행에 더할 금액과 건수.
+ */
+public record SpendRollupDelta(Long profileId, LocalDate spentDate, int spentHour, String tradeName, long amount,
+                               long count) {
+
+    public static SpendRollupDelta of(Long profileId, LocalDateTime spentDate, String tradeName, long amount,
+                                      long count) {
+        return new SpendRollupDelta(profileId, spentDate.toLocalDate(), spentDate.getHour(), tradeName, amount,
+                count);
+    }
+
+    // 같은 롤업 행인지 비교하는 키
+    public String key() {
+        return spentDate + "|" + spentHour + "|" + tradeName;
+    }
+
+    public SpendRollupDelta plus(SpendRollupDelta other) {
+        return new SpendRollupDelta(profileId, spentDate, spentHour, tradeName, amount + other.amount,
+                count + other.count);
+    }
+}
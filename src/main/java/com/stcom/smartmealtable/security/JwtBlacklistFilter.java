@@ -0,0 +1,157 @@
+package com.stcom.smartmealtable.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트 조회 앞단의 로컬 Bloom filter.
+ * <p>
+ * 필터는 토큰의 블랙리스트 식별자(jti 또는 다이제스트)를 담는다.
+ * 필터에 없다고 판단되는 토큰은 Redis 조회 없이 통과시키고, 있을 수도 있는 토큰만 Redis 로 확인한다.
+ * 다른 인스턴스에서 추가된 토큰은 pub/sub 으로 전달받고, 주기적으로 Redis 키를 다시 읽어 필터를 새로 만든다.
+ * 재구성으로 만료된 토큰이 필터에서 빠지고, 놓친 pub/sub 메시지도 복구된다.
+ * <p>
+ * 메트릭 jwt.blacklist.lookups 의 result 태그로 Redis 조회를 생략한 횟수(filtered),
+ * 필터 오탐(false_positive), 실제 블랙리스트 적중(blacklisted), 동기화 전 우회(bypassed)를 구분한다.
+ */
+@Component
+@Slf4j
+public class JwtBlacklistFilter implements MessageListener {
+
+    public static final String CHANNEL = "jwt:blacklist:events";
+
+    private static final long EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Counter filtered;
+    private final Counter falsePositive;
+    private final Counter blacklisted;
+    private final Counter bypassed;
+
+    private volatile BloomFilter current = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    private volatile BloomFilter rebuilding;
+    // 한 번도 Redis 와 동기화하지 못했거나 재구성에 실패하면 필터를 믿지 않고 항상 Redis 를 조회한다.
+    private volatile boolean synced;
+    private long lastEntryCount;
+
+    public JwtBlacklistFilter(RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.filtered = lookupCounter(meterRegistry, "filtered");
+        this.falsePositive = lookupCounter(meterRegistry, "false_positive");
+        this.blacklisted = lookupCounter(meterRegistry, "blacklisted");
+        this.bypassed = lookupCounter(meterRegistry, "bypassed");
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.blacklist.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 필터가 없다고 판단하면 바로 false 를 돌려주고, 그 외에는 redisLookup 결과를 따른다.
+     */
+    boolean isBlacklisted(String id, BooleanSupplier redisLookup) {
+        if (!synced) {
+            bypassed.increment();
+            return redisLookup.getAsBoolean();
+        }
+        if (!current.mightContain(id)) {
+            filtered.increment();
+            return false;
+        }
+
+        boolean result = redisLookup.getAsBoolean();
+        (result ? blacklisted : falsePositive).increment();
+        return result;
+    }
+
+    /**
+     * Redis 에 블랙리스트 항목을 저장한 뒤 호출한다. 로컬 필터에 반영하고 다른 인스턴스에 알린다.
+     */
+    void publish(String id) {
+        add(id);
+        redisTemplate.convertAndSend(CHANNEL, id);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 재구성 중인 필터를 먼저 확인해야 교체 직전에 들어온 토큰이 누락되지 않는다.
+    private void add(String id) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(id);
+        }
+        current.put(id);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.filter.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(Math.max(EXPECTED_INSERTIONS, lastEntryCount * 2), FALSE_POSITIVE_RATE);
+        rebuilding = next;
+        try {
+            long count = 0;
+            try (Cursor<String> buckets = redisTemplate.scan(scanOptions(JwtBlacklistService.BUCKET_PREFIX + "*"))) {
+                while (buckets.hasNext()) {
+                    try (Cursor<String> ids = redisTemplate.opsForSet().scan(buckets.next(), scanOptions("*"))) {
+                        while (ids.hasNext()) {
+                            next.put(ids.next());
+                            count++;
+                        }
+                    }
+                }
+            }
+            // 이전 형식 키(토큰 원문)는 다이제스트로 바꿔 넣는다. JWT 는 항상 "eyJ" 로 시작한다.
+            try (Cursor<String> legacyKeys = redisTemplate.scan(scanOptions(JwtBlacklistService.LEGACY_PREFIX + "eyJ*"))) {
+                while (legacyKeys.hasNext()) {
+                    String token = legacyKeys.next().substring(JwtBlacklistService.LEGACY_PREFIX.length());
+                    next.put(JwtBlacklistService.digest(token));
+                    count++;
+                }
+            }
+            current = next;
+            lastEntryCount = count;
+            synced = true;
+            log.debug("블랙리스트 필터 재구성 완료. 항목 수: {}", count);
+        } catch (RuntimeException e) {
+            synced = false;
+            log.warn("블랙리스트 필터 재구성 실패. 다음 재구성까지 Redis 를 직접 조회합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private static ScanOptions scanOptions(String pattern) {
+        return ScanOptions.scanOptions()
+                .match(pattern)
+                .count(1000)
+                .build();
+    }
+}
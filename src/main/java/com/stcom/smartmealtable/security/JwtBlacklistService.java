@@ -1,55 +1,91 @@
 package com.stcom.smartmealtable.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtParser;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 로그아웃된 토큰을 관리한다.
+ * <p>
+ * 토큰 원문 대신 jti(없으면 토큰의 128비트 다이제스트)를 토큰 만료 시각 기준 1시간 단위 Set 에 저장한다.
+ * 버킷 키는 버킷이 끝나는 시각에 통째로 만료된다.
+ * <p>
+ * 이전 형식(jwt:blacklist:{토큰 원문}) 키는 jti 가 없는 토큰을 조회할 때만 함께 확인하며,
+ * 리프레시 토큰 수명(14일)이 지나면 모두 만료되어 더 이상 읽을 필요가 없다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JwtBlacklistService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    static final String LEGACY_PREFIX = "jwt:blacklist:";
+    static final String BUCKET_PREFIX = "jwt:blacklist:exp:";
+    static final long BUCKET_MILLIS = 1000 * 60 * 60;
 
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtBlacklistFilter blacklistFilter;
+    // JwtTokenService 와 같은 파서(JwtConfig)
+    private final JwtParser jwtParser;
 
     public void addToBlacklist(String token) {
         if (token != null && token.startsWith("Bearer ")) {
             token = token.substring(7);
         }
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
         Date expiration = claims.getExpiration();
-        long ttl = expiration.getTime() - System.currentTimeMillis();
 
-        String key = BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+        String id = blacklistId(token, claims);
+        long bucket = expiration.getTime() / BUCKET_MILLIS;
+        String key = BUCKET_PREFIX + bucket;
+        redisTemplate.opsForSet().add(key, id);
+        redisTemplate.expireAt(key, new Date((bucket + 1) * BUCKET_MILLIS));
+        blacklistFilter.publish(id);
         log.info("토큰이 블랙리스트에 추가되었습니다. 만료 시간: {}", expiration);
     }
 
-    public boolean isBlacklisted(String token) {
+    /**
+     * 서명 검증을 마친 토큰과 클레임으로 블랙리스트 여부를 확인한다.
+     */
+    public boolean isBlacklisted(String token, Claims claims) {
         if (token != null && token.startsWith("Bearer ")) {
             token = token.substring(7);
         }
 
-        String key = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        String rawToken = token;
+        String id = blacklistId(rawToken, claims);
+        return blacklistFilter.isBlacklisted(id, () -> isStored(rawToken, id, claims));
+    }
+
+    private boolean isStored(String token, String id, Claims claims) {
+        String key = BUCKET_PREFIX + claims.getExpiration().getTime() / BUCKET_MILLIS;
+        if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, id))) {
+            return true;
+        }
+        // jti 도입 이전에 발급된 토큰은 이전 형식의 키로 등록되어 있을 수 있다.
+        return claims.getId() == null && Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_PREFIX + token));
+    }
+
+    static String blacklistId(String token, Claims claims) {
+        return claims.getId() != null ? claims.getId() : digest(token);
+    }
+
+    // SHA-256 의 앞 128비트를 base64url 로 인코딩한 22자 식별자
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -1,29 +1,78 @@
 package com.stcom.smartmealtable.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.infrastructure.dto.JwtTokenResponseDto;
 import com.stcom.smartmealtable.repository.MemberRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class JwtTokenService {
 
+    // 인터셉터에서 검증한 클레임을 ArgumentResolver 로 넘기는 요청 속성 이름
+    public static final String CLAIMS_ATTRIBUTE = JwtTokenService.class.getName() + ".CLAIMS";
+
+    private static final int MAX_CACHED_TOKENS = 10_000;
+    private static final Duration MAX_CLAIMS_TTL = Duration.ofMinutes(5);
+
     private final MemberRepository memberRepository;
     private final JwtBlacklistService jwtBlacklistService;
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        // 서명 검증이 끝난 클레임을 토큰 해시로 보관한다. 토큰 만료 시각을 넘겨 보관하지 않는다.
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_TOKENS)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        if (claims.getExpiration() == null) {
+                            return MAX_CLAIMS_TTL.toNanos();
+                        }
+                        long untilExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return Math.max(0, Math.min(MAX_CLAIMS_TTL.toNanos(),
+                                Duration.ofMillis(untilExpiration).toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String createAccessToken(Long memberId, Long profileId) {
         return createToken(String.valueOf(memberId), profileId, 1000 * 60 * 60);
@@ -49,12 +98,22 @@ public class JwtTokenService {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(newTokenId())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // 블랙리스트 키로 쓰이는 jti. 128비트 난수를 base64url 로 인코딩한 22자 문자열이다.
+    private static String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
     public JwtTokenResponseDto createTokenDto(Long memberId, Long profileId) {
         return new JwtTokenResponseDto(
                 createAccessToken(memberId, profileId),
@@ -64,21 +123,22 @@ public class JwtTokenService {
         );
     }
 
-    public void validateToken(String token) {
+    /**
+     * 서명과 블랙리스트 여부를 확인하고 클레임을 돌려준다.
+     * 블랙리스트는 매번 확인하고, 서명 검증 결과만 캐시에서 재사용한다.
+     */
+    public Claims validateToken(String token) {
         // Bearer 접두사 제거
         if (token.startsWith("Bearer ")) {
             token = token.substring(7);
         }
 
-        if (jwtBlacklistService.isBlacklisted(token)) {
+        Claims claims = verify(token);
+        if (jwtBlacklistService.isBlacklisted(token, claims)) {
             throw new IllegalArgumentException("블랙리스트에 추가된 토큰으로 접근하였습니다");
         }
 
-        // 토큰 검증
-        Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token);
+        return claims;
     }
 
     public Claims extractClaims(String token) {
@@ -87,10 +147,20 @@ public class JwtTokenService {
             token = token.substring(7);
         }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token);
+    }
+
+    private Claims verify(String token) {
+        return verifiedClaims.get(tokenHash(token), key -> jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    // 캐시 키로 토큰 원문 대신 SHA-256 해시를 사용한다.
+    private static String tokenHash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -5,14 +5,25 @@ import static java.time.DayOfWeek.MONDAY;
 import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.infrastructure.config.CacheConfig;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
-import java.math.BigDecimal;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
+import com.stcom.smartmealtable.service.event.DailyBudgetChangedEvent;
+import com.stcom.smartmealtable.service.event.MonthlyBudgetChangedEvent;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +34,11 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final MemberProfileRepository memberProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // true 이면 기본 일일 예산 등록 시 날짜별 행을 만들지 않고 프로필에 기본 한도만 저장한다.
+    @Value("${budget.daily.lazy-provisioning:false}")
+    private boolean lazyDailyProvisioning;
 
     public DailyBudget findRecentDailyBudgetByMemberProfileId(Long memberProfileId) {
         return budgetRepository.findFirstDailyBudgetByMemberProfileId(memberProfileId)
@@ -38,35 +54,81 @@ public class BudgetService {
     public void saveMonthlyBudgetCustom(Long memberProfileId, Long limit) {
         MemberProfile profile = memberProfileRepository.findById(memberProfileId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
-        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, BigDecimal.valueOf(limit), YearMonth.now());
+        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, limit, YearMonth.now());
         budgetRepository.save(monthlyBudget);
+        eventPublisher.publishEvent(new MonthlyBudgetChangedEvent(memberProfileId, monthlyBudget.getYearMonth()));
     }
 
     @Transactional
     public void saveDailyBudgetCustom(Long memberProfileId, Long limit) {
         MemberProfile profile = memberProfileRepository.findById(memberProfileId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
-        DailyBudget dailyBudget = new DailyBudget(profile, BigDecimal.valueOf(limit), LocalDate.now());
+        DailyBudget dailyBudget = new DailyBudget(profile, limit, LocalDate.now());
         budgetRepository.save(dailyBudget);
+        eventPublisher.publishEvent(DailyBudgetChangedEvent.of(memberProfileId, dailyBudget.getDate()));
     }
 
 
+    // 행이 없는 날짜는 프로필의 기본 일일 한도로 만든 가상 예산(저장하지 않음)을 돌려준다.
     public DailyBudget getDailyBudgetBy(Long profileId, LocalDate date) {
-        return budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profileId, date).orElseThrow(() ->
-                new IllegalArgumentException("예산이 존재하지 않습니다.")
-        );
+        return budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profileId, date)
+                .or(() -> memberProfileRepository.findById(profileId)
+                        .filter(profile -> profile.getDefaultDailyLimitOn(date) != null)
+                        .map(profile -> new DailyBudget(profile, profile.getDefaultDailyLimitOn(date), date)))
+                .orElseThrow(() -> new IllegalArgumentException("예산이 존재하지 않습니다."));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.DAILY_BUDGET, key = "#profileId + ':' + #date")
+    public BudgetAmountDto getDailyBudgetAmountBy(Long profileId, LocalDate date) {
+        return budgetRepository.findDailyBudgetAmountByMemberProfileIdAndDate(profileId, date)
+                .or(() -> memberProfileRepository.findDefaultDailyLimitByIdOn(profileId, date)
+                        .map(limit -> new BudgetAmountDto(0, limit)))
+                .orElseThrow(() -> new IllegalArgumentException("예산이 존재하지 않습니다."));
+    }
+
+    /**
+     * 해당 날짜의 일일 예산을 찾고, 없으면 프로필의 기본 일일 한도로 지금 생성한다.
+     * 기본 한도가 없는 프로필이면 빈 값을 돌려준다.
+     */
+    @Transactional
+    public Optional<DailyBudget> findOrCreateDailyBudget(Long profileId, LocalDate date) {
+        Optional<DailyBudget> stored = budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profileId, date);
+        if (stored.isPresent()) {
+            return stored;
+        }
+
+        // 같은 날의 첫 지출이 동시에 들어와도 한 행만 생기도록 프로필 행을 잠근 뒤 다시 확인한다.
+        Optional<MemberProfile> lazyProfile = memberProfileRepository.findByIdForUpdate(profileId)
+                .filter(profile -> profile.getDefaultDailyLimitOn(date) != null);
+        if (lazyProfile.isEmpty()) {
+            return Optional.empty();
+        }
+        MemberProfile profile = lazyProfile.get();
+        return Optional.of(budgetRepository.findDailyBudgetForUpdate(profileId, date)
+                .orElseGet(() -> budgetRepository.save(
+                        new DailyBudget(profile, profile.getDefaultDailyLimitOn(date), date))));
     }
 
     @Transactional
     public void registerDefaultDailyBudgetBy(Long profileId, Long dailyLimit, LocalDate startDate) {
-        MemberProfile profile = memberProfileRepository.findById(profileId)
+        // 첫 지출 시 일일 예산을 만드는 findOrCreateDailyBudget 과 같은 순서로 프로필 행을 잠근다.
+        MemberProfile profile = memberProfileRepository.findByIdForUpdate(profileId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
+        if (lazyDailyProvisioning) {
+            freezeDefaultDays(profile, startDate);
+            profile.changeDefaultDailyLimit(dailyLimit, startDate);
+            // 시작일 이후의 행 없는 날짜는 끝없이 새 한도로 바뀌므로 구간을 정하지 않고 무효화한다.
+            eventPublisher.publishEvent(DailyBudgetChangedEvent.from(profileId, startDate));
+            return;
+        }
         // 일일 예산은 오늘 ~ 이번달 말일까지 디폴트 daily Limit로 여러 개 생성해준다.
         List<DailyBudget> budgets = new ArrayList<>();
         for (LocalDate date = startDate; date.getMonth() == startDate.getMonth(); date = date.plusDays(1)) {
-            budgets.add(new DailyBudget(profile, BigDecimal.valueOf(dailyLimit), date));
+            budgets.add(new DailyBudget(profile, dailyLimit, date));
         }
         budgetRepository.saveAll(budgets);
+        eventPublisher.publishEvent(new DailyBudgetChangedEvent(profileId, startDate,
+                YearMonth.from(startDate).atEndOfMonth()));
     }
 
     @Transactional
@@ -76,8 +138,9 @@ public class BudgetService {
         MemberProfile profile = memberProfileRepository.findById(profileId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
         // 월간 예산은 이번달에 한 번만 생성해준다.
-        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, BigDecimal.valueOf(monthlyLimit), startYearMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, monthlyLimit, startYearMonth);
         budgetRepository.save(monthlyBudget);
+        eventPublisher.publishEvent(new MonthlyBudgetChangedEvent(profileId, startYearMonth));
     }
 
     public MonthlyBudget getMonthlyBudgetBy(Long profileId, YearMonth yearMonth) {
@@ -85,10 +148,40 @@ public class BudgetService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
     }
 
+    @Cacheable(cacheNames = CacheConfig.MONTHLY_BUDGET, key = "#profileId + ':' + #yearMonth")
+    public BudgetAmountDto getMonthlyBudgetAmountBy(Long profileId, YearMonth yearMonth) {
+        return budgetRepository.findMonthlyBudgetAmountByMemberProfileIdAndYearMonth(profileId, yearMonth)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"));
+    }
+
     public List<DailyBudget> getDailyBudgetsByWeek(Long profileId, LocalDate date) {
         LocalDate startOfWeek = date.with(MONDAY);
         LocalDate endOfWeek = startOfWeek.plusDays(6);
-        return budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(profileId, startOfWeek, endOfWeek);
+        List<DailyBudget> stored = budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(profileId,
+                startOfWeek, endOfWeek);
+        if (stored.size() == 7) {
+            return stored;
+        }
+        return memberProfileRepository.findById(profileId)
+                .filter(profile -> profile.getDefaultDailyLimit() != null)
+                .map(profile -> fillMissingDays(profile, startOfWeek, endOfWeek, stored))
+                .orElse(stored);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.WEEKLY_BUDGET,
+            key = "#profileId + ':' + #date.with(T(java.time.DayOfWeek).MONDAY)")
+    public List<BudgetAmountDto> getDailyBudgetAmountsByWeek(Long profileId, LocalDate date) {
+        LocalDate startOfWeek = date.with(MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+        List<BudgetAmountDto> stored = budgetRepository.findDailyBudgetAmountsByMemberProfileIdAndDateBetween(
+                profileId, startOfWeek, endOfWeek);
+        if (stored.size() == 7 || memberProfileRepository.findDefaultDailyLimitById(profileId).isEmpty()) {
+            return stored;
+        }
+        // 프로젝션에는 날짜가 없으므로 빈 날짜를 채울 때는 엔티티로 다시 조회한다.
+        return getDailyBudgetsByWeek(profileId, date).stream()
+                .map(budget -> new BudgetAmountDto(budget.getSpendAmount(), budget.getLimit()))
+                .toList();
     }
 
     @Transactional
@@ -96,18 +189,68 @@ public class BudgetService {
         budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profileId,
                         yearMonth)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"))
-                .changeLimit(BigDecimal.valueOf(limit));
+                .changeLimit(limit);
+        eventPublisher.publishEvent(new MonthlyBudgetChangedEvent(profileId, yearMonth));
     }
 
     @Transactional
     public void editDailyBudgetCustom(Long profileId, LocalDate date, Long limit) {
-        budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profileId, date)
+        findOrCreateDailyBudget(profileId, date)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로필로 접근"))
-                .changeLimit(BigDecimal.valueOf(limit));
+                .changeLimit(limit);
+        eventPublisher.publishEvent(DailyBudgetChangedEvent.of(profileId, date));
     }
 
     public List<MonthlyBudget> getMonthlyBudgetsBy(Long profileId, LocalDate parse, int count) {
         return budgetRepository.findMonthlyBudgetsByMemberProfileIdAndYearMonthBefore(
                 profileId, YearMonth.from(parse)).stream().limit(count).toList();
     }
+
+    private List<DailyBudget> fillMissingDays(MemberProfile profile, LocalDate start, LocalDate end,
+                                              List<DailyBudget> stored) {
+        Map<LocalDate, DailyBudget> budgetsByDate = stored.stream()
+                .collect(Collectors.toMap(DailyBudget::getDate, Function.identity()));
+        List<DailyBudget> budgets = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            DailyBudget budget = budgetsByDate.get(date);
+            Long defaultLimit = profile.getDefaultDailyLimitOn(date);
+            if (budget != null) {
+                budgets.add(budget);
+            } else if (defaultLimit != null) {
+                budgets.add(new DailyBudget(profile, defaultLimit, date));
+            }
+        }
+        return budgets;
+    }
+
+    /**
+     * 기본 한도를 바꾸기 전에, 지금 기본 한도로 대신하던 startDate 이전 날짜를 그 한도로 저장해 둔다.
+     * 저장하지 않으면 지난 날짜의 한도까지 새 기본 한도로 바뀐다.
+     * 적용 시작일이 없는 기존 프로필은 프로필 생성일부터 저장한다.
+     */
+    private void freezeDefaultDays(MemberProfile profile, LocalDate startDate) {
+        Long previousLimit = profile.getDefaultDailyLimit();
+        if (previousLimit == null) {
+            return;
+        }
+        LocalDate from = profile.getDefaultDailyLimitStartDate() != null
+                ? profile.getDefaultDailyLimitStartDate()
+                : profile.getCreatedDate().toLocalDate();
+        LocalDate to = startDate.minusDays(1);
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        Set<LocalDate> stored = budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(
+                        profile.getId(), from, to).stream()
+                .map(DailyBudget::getDate)
+                .collect(Collectors.toSet());
+        List<DailyBudget> budgets = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!stored.contains(date)) {
+                budgets.add(new DailyBudget(profile, previousLimit, date));
+            }
+        }
+        budgetRepository.saveAll(budgets);
+    }
 }
@@ -0,0 +1,145 @@
+package com.stcom.smartmealtable.service;
+
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageManager;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseResult;
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import com.stcom.smartmealtable.service.dto.ExpenditureImportResultDto;
+import com.stcom.smartmealtable.service.dto.ExpenditureRegisterDto;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto.Status;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 승인 문자 여러 건을 파싱해 지출로 등록한다.
+ * 파싱은 트랜잭션 밖에서 하고, 등록은 ExpenditureService 의 배치 등록 한 번으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreditMessageImportService {
+
+    private final CreditMessageManager creditMessageManager;
+    private final ExpenditureService expenditureService;
+    private final BudgetRepository budgetRepository;
+    private final MemberProfileRepository memberProfileRepository;
+
+    /**
+     * @param receivedAts 문자별 수신 시각. messages 와 같은 순서이며, 없으면 현재 시각으로 본다.
+     */
+    public List<MessageImportResultDto> importMessages(Long profileId, List<String> messages,
+                                                       List<LocalDateTime> receivedAts) {
+        List<CreditMessageParseResult> parsed = creditMessageManager.parseMessages(messages, receivedAts);
+
+        List<MessageImportResultDto> results = new ArrayList<>(parsed.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            CreditMessageParseResult result = parsed.get(i);
+            results.add(result.isSuccess()
+                    ? new MessageImportResultDto(i, Status.REGISTERED, result.expenditure(), null)
+                    : new MessageImportResultDto(i, Status.FAILED, null, result.errorMessage()));
+        }
+
+        rejectMonthsWithoutBudget(profileId, registered(results));
+        rejectDaysWithoutBudget(profileId, registered(results));
+
+        // 같은 승인(카드사, 일시, 금액, 가맹점)이 요청 안에 여러 번 있거나 이미 등록되어 있으면 중복으로 돌려준다.
+        List<MessageImportResultDto> toRegister = registered(results);
+        if (toRegister.isEmpty()) {
+            return results;
+        }
+        try {
+            ExpenditureImportResultDto imported = expenditureService.importExpenditures(profileId,
+                    toRegister.stream()
+                            .map(MessageImportResultDto::getExpenditure)
+                            .map(dto -> new ExpenditureRegisterDto(dto.getSpentDate(), dto.getAmount(),
+                                    dto.getTradeName(), dto.getVendor()))
+                            .toList());
+            imported.getDuplicateIndexes().forEach(i -> toRegister.get(i).setStatus(Status.DUPLICATE));
+        } catch (IllegalArgumentException e) {
+            log.warn("승인 문자 일괄 등록 실패. profileId={}", profileId, e);
+            toRegister.forEach(result -> {
+                result.setStatus(Status.FAILED);
+                result.setErrorMessage(e.getMessage());
+            });
+        }
+        return results;
+    }
+
+    // 월 예산이 없는 달의 지출은 배치 전체를 실패시키므로 미리 걸러낸다.
+    private void rejectMonthsWithoutBudget(Long profileId, List<MessageImportResultDto> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        YearMonth from = candidates.stream().map(r -> YearMonth.from(r.getExpenditure().getSpentDate()))
+                .min(Comparator.naturalOrder()).orElseThrow();
+        YearMonth to = candidates.stream().map(r -> YearMonth.from(r.getExpenditure().getSpentDate()))
+                .max(Comparator.naturalOrder()).orElseThrow();
+        Set<YearMonth> budgetMonths = budgetRepository
+                .findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(profileId, from, to).stream()
+                .map(MonthlyBudget::getYearMonth)
+                .collect(Collectors.toSet());
+
+        for (MessageImportResultDto result : candidates) {
+            YearMonth yearMonth = YearMonth.from(result.getExpenditure().getSpentDate());
+            if (!budgetMonths.contains(yearMonth)) {
+                result.setStatus(Status.FAILED);
+                result.setErrorMessage("월별 예산이 존재하지 않습니다. " + yearMonth);
+            }
+        }
+    }
+
+    // 일일 예산 행도 없고 기본 일일 한도로 대신할 수도 없는 날짜(기본 한도 적용 시작일 이전 등)의 지출을 미리 걸러낸다.
+    private void rejectDaysWithoutBudget(Long profileId, List<MessageImportResultDto> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        MemberProfile profile = memberProfileRepository.findById(profileId).orElse(null);
+        List<MessageImportResultDto> uncovered = candidates.stream()
+                .filter(r -> profile == null || profile.getDefaultDailyLimitOn(spentDay(r)) == null)
+                .toList();
+        if (uncovered.isEmpty()) {
+            return;
+        }
+
+        LocalDate from = uncovered.stream().map(CreditMessageImportService::spentDay)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = uncovered.stream().map(CreditMessageImportService::spentDay)
+                .max(Comparator.naturalOrder()).orElseThrow();
+        Set<LocalDate> budgetDates = budgetRepository
+                .findDailyBudgetsByMemberProfileIdAndDateBetween(profileId, from, to).stream()
+                .map(DailyBudget::getDate)
+                .collect(Collectors.toSet());
+
+        for (MessageImportResultDto result : uncovered) {
+            LocalDate date = spentDay(result);
+            if (!budgetDates.contains(date)) {
+                result.setStatus(Status.FAILED);
+                result.setErrorMessage("일일 예산이 존재하지 않습니다. " + date);
+            }
+        }
+    }
+
+    private static LocalDate spentDay(MessageImportResultDto result) {
+        return result.getExpenditure().getSpentDate().toLocalDate();
+    }
+
+    private static List<MessageImportResultDto> registered(List<MessageImportResultDto> results) {
+        return results.stream()
+                .filter(result -> result.getStatus() == Status.REGISTERED)
+                .toList();
+    }
+}
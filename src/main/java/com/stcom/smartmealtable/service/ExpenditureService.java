@@ -1,18 +1,38 @@
 package com.stcom.smartmealtable.service;
 
+import com.stcom.smartmealtable.domain.Budget.ApprovalFingerprint;
 import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.Expenditure;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.infrastructure.cache.ApprovalFingerprintRegistry;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.ExpenditureRepository;
-import java.math.BigDecimal;
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import com.stcom.smartmealtable.repository.dto.SpendRollupDelta;
+import com.stcom.smartmealtable.service.dto.ExpenditureImportResultDto;
+import com.stcom.smartmealtable.service.dto.ExpenditureRegisterDto;
+import com.stcom.smartmealtable.service.event.DailyBudgetChangedEvent;
+import com.stcom.smartmealtable.service.event.MonthlyBudgetChangedEvent;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,17 +44,39 @@ public class ExpenditureService {
 
     private final ExpenditureRepository expenditureRepository;
     private final BudgetRepository budgetRepository;
+    private final BudgetService budgetService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApprovalFingerprintRegistry approvalRegistry;
+    private final SpendRollupRepository spendRollupRepository;
 
     @Transactional
     public void registerExpenditure(Long profileId,
                                     LocalDateTime spentDate,
                                     Long amount,
                                     String tradeName) {
+        registerExpenditure(profileId, spentDate, amount, tradeName, null);
+    }
+
+    /**
+     * 카드사(vendor)가 있으면 승인 문자로 등록하는 지출로 보고, 같은 승인이 이미 등록되어 있으면 예외를 던진다.
+     */
+    @Transactional
+    public void registerExpenditure(Long profileId,
+                                    LocalDateTime spentDate,
+                                    Long amount,
+                                    String tradeName,
+                                    String vendor) {
+
+        String fingerprint = (vendor == null) ? null
+                : ApprovalFingerprint.of(profileId, vendor, spentDate, amount, tradeName);
+        if (fingerprint != null && !approvalRegistry.claim(fingerprint)) {
+            throw new IllegalArgumentException("이미 등록된 승인 내역입니다.");
+        }
 
         LocalDate date = spentDate.toLocalDate();
         YearMonth yearMonth = YearMonth.from(spentDate);
 
-        DailyBudget dailyBudget = budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profileId, date)
+        DailyBudget dailyBudget = budgetService.findOrCreateDailyBudget(profileId, date)
                 .orElseThrow(() -> new IllegalArgumentException("일일 예산이 존재하지 않습니다."));
         MonthlyBudget monthlyBudget = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profileId,
                         yearMonth)
@@ -46,12 +88,132 @@ public class ExpenditureService {
                 .tradeName(tradeName)
                 .dailyBudget(dailyBudget)
                 .monthlyBudget(monthlyBudget)
+                .approvalFingerprint(fingerprint)
                 .build();
-        expenditureRepository.save(expenditure);
+        try {
+            expenditureRepository.save(expenditure);
+        } catch (DataIntegrityViolationException e) {
+            if (fingerprint == null) {
+                throw e;
+            }
+            throw new IllegalArgumentException("이미 등록된 승인 내역입니다.", e);
+        }
+        spendRollupRepository.addSpend(List.of(SpendRollupDelta.of(profileId, spentDate, tradeName, amount, 1)));
+
+        addSpendAmount(dailyBudget, monthlyBudget, amount);
+    }
+
+    /**
+     * 여러 건의 지출을 한 번에 등록한다. 필요한 예산은 구간 조회 한 번씩으로 가져오고,
+     * 지출은 JDBC 배치로 저장한 뒤 예산별 합계를 한 번씩만 반영한다.
+     * 이미 등록된 승인 문자 지출은 건너뛰고 그 인덱스를 돌려준다.
+     */
+    @Transactional
+    public ExpenditureImportResultDto importExpenditures(Long profileId, List<ExpenditureRegisterDto> allRequests) {
+        String[] fingerprints = new String[allRequests.size()];
+        Set<Integer> duplicates = findDuplicateApprovals(profileId, allRequests, fingerprints);
+        List<Integer> duplicateIndexes = duplicates.stream().sorted().toList();
+
+        List<ExpenditureRegisterDto> requests = new ArrayList<>(allRequests.size());
+        List<String> requestFingerprints = new ArrayList<>(allRequests.size());
+        for (int i = 0; i < allRequests.size(); i++) {
+            if (!duplicates.contains(i)) {
+                requests.add(allRequests.get(i));
+                requestFingerprints.add(fingerprints[i]);
+            }
+        }
+        if (requests.isEmpty()) {
+            return new ExpenditureImportResultDto(0, duplicateIndexes);
+        }
+
+        LocalDate from = requests.stream().map(r -> r.getSpentDate().toLocalDate())
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = requests.stream().map(r -> r.getSpentDate().toLocalDate())
+                .max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<LocalDate, DailyBudget> dailyBudgets = budgetRepository
+                .findDailyBudgetsByMemberProfileIdAndDateBetween(profileId, from, to).stream()
+                .collect(Collectors.toMap(DailyBudget::getDate, Function.identity()));
+        Map<YearMonth, MonthlyBudget> monthlyBudgets = budgetRepository
+                .findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(profileId, YearMonth.from(from),
+                        YearMonth.from(to)).stream()
+                .collect(Collectors.toMap(MonthlyBudget::getYearMonth, Function.identity()));
+
+        List<Expenditure> expenditures = new ArrayList<>(requests.size());
+        Map<Long, Long> spendDeltas = new HashMap<>();
+        Set<LocalDate> changedDates = new HashSet<>();
+        Map<String, SpendRollupDelta> rollupDeltas = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ExpenditureRegisterDto request = requests.get(i);
+            LocalDate date = request.getSpentDate().toLocalDate();
+            DailyBudget dailyBudget = dailyBudgets.computeIfAbsent(date, missing ->
+                    budgetService.findOrCreateDailyBudget(profileId, missing)
+                            .orElseThrow(() -> new IllegalArgumentException("일일 예산이 존재하지 않습니다. " + missing)));
+            MonthlyBudget monthlyBudget = monthlyBudgets.get(YearMonth.from(date));
+            if (monthlyBudget == null) {
+                throw new IllegalArgumentException("월별 예산이 존재하지 않습니다. " + YearMonth.from(date));
+            }
+
+            expenditures.add(Expenditure.builder()
+                    .spentDate(request.getSpentDate())
+                    .amount(request.getAmount())
+                    .tradeName(request.getTradeName())
+                    .dailyBudget(dailyBudget)
+                    .monthlyBudget(monthlyBudget)
+                    .approvalFingerprint(requestFingerprints.get(i))
+                    .build());
+            spendDeltas.merge(dailyBudget.getId(), request.getAmount(), Long::sum);
+            spendDeltas.merge(monthlyBudget.getId(), request.getAmount(), Long::sum);
+            SpendRollupDelta rollupDelta = SpendRollupDelta.of(profileId, request.getSpentDate(),
+                    request.getTradeName(), request.getAmount(), 1);
+            rollupDeltas.merge(rollupDelta.key(), rollupDelta, SpendRollupDelta::plus);
+            changedDates.add(date);
+        }
 
-        BigDecimal spent = BigDecimal.valueOf(amount);
-        dailyBudget.addSpent(spent);
-        monthlyBudget.addSpent(spent);
+        expenditureRepository.bulkInsert(expenditures);
+        spendRollupRepository.addSpend(List.copyOf(rollupDeltas.values()));
+        spendDeltas.forEach((budgetId, delta) ->
+                budgetRepository.addSpendAmount(List.of(budgetId), delta));
+
+        changedDates.forEach(date -> eventPublisher.publishEvent(DailyBudgetChangedEvent.of(profileId, date)));
+        changedDates.stream().map(YearMonth::from).distinct().forEach(yearMonth ->
+                eventPublisher.publishEvent(new MonthlyBudgetChangedEvent(profileId, yearMonth)));
+        return new ExpenditureImportResultDto(expenditures.size(), duplicateIndexes);
+    }
+
+    /**
+     * 승인 문자 요청의 지문을 fingerprints 에 채우고, 이미 등록된 승인의 인덱스를 돌려준다.
+     * 같은 요청 안에서는 첫 건만 남긴다. 최근 등록분은 Redis 에서, 그 이전 등록분은 유니크 인덱스 조회로 거른다.
+     */
+    private Set<Integer> findDuplicateApprovals(Long profileId, List<ExpenditureRegisterDto> requests,
+                                                String[] fingerprints) {
+        Set<Integer> duplicates = new HashSet<>();
+        Map<String, Integer> firstIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ExpenditureRegisterDto request = requests.get(i);
+            if (request.getVendor() == null) {
+                continue;
+            }
+            fingerprints[i] = ApprovalFingerprint.of(profileId, request.getVendor(), request.getSpentDate(),
+                    request.getAmount(), request.getTradeName());
+            if (firstIndexes.putIfAbsent(fingerprints[i], i) != null) {
+                duplicates.add(i);
+            }
+        }
+        if (firstIndexes.isEmpty()) {
+            return duplicates;
+        }
+
+        Set<String> registered = new HashSet<>(approvalRegistry.claimAll(firstIndexes.keySet()));
+        List<String> unknown = firstIndexes.keySet().stream()
+                .filter(fingerprint -> !registered.contains(fingerprint))
+                .toList();
+        if (!unknown.isEmpty()) {
+            registered.addAll(expenditureRepository.findApprovalFingerprintsIn(unknown));
+        }
+
+        registered.forEach(fingerprint -> duplicates.add(firstIndexes.get(fingerprint)));
+        return duplicates;
     }
 
     public Slice<Expenditure> getExpenditures(Long profileId, int page, int size) {
@@ -59,6 +221,24 @@ public class ExpenditureService {
         return expenditureRepository.findByDailyBudget_MemberProfile_IdOrderBySpentDateDesc(profileId, pageable);
     }
 
+    /**
+     * 커서(마지막으로 받은 지출의 spentDate, id) 다음부터 size 개를 조회한다.
+     * 커서가 없으면 가장 최근 지출부터 조회한다.
+     */
+    public Slice<Expenditure> scrollExpenditures(Long profileId, LocalDateTime cursorSpentDate, Long cursorId,
+                                                 int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 읽는다.
+        Pageable pageable = Pageable.ofSize(size + 1);
+        List<Expenditure> expenditures = (cursorSpentDate == null || cursorId == null)
+                ? expenditureRepository.findFirstScrollByMemberProfileId(profileId, pageable)
+                : expenditureRepository.findNextScrollByMemberProfileId(profileId, cursorSpentDate, cursorId,
+                        pageable);
+
+        boolean hasNext = expenditures.size() > size;
+        List<Expenditure> content = hasNext ? expenditures.subList(0, size) : expenditures;
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+    }
+
     @Transactional
     public void editExpenditure(Long profileId, Long expenditureId, LocalDateTime spentDate, Long amount,
                                 String tradeName) {
@@ -68,8 +248,15 @@ public class ExpenditureService {
         if (!expenditure.getDailyBudget().getMemberProfile().getId().equals(profileId)) {
             throw new IllegalArgumentException("해당 지출 내역 등록자와 접근자가 다릅니다.");
         }
-        
-        expenditure.edit(spentDate, amount, tradeName);
+
+        SpendRollupDelta before = SpendRollupDelta.of(profileId, expenditure.getSpentDate(),
+                expenditure.getTradeName(), -expenditure.getAmount(), -1);
+        long difference = expenditure.changeDetail(spentDate, amount, tradeName);
+        spendRollupRepository.addSpend(List.of(before, SpendRollupDelta.of(profileId, spentDate, tradeName,
+                amount, 1)));
+        if (difference != 0) {
+            addSpendAmount(expenditure.getDailyBudget(), expenditure.getMonthlyBudget(), difference);
+        }
     }
 
     @Transactional
@@ -84,10 +271,28 @@ public class ExpenditureService {
             throw new IllegalArgumentException("해당 지출 내역 등록자와 접근자가 다릅니다.");
         }
 
-        BigDecimal spent = BigDecimal.valueOf(expenditure.getAmount());
-        dailyBudget.subtractSpent(spent);
-        monthlyBudget.subtractSpent(spent);
-
         expenditureRepository.delete(expenditure);
+        spendRollupRepository.addSpend(List.of(SpendRollupDelta.of(profileId, expenditure.getSpentDate(),
+                expenditure.getTradeName(), -expenditure.getAmount(), -1)));
+        if (expenditure.getApprovalFingerprint() != null) {
+            approvalRegistry.releaseAfterCommit(expenditure.getApprovalFingerprint());
+        }
+
+        addSpendAmount(dailyBudget, monthlyBudget, -expenditure.getAmount());
+    }
+
+    // 일일/월별 예산 두 행을 한 번의 UPDATE 로 증감한다.
+    private void addSpendAmount(DailyBudget dailyBudget, MonthlyBudget monthlyBudget, long amount) {
+        // 벌크 업데이트가 영속성 컨텍스트를 비우므로 이벤트에 필요한 값은 먼저 읽어 둔다.
+        Long profileId = dailyBudget.getMemberProfile().getId();
+        LocalDate date = dailyBudget.getDate();
+
+        int updated = budgetRepository.addSpendAmount(List.of(dailyBudget.getId(), monthlyBudget.getId()), amount);
+        if (updated != 2) {
+            throw new IllegalStateException("예산 사용 금액 반영에 실패했습니다.");
+        }
+
+        eventPublisher.publishEvent(DailyBudgetChangedEvent.of(profileId, date));
+        eventPublisher.publishEvent(new MonthlyBudgetChangedEvent(profileId, YearMonth.from(date)));
     }
 }
@@ -6,8 +6,13 @@ import com.stcom.smartmealtable.domain.group.SchoolGroup;
 import com.stcom.smartmealtable.domain.group.SchoolType;
 import com.stcom.smartmealtable.infrastructure.KakaoAddressApiService;
 import com.stcom.smartmealtable.infrastructure.dto.AddressRequest;
+import com.stcom.smartmealtable.infrastructure.search.GroupNameIndex;
+import com.stcom.smartmealtable.infrastructure.search.GroupNameIndexListener;
 import com.stcom.smartmealtable.repository.GroupRepository;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
@@ -20,6 +25,7 @@ public class GroupServiceImpl implements GroupService {
 
     private final GroupRepository groupRepository;
     private final KakaoAddressApiService addressApiService;
+    private final GroupNameIndex groupNameIndex;
 
     @Override
     public Group findGroupByGroupId(Long groupId) {
@@ -29,7 +35,21 @@ public class GroupServiceImpl implements GroupService {
 
     @Override
     public List<Group> findGroupsByKeyword(String keyword) {
-        return groupRepository.findByNameContaining(keyword, Limit.of(10));
+        // 이 트랜잭션에서 바꾼 그룹은 커밋 전까지 인덱스에 없으므로 DB 에서 찾는다.
+        if (keyword == null || keyword.isBlank() || GroupNameIndexListener.hasPendingChanges(groupNameIndex)) {
+            return groupRepository.findByNameContaining(keyword, Limit.of(10));
+        }
+        // 순위는 인덱스가 정하고, 엔티티는 ID 로 한 번에 읽어 그 순서대로 돌려준다.
+        List<Long> rankedIds = groupNameIndex.search(keyword, 10);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Group> groupsById = groupRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Group::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(groupsById::get)
+                .filter(group -> group != null)
+                .toList();
     }
 
     @Override
@@ -0,0 +1,82 @@
+package com.stcom.smartmealtable.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stcom.smartmealtable.infrastructure.search.GroupNameIndex;
+import com.stcom.smartmealtable.infrastructure.search.GroupSuggestion;
+import com.stcom.smartmealtable.service.dto.GroupTypeaheadDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 그룹 검색창 자동 완성. 키 입력마다 오는 요청을 DB 를 거치지 않고 GroupNameIndex 와 검색어별 결과 캐시로 처리한다.
+ * <p>
+ * 캐시 키는 정규화한 검색어와 개수이고, 항목은 계산한 시점의 인덱스 version 을 갖는다.
+ * 그룹이 생성/변경/삭제되어 version 이 달라지면 다음 요청에서 다시 계산한다.
+ * <p>
+ * 메트릭: group.typeahead.cache{result=hit|miss}
+ */
+@Service
+public class GroupTypeaheadService {
+
+    public static final int MAX_LIMIT = 20;
+    // 그룹 이름보다 긴 검색어는 일치할 수 없으므로 캐시에 넣지 않는다.
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    private static final int CACHE_MAX_SIZE = 10_000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    private final GroupNameIndex groupNameIndex;
+    private final Cache<String, GroupTypeaheadDto> cache = Caffeine.newBuilder()
+            .maximumSize(CACHE_MAX_SIZE)
+            .expireAfterAccess(CACHE_TTL)
+            .build();
+    private final Counter hits;
+    private final Counter misses;
+
+    public GroupTypeaheadService(GroupNameIndex groupNameIndex, MeterRegistry meterRegistry) {
+        this.groupNameIndex = groupNameIndex;
+        this.hits = resultCounter(meterRegistry, "hit");
+        this.misses = resultCounter(meterRegistry, "miss");
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("group.typeahead.cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public GroupTypeaheadDto suggest(String keyword, int limit) {
+        String query = keyword == null ? "" : GroupNameIndex.normalize(keyword);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (query.isEmpty() || query.length() > MAX_KEYWORD_LENGTH) {
+            return toDto(groupNameIndex.version(), List.of());
+        }
+
+        // 계산 도중 인덱스가 바뀌면 더 오래된 version 이 붙으므로 다음 요청에서 다시 계산된다.
+        long version = groupNameIndex.version();
+        String key = size + ":" + query;
+        GroupTypeaheadDto cached = cache.getIfPresent(key);
+        if (cached != null && cached.getIndexVersion() == version) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        GroupTypeaheadDto result = toDto(version, groupNameIndex.suggest(query, size));
+        cache.put(key, result);
+        return result;
+    }
+
+    private static GroupTypeaheadDto toDto(long version, List<GroupSuggestion> suggestions) {
+        StringBuilder content = new StringBuilder();
+        for (GroupSuggestion suggestion : suggestions) {
+            content.append(suggestion.id()).append(':').append(suggestion.name()).append('\n');
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        return new GroupTypeaheadDto(version, etag, suggestions);
+    }
+}
@@ -0,0 +1,71 @@
+package com.stcom.smartmealtable.service;
+
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import com.stcom.smartmealtable.repository.dto.DailySpendDto;
+import com.stcom.smartmealtable.repository.dto.HourlySpendDto;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import com.stcom.smartmealtable.service.dto.SpendAnalyticsDto;
+import com.stcom.smartmealtable.service.dto.SpendAnalyticsDto.WeekdaySpend;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 요일별/시간대별/가맹점별 지출 통계. 지출 행이 아니라 롤업(SpendRollup)을 집계하므로
+ * 조회 비용이 지출 건수가 아닌 기간 안의 (날짜, 시간대, 가맹점) 조합 수에 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SpendAnalyticsService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final SpendRollupRepository spendRollupRepository;
+
+    public SpendAnalyticsDto getSpendAnalytics(Long profileId, LocalDate from, LocalDate to, int merchantLimit) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("통계 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        long[] weekdayAmounts = new long[7];
+        long[] weekdayCounts = new long[7];
+        long totalAmount = 0;
+        long totalCount = 0;
+        for (DailySpendDto daily : spendRollupRepository.sumByDate(profileId, from, to)) {
+            int index = daily.getDate().getDayOfWeek().ordinal();
+            weekdayAmounts[index] += daily.getAmount();
+            weekdayCounts[index] += daily.getCount();
+            totalAmount += daily.getAmount();
+            totalCount += daily.getCount();
+        }
+        List<WeekdaySpend> byWeekday = new ArrayList<>(7);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            byWeekday.add(new WeekdaySpend(dayOfWeek, weekdayAmounts[dayOfWeek.ordinal()],
+                    weekdayCounts[dayOfWeek.ordinal()]));
+        }
+
+        // 지출이 없는 시간대도 0 으로 채워 24개를 돌려준다.
+        HourlySpendDto[] byHour = new HourlySpendDto[24];
+        for (int hour = 0; hour < 24; hour++) {
+            byHour[hour] = new HourlySpendDto(hour, 0, 0);
+        }
+        for (HourlySpendDto hourly : spendRollupRepository.sumByHour(profileId, from, to)) {
+            byHour[hourly.getHour()] = hourly;
+        }
+
+        List<MerchantSpendDto> topMerchants = spendRollupRepository.sumByMerchant(profileId, from, to,
+                PageRequest.of(0, merchantLimit));
+
+        return new SpendAnalyticsDto(from, to, totalAmount, totalCount, byWeekday, List.of(byHour), topMerchants);
+    }
+}
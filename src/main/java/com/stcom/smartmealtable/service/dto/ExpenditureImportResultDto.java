@@ -0,0 +1,14 @@
+package com.stcom.smartmealtable.service.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ExpenditureImportResultDto {
+
+    private int importedCount;
+    // 이미 등록된 승인이라 건너뛴 요청의 인덱스
+    private List<Integer> duplicateIndexes;
+}
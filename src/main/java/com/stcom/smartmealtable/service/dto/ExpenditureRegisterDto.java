@@ -0,0 +1,19 @@
+package com.stcom.smartmealtable.service.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ExpenditureRegisterDto {
+    private LocalDateTime spentDate;
+    private Long amount;
+    private String tradeName;
+    // 승인 문자로 등록하는 경우의 카드사. 직접 입력한 지출은 null 이며 중복 확인을 하지 않는다.
+    private String vendor;
+
+    public ExpenditureRegisterDto(LocalDateTime spentDate, Long amount, String tradeName) {
+        this(spentDate, amount, tradeName, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.stcom.smartmealtable.service.dto;
+
+import com.stcom.smartmealtable.infrastructure.search.GroupSuggestion;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색어별로 캐시되므로 만든 뒤에는 바꾸지 않는다.
+@Getter
+@AllArgsConstructor
+public class GroupTypeaheadDto {
+
+    // 결과를 계산한 시점의 GroupNameIndex version
+    private final long indexVersion;
+    // 결과 내용의 해시. 내용이 같으면 인덱스가 바뀌어도 같다.
+    private final String etag;
+    private final List<GroupSuggestion> suggestions;
+}
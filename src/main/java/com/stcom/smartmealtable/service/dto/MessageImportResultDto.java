@@ -0,0 +1,17 @@
+package com.stcom.smartmealtable.service.dto;
+
+import com.stcom.smartmealtable.component.creditmessage.ExpenditureDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MessageImportResultDto {
+
+    public enum Status { REGISTERED, DUPLICATE, FAILED }
+
+    private int index;
+    private Status status;
+    private ExpenditureDto expenditure;
+    private String errorMessage;
+}
@@ -0,0 +1,34 @@
+package com.stcom.smartmealtable.service.dto;
+
+import com.stcom.smartmealtable.repository.dto.HourlySpendDto;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SpendAnalyticsDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long totalAmount;
+    private long totalCount;
+    // 월요일부터 일요일까지 7개
+    private List<WeekdaySpend> byWeekday;
+    // 0시부터 23시까지 24개
+    private List<HourlySpendDto> byHour;
+    // 금액이 큰 순
+    private List<MerchantSpendDto> topMerchants;
+
+    @Data
+    @AllArgsConstructor
+    public static class WeekdaySpend {
+
+        private DayOfWeek dayOfWeek;
+        private long amount;
+        private long count;
+    }
+}
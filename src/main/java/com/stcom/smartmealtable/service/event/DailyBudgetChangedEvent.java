@@ -0,0 +1,18 @@
+package com.stcom.smartmealtable.service.event;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 예산(한도 또는 사용 금액)이 startDate ~ endDate 구간에서 변경되었음을 알린다.
+ * endDate 가 null 이면 startDate 이후의 모든 날짜가 변경된 것이다.
+ */
+public record DailyBudgetChangedEvent(Long profileId, LocalDate startDate, LocalDate endDate) {
+
+    public static DailyBudgetChangedEvent of(Long profileId, LocalDate date) {
+        return new DailyBudgetChangedEvent(profileId, date, date);
+    }
+
+    public static DailyBudgetChangedEvent from(Long profileId, LocalDate startDate) {
+        return new DailyBudgetChangedEvent(profileId, startDate, null);
+    }
+}
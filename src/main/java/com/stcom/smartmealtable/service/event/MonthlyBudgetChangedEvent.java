@@ -0,0 +1,9 @@
+package com.stcom.smartmealtable.service.event;
+
+import java.time.YearMonth;
+
+/**
+ * 월별 예산(한도 또는 사용 금액)이 변경되었음을 알린다.
+ */
+public record MonthlyBudgetChangedEvent(Long profileId, YearMonth yearMonth) {
+}
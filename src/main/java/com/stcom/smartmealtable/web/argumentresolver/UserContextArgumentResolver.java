@@ -2,6 +2,7 @@ package com.stcom.smartmealtable.web.argumentresolver;
 
 import com.stcom.smartmealtable.security.JwtTokenService;
 import com.stcom.smartmealtable.service.dto.MemberDto;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -38,15 +39,15 @@ public class UserContextArgumentResolver implements HandlerMethodArgumentResolve
             throw new RuntimeException("권한 없음.");
         }
 
-        return extractUserContext(token);
-    }
-
-    private MemberDto extractUserContext(String token) {
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7);
+        // 인터셉터에서 이미 검증한 클레임이 있으면 다시 검증하지 않는다.
+        Claims claims = (Claims) httpServletRequest.getAttribute(JwtTokenService.CLAIMS_ATTRIBUTE);
+        if (claims == null) {
+            claims = jwtTokenService.extractClaims(token);
         }
+        return extractUserContext(claims);
+    }
 
-        var claims = jwtTokenService.extractClaims(token);
+    private MemberDto extractUserContext(Claims claims) {
 
         String memberIdStr = claims.get("memberId", String.class);
         Long memberId = Long.parseLong(memberIdStr);
@@ -1,11 +1,17 @@
 package com.stcom.smartmealtable.web.controller;
 
 import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.infrastructure.search.GroupSuggestion;
 import com.stcom.smartmealtable.service.GroupService;
+import com.stcom.smartmealtable.service.GroupTypeaheadService;
+import com.stcom.smartmealtable.service.dto.GroupTypeaheadDto;
 import com.stcom.smartmealtable.web.dto.ApiResponse;
 import com.stcom.smartmealtable.web.dto.group.GroupDto;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,7 +24,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/groups")
 public class GroupController {
 
+    private static final Duration AUTOCOMPLETE_MAX_AGE = Duration.ofSeconds(30);
+
     private final GroupService groupService;
+    private final GroupTypeaheadService groupTypeaheadService;
 
     @GetMapping()
     public ApiResponse<List<GroupDto>> searchGroup(@RequestParam String keyword) {
@@ -31,6 +40,20 @@ public class GroupController {
                 .toList());
     }
 
+    /**
+     * 검색창 자동 완성. 같은 검색어를 다시 입력하면 브라우저 캐시나 If-None-Match(304) 로 끝난다.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<GroupSuggestion>>> autocomplete(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        GroupTypeaheadDto result = groupTypeaheadService.suggest(keyword, limit);
+        return ResponseEntity.ok()
+                .eTag(result.getEtag())
+                .cacheControl(CacheControl.maxAge(AUTOCOMPLETE_MAX_AGE).cachePrivate())
+                .body(ApiResponse.createSuccess(result.getSuggestions()));
+    }
+
     @DeleteMapping("/{id}")
     public ApiResponse<?> deleteGroup(@PathVariable("id") Long id) {
         groupService.deleteGroup(id);
@@ -1,8 +1,8 @@
 package com.stcom.smartmealtable.web.controller;
 
 import com.stcom.smartmealtable.domain.Budget.Budget;
-import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
 import com.stcom.smartmealtable.service.BudgetService;
 import com.stcom.smartmealtable.service.dto.MemberDto;
 import com.stcom.smartmealtable.web.argumentresolver.UserContext;
@@ -35,7 +35,7 @@ public class MemberBudgetController {
     @GetMapping("/daily/{date}")
     public ApiResponse<DailyBudgetResponse> dailyBudgetByDate(@UserContext MemberDto memberDto,
                                                               @PathVariable("date") @DateTimeFormat(iso = ISO.DATE) LocalDate date) {
-        DailyBudget dailyBudget = budgetService.getDailyBudgetBy(memberDto.getProfileId(), date);
+        BudgetAmountDto dailyBudget = budgetService.getDailyBudgetAmountBy(memberDto.getProfileId(), date);
         return ApiResponse.createSuccess(DailyBudgetResponse.of(dailyBudget));
     }
 
@@ -59,7 +59,7 @@ public class MemberBudgetController {
     @GetMapping("/daily/{date}/week")
     public ApiResponse<List<DailyBudgetResponse>> dailyBudgetWeekByDate(@UserContext MemberDto memberDto,
                                                                         @PathVariable("date") @DateTimeFormat(iso = ISO.DATE) LocalDate date) {
-        List<DailyBudget> dailyBudgets = budgetService.getDailyBudgetsByWeek(memberDto.getProfileId(),
+        List<BudgetAmountDto> dailyBudgets = budgetService.getDailyBudgetAmountsByWeek(memberDto.getProfileId(),
                 date);
 
         List<DailyBudgetResponse> responses = dailyBudgets.stream()
@@ -86,7 +86,7 @@ public class MemberBudgetController {
     @GetMapping("/monthly/{yearMonth}")
     public ApiResponse<MonthlyBudgetResponse> monthlyBudgetByDate(@UserContext MemberDto memberDto,
                                                                   @PathVariable("yearMonth") @YearMonthFormat YearMonth yearMonth) {
-        MonthlyBudget monthlyBudget = budgetService.getMonthlyBudgetBy(memberDto.getProfileId(),
+        BudgetAmountDto monthlyBudget = budgetService.getMonthlyBudgetAmountBy(memberDto.getProfileId(),
                 yearMonth);
 
         return ApiResponse.createSuccess(MonthlyBudgetResponse.of(monthlyBudget));
@@ -121,9 +121,17 @@ public class MemberBudgetController {
 
         public static DailyBudgetResponse of(Budget dailyBudget) {
             return new DailyBudgetResponse(
-                    dailyBudget.getSpendAmount().longValue(),
-                    dailyBudget.getLimit().longValue(),
-                    dailyBudget.getAvailableAmount().longValue()
+                    dailyBudget.getSpendAmount(),
+                    dailyBudget.getLimit(),
+                    dailyBudget.getAvailableAmount()
+            );
+        }
+
+        public static DailyBudgetResponse of(BudgetAmountDto dailyBudget) {
+            return new DailyBudgetResponse(
+                    dailyBudget.getSpendAmount(),
+                    dailyBudget.getLimit(),
+                    dailyBudget.getAvailableAmount()
             );
         }
     }
@@ -137,9 +145,17 @@ public class MemberBudgetController {
 
         public static MonthlyBudgetResponse of(Budget monthlyBudget) {
             return new MonthlyBudgetResponse(
-                    monthlyBudget.getSpendAmount().longValue(),
-                    monthlyBudget.getLimit().longValue(),
-                    monthlyBudget.getAvailableAmount().longValue()
+                    monthlyBudget.getSpendAmount(),
+                    monthlyBudget.getLimit(),
+                    monthlyBudget.getAvailableAmount()
+            );
+        }
+
+        public static MonthlyBudgetResponse of(BudgetAmountDto monthlyBudget) {
+            return new MonthlyBudgetResponse(
+                    monthlyBudget.getSpendAmount(),
+                    monthlyBudget.getLimit(),
+                    monthlyBudget.getAvailableAmount()
             );
         }
     }
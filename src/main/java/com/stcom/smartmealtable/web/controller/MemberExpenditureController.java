@@ -1,16 +1,30 @@
 package com.stcom.smartmealtable.web.controller;
 
 import com.stcom.smartmealtable.component.creditmessage.CreditMessageManager;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseJob;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseJob.Status;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseJobManager;
 import com.stcom.smartmealtable.component.creditmessage.ExpenditureDto;
 import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import com.stcom.smartmealtable.service.CreditMessageImportService;
 import com.stcom.smartmealtable.service.ExpenditureService;
+import com.stcom.smartmealtable.service.dto.ExpenditureImportResultDto;
+import com.stcom.smartmealtable.service.dto.ExpenditureRegisterDto;
 import com.stcom.smartmealtable.service.dto.MemberDto;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto;
 import com.stcom.smartmealtable.web.argumentresolver.UserContext;
 import com.stcom.smartmealtable.web.dto.ApiResponse;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +42,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,10 +52,61 @@ public class MemberExpenditureController {
 
     private final ExpenditureService expenditureService;
     private final CreditMessageManager creditMessageManager;
+    private final CreditMessageParseJobManager parseJobManager;
+    private final CreditMessageImportService creditMessageImportService;
+
+    private static final long PARSE_EVENT_TIMEOUT_MILLIS = 60_000;
 
     @PostMapping("/messages/parse")
     public ApiResponse<ExpenditureDto> parseCreditMessage(@RequestBody ParseRequest request) {
-        return ApiResponse.createSuccess(creditMessageManager.parseMessage(request.getMessage()));
+        return ApiResponse.createSuccess(creditMessageManager.parseMessage(request.getMessage(),
+                request.getReceivedAt()));
+    }
+
+    // 파싱을 작업으로 등록하고 바로 작업 ID 를 돌려준다. 결과는 조회 API 나 SSE 로 받는다.
+    @PostMapping("/messages/parse-jobs")
+    public ApiResponse<ParseJobResponse> submitParseJob(@UserContext MemberDto memberDto,
+                                                        @RequestBody @Validated ParseRequest request) {
+        CreditMessageParseJob job = parseJobManager.submit(memberDto.getMemberId(), request.getMessage(),
+                request.getReceivedAt());
+        return ApiResponse.createSuccess(ParseJobResponse.of(job));
+    }
+
+    @GetMapping("/messages/parse-jobs/{jobId}")
+    public ApiResponse<ParseJobResponse> getParseJob(@UserContext MemberDto memberDto,
+                                                     @PathVariable("jobId") String jobId) {
+        return ApiResponse.createSuccess(ParseJobResponse.of(findParseJob(memberDto, jobId)));
+    }
+
+    @GetMapping("/messages/parse-jobs/{jobId}/events")
+    public SseEmitter subscribeParseJob(@UserContext MemberDto memberDto, @PathVariable("jobId") String jobId) {
+        CreditMessageParseJob job = findParseJob(memberDto, jobId);
+        SseEmitter emitter = new SseEmitter(PARSE_EVENT_TIMEOUT_MILLIS);
+        job.getResult().whenComplete((dto, e) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("result")
+                        .data(ApiResponse.createSuccess(ParseJobResponse.of(job))));
+                emitter.complete();
+            } catch (IOException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+        return emitter;
+    }
+
+    // 앱 최초 설치 시 문자함에 쌓인 승인 문자를 한 번에 파싱해 등록한다. 결과는 요청 순서대로 돌려준다.
+    @PostMapping("/messages/import")
+    public ApiResponse<List<MessageImportResultDto>> importCreditMessages(@UserContext MemberDto memberDto,
+                                                                          @RequestBody @Validated MessageImportRequest request) {
+        return ApiResponse.createSuccess(
+                creditMessageImportService.importMessages(memberDto.getProfileId(), request.getMessages(),
+                        request.getReceivedAts()));
+    }
+
+    private CreditMessageParseJob findParseJob(MemberDto memberDto, String jobId) {
+        return parseJobManager.findJob(memberDto.getMemberId(), jobId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 파싱 작업입니다."));
     }
 
     @GetMapping
@@ -52,6 +118,19 @@ public class MemberExpenditureController {
         return ApiResponse.createSuccess(responseSlice);
     }
 
+    // 무한 스크롤용 커서 기반 조회. 응답의 nextCursorSpentDate/nextCursorId 를 다음 요청에 그대로 넘긴다.
+    @GetMapping("/scroll")
+    public ApiResponse<ExpenditureScrollResponse> scrollExpenditures(@UserContext MemberDto memberDto,
+                                                                     @RequestParam(name = "cursorSpentDate", required = false)
+                                                                     @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorSpentDate,
+                                                                     @RequestParam(name = "cursorId", required = false) Long cursorId,
+                                                                     @RequestParam(name = "size", defaultValue = "10")
+                                                                     @Min(1) @Max(100) int size) {
+        Slice<Expenditure> slice = expenditureService.scrollExpenditures(memberDto.getProfileId(), cursorSpentDate,
+                cursorId, size);
+        return ApiResponse.createSuccess(ExpenditureScrollResponse.of(slice));
+    }
+
     @PostMapping
     public ApiResponse<Void> registerExpenditure(@UserContext MemberDto memberDto,
                                                  @RequestBody @Validated ExpenditureRequest request) {
@@ -59,11 +138,26 @@ public class MemberExpenditureController {
                 memberDto.getProfileId(),
                 request.getSpentDate(),
                 request.getAmount(),
-                request.getTradeName()
+                request.getTradeName(),
+                request.getVendor()
         );
         return ApiResponse.createSuccessWithNoContent();
     }
 
+    // 다른 앱에서 옮겨오는 카드 내역 등 대량 지출 등록
+    @PostMapping("/import")
+    public ApiResponse<ExpenditureImportResponse> importExpenditures(@UserContext MemberDto memberDto,
+                                                                    @RequestBody @Validated ExpenditureImportRequest request) {
+        List<ExpenditureRegisterDto> expenditures = request.getExpenditures().stream()
+                .map(e -> new ExpenditureRegisterDto(e.getSpentDate(), e.getAmount(), e.getTradeName(),
+                        e.getVendor()))
+                .toList();
+        ExpenditureImportResultDto result = expenditureService.importExpenditures(memberDto.getProfileId(),
+                expenditures);
+        return ApiResponse.createSuccess(new ExpenditureImportResponse(result.getImportedCount(),
+                result.getDuplicateIndexes().size()));
+    }
+
     @PatchMapping("/{id}")
     public ApiResponse<Void> editExpenditure(@UserContext MemberDto memberDto, @PathVariable("id") Long expenditureId,
                                              @RequestBody @Validated ExpenditureRequest request) {
@@ -90,6 +184,39 @@ public class MemberExpenditureController {
         @NotEmpty
         private String message;
 
+        // 문자 수신 시각. 승인 문자에 연도가 없어 연말 문자를 연초에 보내면 연도를 정하는 데 쓴다. 없으면 현재 시각
+        private LocalDateTime receivedAt;
+
+    }
+
+    @Data
+    static class MessageImportRequest {
+
+        @NotEmpty
+        @Size(max = 500)
+        private List<@NotEmpty String> messages;
+
+        // messages 와 같은 순서의 문자별 수신 시각. 없으면 현재 시각
+        private List<LocalDateTime> receivedAts;
+
+        @AssertTrue(message = "수신 시각 수가 문자 수와 다릅니다.")
+        public boolean isReceivedAtsMatched() {
+            return receivedAts == null || messages == null || receivedAts.size() == messages.size();
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class ParseJobResponse {
+
+        private String jobId;
+        private Status status;
+        private ExpenditureDto result;
+        private String errorMessage;
+
+        public static ParseJobResponse of(CreditMessageParseJob job) {
+            return new ParseJobResponse(job.getId(), job.getStatus(), job.getExpenditure(), job.getErrorMessage());
+        }
     }
 
     @Data
@@ -105,6 +232,25 @@ public class MemberExpenditureController {
 
         @NotEmpty
         private String tradeName;
+
+        // 승인 문자에서 파싱한 지출이면 카드사. 값이 있으면 같은 승인의 중복 등록을 막는다.
+        private String vendor;
+    }
+
+    @Data
+    static class ExpenditureImportRequest {
+
+        @NotEmpty
+        @Size(max = 5000)
+        private List<@Valid ExpenditureRequest> expenditures;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class ExpenditureImportResponse {
+
+        private int importedCount;
+        private int duplicateCount;
     }
 
     @Data
@@ -121,4 +267,25 @@ public class MemberExpenditureController {
                     expenditure.getTradeName());
         }
     }
+
+    @Data
+    @AllArgsConstructor
+    static class ExpenditureScrollResponse {
+
+        private List<ExpenditureResponse> content;
+        private boolean hasNext;
+        private LocalDateTime nextCursorSpentDate;
+        private Long nextCursorId;
+
+        public static ExpenditureScrollResponse of(Slice<Expenditure> slice) {
+            List<ExpenditureResponse> content = slice.getContent().stream()
+                    .map(ExpenditureResponse::of)
+                    .toList();
+            if (content.isEmpty()) {
+                return new ExpenditureScrollResponse(content, false, null, null);
+            }
+            ExpenditureResponse last = content.getLast();
+            return new ExpenditureScrollResponse(content, slice.hasNext(), last.getSpentDate(), last.getId());
+        }
+    }
 }
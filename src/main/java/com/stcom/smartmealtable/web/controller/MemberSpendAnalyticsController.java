@@ -0,0 +1,42 @@
+package com.stcom.smartmealtable.web.controller;
+
+import com.stcom.smartmealtable.batch.SpendRollupBackfill;
+import com.stcom.smartmealtable.service.SpendAnalyticsService;
+import com.stcom.smartmealtable.service.dto.MemberDto;
+import com.stcom.smartmealtable.service.dto.SpendAnalyticsDto;
+import com.stcom.smartmealtable.web.argumentresolver.UserContext;
+import com.stcom.smartmealtable.web.dto.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/members/me/expenditures/analytics")
+public class MemberSpendAnalyticsController {
+
+    private final SpendAnalyticsService spendAnalyticsService;
+    private final SpendRollupBackfill spendRollupBackfill;
+
+    // 기간 내 요일별, 시간대별, 가맹점별 지출 합계
+    @GetMapping
+    public ApiResponse<SpendAnalyticsDto> spendAnalytics(@UserContext MemberDto memberDto,
+                                                         @RequestParam("from") @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+                                                         @RequestParam("to") @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+                                                         @RequestParam(name = "merchantLimit", defaultValue = "10")
+                                                         @Min(1) @Max(100) int merchantLimit) {
+        // 백필 전의 롤업에는 최근 지출만 있어 통계가 틀리므로 완료될 때까지 응답하지 않는다.
+        if (!spendRollupBackfill.isCompleted()) {
+            throw new IllegalStateException("지출 통계를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return ApiResponse.createSuccess(
+                spendAnalyticsService.getSpendAnalytics(memberDto.getProfileId(), from, to, merchantLimit));
+    }
+}
@@ -2,9 +2,11 @@ package com.stcom.smartmealtable.web.exhandler;
 
 import com.stcom.smartmealtable.exception.BizLogicException;
 import com.stcom.smartmealtable.exception.ExternApiStatusError;
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
 import com.stcom.smartmealtable.exception.PasswordFailedExceededException;
 import com.stcom.smartmealtable.exception.PasswordPolicyException;
 import com.stcom.smartmealtable.web.dto.ApiResponse;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
@@ -68,6 +70,21 @@ public class ExControllerAdvice {
         return ApiResponse.createError("서버 내부 동작 오류입니다. 사유: " + e.getMessage());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiResponse<Object> rejectedExecutionExHandler(RejectedExecutionException e) {
+        log.warn("[RejectedExecutionException] ex", e);
+        return ApiResponse.createError(e.getMessage());
+    }
+
+    // 서킷이 열려 있는 동안에는 요청마다 발생하므로 스택 트레이스를 남기지 않는다.
+    @ExceptionHandler(ExternApiUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiResponse<Object> externApiUnavailableExHandler(ExternApiUnavailableException e) {
+        log.warn("[ExternApiUnavailableException] {}", e.getMessage());
+        return ApiResponse.createError("외부 API 를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
     @ExceptionHandler(ExternApiStatusError.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ApiResponse<Object> externApiStatusErrorHandler(ExternApiStatusError e) {
@@ -36,9 +36,9 @@ public class JwtAuthenticationInterceptor implements HandlerInterceptor {
             return true; // 토큰이 없는 요청은 통과시키고, ArgumentResolver에서 처리
         }
 
-        // 토큰 검증
+        // 토큰 검증 (검증된 클레임은 ArgumentResolver 에서 재사용한다)
         try {
-            jwtTokenService.validateToken(token);
+            request.setAttribute(JwtTokenService.CLAIMS_ATTRIBUTE, jwtTokenService.validateToken(token));
             return true;
         } catch (Exception e) {
             log.error("토큰 검증 실패: {}", e.getMessage());
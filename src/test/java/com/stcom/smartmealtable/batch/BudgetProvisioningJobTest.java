@@ -0,0 +1,122 @@
+package com.stcom.smartmealtable.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.domain.member.Member;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+class BudgetProvisioningJobTest {
+
+    private static final YearMonth SOURCE = YearMonth.of(2025, 6);
+    private static final YearMonth TARGET = YearMonth.of(2025, 7);
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @AfterEach
+    void tearDown() {
+        budgetRepository.deleteAllInBatch();
+        memberProfileRepository.deleteAll();
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @DisplayName("이번 달 예산이 있는 프로필마다 다음 달 월별 예산과 모든 일일 예산이 생성된다")
+    @Test
+    void provisionNextMonth() throws Exception {
+        // given
+        MemberProfile first = saveProfileWithBudgets("first@test.com", 300000, 10000L);
+        MemberProfile second = saveProfileWithBudgets("second@test.com", 500000, null);
+
+        // when
+        JobExecution execution = launch(TARGET);
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        MonthlyBudget firstMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(
+                first.getId(), TARGET).orElseThrow();
+        assertThat(firstMonthly.getLimit()).isEqualTo(300000);
+        List<DailyBudget> firstDailies = budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(
+                first.getId(), TARGET.atDay(1), TARGET.atEndOfMonth());
+        assertThat(firstDailies).hasSize(TARGET.lengthOfMonth())
+                .allMatch(b -> b.getLimit() == 10000)
+                .allMatch(b -> b.getSpendAmount() == 0);
+
+        assertThat(budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(second.getId(), TARGET))
+                .isPresent();
+        assertThat(budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(
+                second.getId(), TARGET.atDay(1), TARGET.atEndOfMonth())).isEmpty();
+    }
+
+    @DisplayName("다음 달 예산을 이미 가진 프로필은 건너뛴다")
+    @Test
+    void skipAlreadyProvisionedProfile() throws Exception {
+        // given
+        MemberProfile profile = saveProfileWithBudgets("skip@test.com", 300000, 10000L);
+        budgetRepository.save(new MonthlyBudget(profile, 400000, TARGET));
+
+        // when
+        JobExecution execution = launch(TARGET);
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(), TARGET)
+                .orElseThrow().getLimit()).isEqualTo(400000);
+        assertThat(budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(
+                profile.getId(), TARGET.atDay(1), TARGET.atEndOfMonth())).isEmpty();
+    }
+
+    private JobExecution launch(YearMonth target) throws Exception {
+        return jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString(BudgetProvisioningJobConfig.TARGET_YEAR_MONTH, target.toString())
+                .toJobParameters());
+    }
+
+    private MemberProfile saveProfileWithBudgets(String email, long monthlyLimit, Long dailyLimit) {
+        Member member = Member.builder()
+                .email(email)
+                .rawPassword("testPassword!")
+                .build();
+        MemberProfile profile = memberProfileRepository.save(MemberProfile.builder()
+                .nickName(email)
+                .member(member)
+                .build());
+        budgetRepository.save(new MonthlyBudget(profile, monthlyLimit, SOURCE));
+        if (dailyLimit != null) {
+            LocalDate lastDay = SOURCE.atEndOfMonth();
+            budgetRepository.save(new DailyBudget(profile, dailyLimit, lastDay));
+        }
+        return profile;
+    }
+}
@@ -0,0 +1,119 @@
+package com.stcom.smartmealtable.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.domain.member.Member;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.ExpenditureRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import com.stcom.smartmealtable.repository.dto.DailySpendDto;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import com.stcom.smartmealtable.repository.dto.SpendRollupDelta;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBatchTest
+// 스케줄러가 테스트 도중 먼저 백필을 끝내지 않도록 첫 실행을 미룬다.
+@SpringBootTest(properties = "spend.rollup.backfill.initial-delay-ms=3600000")
+@ActiveProfiles("test")
+class SpendRollupBackfillTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 9);
+
+    @Autowired
+    private SpendRollupBackfill spendRollupBackfill;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private ExpenditureRepository expenditureRepository;
+
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @AfterEach
+    void tearDown() {
+        expenditureRepository.deleteAllInBatch();
+        spendRollupRepository.deleteAllInBatch();
+        budgetRepository.deleteAllInBatch();
+        memberProfileRepository.deleteAll();
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @DisplayName("롤업 이전 지출을 다시 집계해 채우고, 이미 반영된 지출은 두 번 더하지 않는다")
+    @Test
+    void backfill() {
+        // given
+        MemberProfile profile = saveProfile("backfill@test.com");
+        DailyBudget dailyBudget = budgetRepository.save(new DailyBudget(profile, 10000, DATE));
+        MonthlyBudget monthlyBudget = budgetRepository.save(new MonthlyBudget(profile, 300000, YearMonth.from(DATE)));
+        saveExpenditure(dailyBudget, monthlyBudget, DATE.atTime(12, 10), 5000L, "김밥천국");
+        saveExpenditure(dailyBudget, monthlyBudget, DATE.atTime(12, 40), 4000L, "김밥천국");
+        saveExpenditure(dailyBudget, monthlyBudget, DATE.atTime(19, 0), 6000L, "스타벅스");
+        // 롤업 도입 이후 등록되어 이미 반영된 지출
+        spendRollupRepository.addSpend(List.of(SpendRollupDelta.of(profile.getId(), DATE.atTime(19, 0), "스타벅스",
+                6000L, 1)));
+        assertThat(spendRollupBackfill.isCompleted()).isFalse();
+
+        // when
+        spendRollupBackfill.backfill();
+
+        // then
+        assertThat(spendRollupBackfill.isCompleted()).isTrue();
+        assertThat(spendRollupRepository.sumByDate(profile.getId(), DATE, DATE))
+                .extracting(DailySpendDto::getAmount, DailySpendDto::getCount)
+                .containsExactly(tuple(15000L, 3L));
+        assertThat(spendRollupRepository.sumByMerchant(profile.getId(), DATE, DATE, Pageable.ofSize(10)))
+                .extracting(MerchantSpendDto::getTradeName, MerchantSpendDto::getAmount)
+                .containsExactly(
+                        tuple("김밥천국", 9000L),
+                        tuple("스타벅스", 6000L));
+        assertThat(spendRollupRepository.count()).isEqualTo(2);
+    }
+
+    private MemberProfile saveProfile(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .rawPassword("testPassword!")
+                .build();
+        return memberProfileRepository.save(MemberProfile.builder()
+                .nickName(email)
+                .member(member)
+                .build());
+    }
+
+    private void saveExpenditure(DailyBudget dailyBudget, MonthlyBudget monthlyBudget, LocalDateTime spentDate,
+                                 long amount, String tradeName) {
+        expenditureRepository.save(Expenditure.builder()
+                .spentDate(spentDate)
+                .amount(amount)
+                .tradeName(tradeName)
+                .dailyBudget(dailyBudget)
+                .monthlyBudget(monthlyBudget)
+                .build());
+    }
+}
@@ -9,17 +9,25 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 
 class CreditMessageManagerTest {
 
     private ChatClient.Builder builder;
     private ChatClient chatClient;
     private GeminiCreditMessageParser geminiParser;
+    private SimpleMeterRegistry meterRegistry;
     private CreditMessageManager manager;
 
     @BeforeEach
@@ -29,8 +37,17 @@ class CreditMessageManagerTest {
         builder = mock(ChatClient.Builder.class);
         when(builder.build()).thenReturn(chatClient);
 
-        geminiParser = spy(new GeminiCreditMessageParser(builder));
-        manager = new CreditMessageManager(geminiParser);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        geminiParser = spy(new GeminiCreditMessageParser(builder, new ExternalApiCircuitBreakers(meterRegistry),
+                new ObjectMapper()));
+        manager = new CreditMessageManager(geminiParser,
+                new GeminiResultCache(redisTemplate, meterRegistry, new ObjectMapper()),
+                new CreditTemplateLearner(5, meterRegistry),
+                meterRegistry);
     }
 
     @Test
@@ -40,7 +57,7 @@ class CreditMessageManagerTest {
         String sms = "[KB국민카드] 06/12 10:20 승인 11,000원 스타벅스";
 
         // when
-        ExpenditureDto dto = manager.parseMessage(sms);
+        ExpenditureDto dto = manager.parseMessage(sms, null);
 
         // then
         assertEquals("KB", dto.getVendor());
@@ -62,11 +79,75 @@ class CreditMessageManagerTest {
         when(chatClient.prompt().user(anyString()).call().content()).thenReturn(llmJson);
 
         String sms = "알 수 없는 카드사 메시지";
-        ExpenditureDto dto = manager.parseMessage(sms);
+        ExpenditureDto dto = manager.parseMessage(sms, null);
 
         // then
         assertEquals("UNKNOWN", dto.getVendor());
         assertEquals(5000L, dto.getAmount());
         verify(geminiParser, times(1)).parse(anyString());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("캐시된 결과로 처리한 문자는 Gemini fallback 으로 세지 않는다")
+    void countsOnlyActualGeminiCalls() {
+        // given
+        String llmJson = "{" +
+                "\"vendor\":\"UNKNOWN\"," +
+                "\"dateTime\":\"2025-06-12T10:20:00\"," +
+                "\"amount\":5000," +
+                "\"tradeName\":\"GS25\"}";
+        when(chatClient.prompt().user(anyString()).call().content()).thenReturn(llmJson);
+
+        // when
+        manager.parseMessage("알 수 없는 카드사 메시지", null);
+        manager.parseMessage("알 수 없는 카드사 메시지", null);
+
+        // then
+        verify(geminiParser, times(1)).parse(anyString());
+        assertEquals(1.0, meterRegistry.get("credit.message.parse").tag("path", "gemini").counter().count());
+    }
+
+    @Test
+    @DisplayName("여러 문자를 파싱할 때 룰 파서로 처리되지 않은 같은 문자는 한 번의 Gemini 호출로 모아 보낸다")
+    void parseMessagesInBatch() {
+        // given
+        String llmJson = "[{" +
+                "\"index\":0," +
+                "\"vendor\":\"UNKNOWN\"," +
+                "\"dateTime\":\"2025-06-12T10:20:00\"," +
+                "\"amount\":5000," +
+                "\"tradeName\":\"GS25\"}]";
+        when(chatClient.prompt().user(anyString()).call().content()).thenReturn(llmJson);
+
+        // when
+        List<CreditMessageParseResult> results = manager.parseMessages(List.of(
+                "[KB국민카드] 06/12 10:20 승인 11,000원 스타벅스",
+                "알 수 없는 카드사 메시지",
+                "알 수 없는 카드사  메시지"), null);
+
+        // then
+        assertEquals("KB", results.get(0).expenditure().getVendor());
+        assertEquals(5000L, results.get(1).expenditure().getAmount());
+        assertEquals(5000L, results.get(2).expenditure().getAmount());
+        verify(geminiParser, times(1)).parseAll(List.of("알 수 없는 카드사 메시지"));
+        verify(geminiParser, never()).parse(anyString());
+    }
+
+    @Test
+    @DisplayName("연도는 요청에 담긴 문자 수신 시각으로 정한다")
+    void inferYearFromReceivedAt() {
+        // given
+        String sms = "[KB국민카드] 12/31 23:50 승인 11,000원 스타벅스";
+        LocalDateTime newYear = LocalDateTime.of(2026, 1, 1, 0, 5);
+
+        // when
+        ExpenditureDto single = manager.parseMessage(sms, newYear);
+        List<CreditMessageParseResult> batch = manager.parseMessages(List.of(sms, sms),
+                List.of(newYear, LocalDateTime.of(2026, 12, 31, 23, 55)));
+
+        // then
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 50), single.getSpentDate());
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 50), batch.get(0).expenditure().getSpentDate());
+        assertEquals(LocalDateTime.of(2026, 12, 31, 23, 50), batch.get(1).expenditure().getSpentDate());
+    }
+}
@@ -0,0 +1,107 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CreditMessageParseJobManagerTest {
+
+    private CreditMessageManager creditMessageManager;
+    private CreditMessageParseJobManager jobManager;
+
+    @BeforeEach
+    void setUp() {
+        creditMessageManager = mock(CreditMessageManager.class);
+        jobManager = new CreditMessageParseJobManager(creditMessageManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 백그라운드에서 파싱되고 결과를 조회할 수 있다")
+    void submitAndPoll() throws Exception {
+        // given
+        ExpenditureDto dto = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        when(creditMessageManager.parseMessage(anyString(), any())).thenReturn(dto);
+
+        // when
+        LocalDateTime receivedAt = LocalDateTime.of(2025, 6, 12, 10, 21);
+        CreditMessageParseJob job = jobManager.submit(1L, "[KB국민카드] 06/12 10:20 승인 11,000원 스타벅스",
+                receivedAt);
+        job.getResult().get(5, TimeUnit.SECONDS);
+
+        // then
+        CreditMessageParseJob found = jobManager.findJob(1L, job.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(CreditMessageParseJob.Status.DONE);
+        assertThat(found.getExpenditure()).isEqualTo(dto);
+        verify(creditMessageManager).parseMessage("[KB국민카드] 06/12 10:20 승인 11,000원 스타벅스", receivedAt);
+    }
+
+    @Test
+    @DisplayName("파싱에 실패한 작업은 실패 사유를 남긴다")
+    void failedJob() {
+        // given
+        when(creditMessageManager.parseMessage(anyString(), any()))
+                .thenThrow(new IllegalArgumentException("Gemini 파싱 실패"));
+
+        // when
+        CreditMessageParseJob job = jobManager.submit(1L, "알 수 없는 메시지", null);
+        job.getResult().handle((result, e) -> null).join();
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(CreditMessageParseJob.Status.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("Gemini 파싱 실패");
+    }
+
+    @Test
+    @DisplayName("끝난 작업이 보관 상한을 넘어도 진행 중인 작업은 조회할 수 있다")
+    void runningJobIsNotEvicted() throws Exception {
+        // given
+        jobManager.shutdown();
+        jobManager = new CreditMessageParseJobManager(creditMessageManager, 1);
+        ExpenditureDto dto = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        CountDownLatch release = new CountDownLatch(1);
+        when(creditMessageManager.parseMessage("느린 메시지", null)).thenAnswer(invocation -> {
+            release.await();
+            return dto;
+        });
+        when(creditMessageManager.parseMessage("빠른 메시지", null)).thenReturn(dto);
+        CreditMessageParseJob running = jobManager.submit(1L, "느린 메시지", null);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            jobManager.submit(1L, "빠른 메시지", null).getResult().get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(jobManager.findJob(1L, running.getId())).contains(running);
+        assertThat(running.getStatus()).isEqualTo(CreditMessageParseJob.Status.PENDING);
+
+        release.countDown();
+        assertThat(running.getResult().get(5, TimeUnit.SECONDS)).isEqualTo(dto);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 작업은 조회할 수 없다")
+    void findOtherMembersJob() {
+        // given
+        CreditMessageParseJob job = jobManager.submit(1L, "알 수 없는 메시지", null);
+
+        // when & then
+        assertThat(jobManager.findJob(2L, job.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CreditTemplateLearnerTest {
+
+    private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2025, 11, 1, 9, 0);
+
+    private CreditTemplateLearner learner;
+
+    @BeforeEach
+    void setUp() {
+        learner = new CreditTemplateLearner(2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 양식의 Gemini 결과가 기준 횟수만큼 쌓이면 템플릿 파서로 승격된다")
+    void promoteTemplate() {
+        // given
+        learner.record("[Web발신]\n우리(1234)승인\n홍*동\n12,300원 일시불\n06/12 10:20\nGS25 강남점\n누적 1,234,000원",
+                new ExpenditureDto("WOORI", LocalDateTime.of(2025, 6, 12, 10, 20), 12300L, "GS25 강남점"));
+        assertThat(learner.tryParse("[Web발신]\n우리(9876)승인\n홍*동\n5,000원 일시불\n07/01 08:05\n스타벅스 역삼\n누적 2,000원",
+                RECEIVED_AT)).isEmpty();
+
+        // when
+        learner.record("[Web발신]\n우리(1234)승인\n홍*동\n4,500원 일시불\n06/13 12:00\n이디야 선릉\n누적 1,238,500원",
+                new ExpenditureDto("WOORI", LocalDateTime.of(2025, 6, 13, 12, 0), 4500L, "이디야 선릉"));
+
+        // then
+        ExpenditureDto dto = learner.tryParse(
+                "[Web발신]\n우리(9876)승인\n홍*동\n5,000원 일시불\n07/01 08:05\n스타벅스 역삼\n누적 2,000원",
+                RECEIVED_AT).orElseThrow();
+        assertThat(dto.getVendor()).isEqualTo("WOORI");
+        assertThat(dto.getAmount()).isEqualTo(5000L);
+        assertThat(dto.getTradeName()).isEqualTo("스타벅스 역삼");
+        assertThat(dto.getSpentDate().getMonthValue()).isEqualTo(7);
+        assertThat(dto.getSpentDate().getHour()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Gemini 결과를 문자 안에서 찾을 수 없으면 학습하지 않는다")
+    void ignoreUnlocatableResult() {
+        // given
+        String message = "우리(1234)승인 홍*동 12,300원 일시불 06/12 10:20 GS25 강남점";
+        ExpenditureDto wrong = new ExpenditureDto("WOORI", LocalDateTime.of(2025, 6, 12, 10, 20), 99_000L, "GS25 강남점");
+
+        // when
+        learner.record(message, wrong);
+        learner.record(message, wrong);
+
+        // then
+        assertThat(learner.tryParse(message, RECEIVED_AT)).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CreditVendorClassifierTest {
+
+    CreditVendorClassifier classifier = new CreditVendorClassifier(Map.of(
+            "KB", KBCreditMessageParser.MARKERS,
+            "NH", NHCreditMessageParser.MARKERS,
+            "SH", SHCreditMessageParser.MARKERS
+    ));
+
+    @DisplayName("카드사 표식으로 카드사를 판별한다.")
+    @Test
+    void classify() throws Exception {
+        assertThat(classifier.classify("[KB국민카드] 07/16 12:28 승인 11,000원 일시불 롯데시네마 평촌")).isEqualTo("KB");
+        assertThat(classifier.classify("NH농협카드5*5승인 가나다 5,700원 일시불 10/21 08:33 (주)티머니 개인택")).isEqualTo("NH");
+        assertThat(classifier.classify("신한카드(6193)승인 가나다 5,700원(일시불)10/21 08:33 (주)티머니 개인택")).isEqualTo("SH");
+    }
+
+    @DisplayName("카드사 표식이 아닌 NH 문자열은 농협으로 판별하지 않는다.")
+    @Test
+    void classifyWithoutMarker() throws Exception {
+        assertThat(classifier.classify("[우리] 07/16 12:28 승인 11,000원 일시불 SNH 굿즈샵")).isNull();
+    }
+
+    @DisplayName("여러 표식이 있으면 가장 앞에 나온 표식의 카드사로 판별한다.")
+    @Test
+    void classifyFirstMarker() throws Exception {
+        assertThat(classifier.classify("신한카드(6193)승인 가나다 5,700원(일시불)10/21 08:33 NH카드센터")).isEqualTo("SH");
+    }
+
+    @DisplayName("되추적을 유도하는 입력도 선형 시간 안에 실패한다.")
+    @Test
+    void adversarialInput() throws Exception {
+        String message = "신한카드승인" + "1,".repeat(100_000) + "X";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(classifier.classify(message)).isEqualTo("SH");
+            assertThatThrownBy(() -> new SHCreditMessageParser().parse(message))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
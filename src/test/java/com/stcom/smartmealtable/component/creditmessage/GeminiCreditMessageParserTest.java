@@ -6,6 +6,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +28,8 @@ class GeminiCreditMessageParserTest {
         builder = mock(ChatClient.Builder.class);
         when(builder.build()).thenReturn(chatClient);
 
-        parser = new GeminiCreditMessageParser(builder);
+        parser = new GeminiCreditMessageParser(builder, new ExternalApiCircuitBreakers(new SimpleMeterRegistry()),
+                new ObjectMapper());
     }
 
     @Test
@@ -0,0 +1,172 @@
+package com.stcom.smartmealtable.component.creditmessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class GeminiResultCacheTest {
+
+    private static final String LLM_JSON = "{" +
+            "\"vendor\":\"UNKNOWN\"," +
+            "\"dateTime\":\"2025-06-12T10:20:00\"," +
+            "\"amount\":5000," +
+            "\"tradeName\":\"GS25\"}";
+
+    private ChatClient.Builder builder;
+    private ChatClient chatClient;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private GeminiResultCache cache;
+    private ExternalApiCircuitBreakers circuitBreakers;
+
+    @BeforeEach
+    void setUp() {
+        chatClient = mock(ChatClient.class, Mockito.RETURNS_DEEP_STUBS);
+        builder = mock(ChatClient.Builder.class);
+        when(builder.build()).thenReturn(chatClient);
+        when(chatClient.prompt().user(anyString()).call().content()).thenReturn(LLM_JSON);
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GeminiResultCache(redisTemplate, meterRegistry, new ObjectMapper());
+        circuitBreakers = new ExternalApiCircuitBreakers(new SimpleMeterRegistry());
+    }
+
+    private GeminiCreditMessageParser newParser() {
+        return new GeminiCreditMessageParser(builder, circuitBreakers, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("공백만 다른 같은 문자는 Gemini 를 한 번만 호출하고 ChatClient 도 한 번만 만든다")
+    void cachesNormalizedMessage() {
+        // given
+        GeminiCreditMessageParser parser = newParser();
+
+        // when
+        ExpenditureDto first = cache.get("[Web발신]\n알 수 없는 카드사  메시지", parser::parse);
+        ExpenditureDto second = cache.get("알 수 없는 카드사 메시지", parser::parse);
+
+        // then
+        assertThat(first).isEqualTo(second).isNotSameAs(second);
+        assertThat(second.getAmount()).isEqualTo(5000L);
+        verify(builder, times(1)).build();
+        verify(valueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 에 저장된 결과가 있으면 Gemini 를 호출하지 않는다")
+    void readsFromRedis() {
+        // given
+        when(valueOperations.get(anyString())).thenReturn(LLM_JSON);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        ExpenditureDto dto = cache.get("알 수 없는 카드사 메시지", message -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(dto.getTradeName()).isEqualTo("GS25");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("같은 문자에 대한 동시 요청은 하나의 Gemini 호출을 공유한다")
+    void coalescesConcurrentRequests() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, ExpenditureDto> slowParser = message -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return newParser().parse(message);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            Future<ExpenditureDto> leader = executor.submit(() -> cache.get("같은 문자", slowParser));
+            started.await(5, TimeUnit.SECONDS);
+            Future<ExpenditureDto> follower = executor.submit(() -> cache.get("같은 문자", slowParser));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(leader.get(5, TimeUnit.SECONDS).getAmount()).isEqualTo(5000L);
+            assertThat(follower.get(5, TimeUnit.SECONDS).getAmount()).isEqualTo(5000L);
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Gemini 호출이 실패하면 결과를 캐시하지 않는다")
+    void doesNotCacheFailure() {
+        // given
+        Function<String, ExpenditureDto> failing = message -> {
+            throw new IllegalArgumentException("Gemini 파싱 실패");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("실패 문자", failing))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(cache.get("실패 문자", newParser()::parse).getAmount())
+                .isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("일괄 파싱 결과를 put 으로 저장해도 miss 를 다시 세지 않는다")
+    void putDoesNotCountMiss() {
+        // given
+        String message = "알 수 없는 카드사 메시지";
+        ExpenditureDto dto = newParser().parse(message);
+
+        // when
+        assertThat(cache.getIfPresent(message)).isNull();
+        cache.put(message, dto);
+        ExpenditureDto cached = cache.getIfPresent(message);
+
+        // then
+        assertThat(cached.getAmount()).isEqualTo(5000L);
+        assertThat(meterRegistry.get("credit.gemini.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("credit.gemini.cache").tag("result", "local_hit").counter().count())
+                .isEqualTo(1);
+    }
+}
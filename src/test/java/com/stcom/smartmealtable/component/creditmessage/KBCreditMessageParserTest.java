@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 class KBCreditMessageParserTest {
 
+    private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2025, 11, 1, 9, 0);
+
     KBCreditMessageParser parser = new KBCreditMessageParser();
 
     @DisplayName("국민은행 결제 메시지인지 판별한다.")
@@ -35,13 +37,37 @@ class KBCreditMessageParserTest {
         // given
         String kbMessage = "[KB국민카드] 07/16 12:28 승인 11,000원 일시불 롯데시네마 평촌";
         // when
-        ExpenditureDto expenditure = parser.parse(kbMessage);
+        ExpenditureDto expenditure = parser.parse(kbMessage, RECEIVED_AT);
         // then
         assertThat(expenditure.getVendor()).isEqualTo("KB");
         assertThat(expenditure.getSpentDate()).isEqualTo(
-                LocalDateTime.of(LocalDateTime.now().getYear(), 7, 16, 12, 28));
+                LocalDateTime.of(2025, 7, 16, 12, 28));
         assertThat(expenditure.getAmount()).isEqualTo(11000);
         assertThat(expenditure.getTradeName()).isEqualTo("롯데시네마 평촌");
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("승인취소 문자는 음수 금액으로 파싱한다.")
+    @Test
+    void parseCancellation() throws Exception {
+        // given
+        String kbMessage = "[KB국민카드] 07/16 12:28 승인취소 11,000원 일시불 롯데시네마 평촌";
+        // when
+        ExpenditureDto expenditure = parser.parse(kbMessage, RECEIVED_AT);
+        // then
+        assertThat(expenditure.getAmount()).isEqualTo(-11000);
+        assertThat(expenditure.getSpentDate()).isEqualTo(LocalDateTime.of(2025, 7, 16, 12, 28));
+        assertThat(expenditure.getTradeName()).isEqualTo("롯데시네마 평촌");
+    }
+
+    @DisplayName("12월 승인 문자를 1월에 받으면 작년 지출로 파싱한다.")
+    @Test
+    void parseDecemberMessageInJanuary() throws Exception {
+        // given
+        String kbMessage = "[KB국민카드] 12/31 23:50 승인 11,000원 일시불 롯데시네마 평촌";
+        // when
+        ExpenditureDto expenditure = parser.parse(kbMessage, LocalDateTime.of(2026, 1, 1, 0, 5));
+        // then
+        assertThat(expenditure.getSpentDate()).isEqualTo(LocalDateTime.of(2025, 12, 31, 23, 50));
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 class SHCreditMessageParserTest {
 
+    private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2025, 11, 1, 9, 0);
+
     SHCreditMessageParser parser = new SHCreditMessageParser();
 
     @DisplayName("농협 결제 메시지인지 판별한다.")
@@ -35,14 +37,25 @@ class SHCreditMessageParserTest {
         // given
         String shMessage = "신한카드(6193)승인 가나다 5,700원(일시불)10/21 08:33 (주)티머니 개인택 누적1,000,000원";
         // when
-        ExpenditureDto expenditure = parser.parse(shMessage);
+        ExpenditureDto expenditure = parser.parse(shMessage, RECEIVED_AT);
         // then
         assertThat(expenditure.getVendor()).isEqualTo("SH");
         assertThat(expenditure.getSpentDate()).isEqualTo(
-                LocalDateTime.of(LocalDateTime.now().getYear(), 10, 21, 8, 33));
+                LocalDateTime.of(2025, 10, 21, 8, 33));
         assertThat(expenditure.getAmount()).isEqualTo(5700);
         assertThat(expenditure.getTradeName()).isEqualTo("(주)티머니 개인택");
 
     }
 
-}
\ No newline at end of file
+    @DisplayName("승인취소 문자는 음수 금액으로 파싱한다.")
+    @Test
+    void parseCancellation() throws Exception {
+        // given
+        String shMessage = "신한카드(6193)승인취소 가나다 5,700원(일시불)10/21 08:33 (주)티머니 개인택 누적994,300원";
+        // when
+        ExpenditureDto expenditure = parser.parse(shMessage, RECEIVED_AT);
+        // then
+        assertThat(expenditure.getAmount()).isEqualTo(-5700);
+        assertThat(expenditure.getTradeName()).isEqualTo("(주)티머니 개인택");
+    }
+}
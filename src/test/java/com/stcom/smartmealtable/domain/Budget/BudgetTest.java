@@ -3,6 +3,7 @@ package com.stcom.smartmealtable.domain.Budget;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.infrastructure.persistence.WonAmountConverter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -16,13 +17,13 @@ class BudgetTest {
         // given
         MemberProfile profile = getMember();
         // when
-        DailyBudget budget1 = new DailyBudget(profile, BigDecimal.valueOf(100000), LocalDate.now());
-        MonthlyBudget budget2 = new MonthlyBudget(profile, BigDecimal.valueOf(100000), YearMonth.now());
+        DailyBudget budget1 = new DailyBudget(profile, 100000, LocalDate.now());
+        MonthlyBudget budget2 = new MonthlyBudget(profile, 100000, YearMonth.now());
         // then
-        assertThat(budget1.getLimit()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(budget1.getLimit()).isEqualTo(100000);
         assertThat(budget1.getDate()).isNotNull();
 
-        assertThat(budget2.getLimit()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(budget2.getLimit()).isEqualTo(100000);
     }
 
     private MemberProfile getMember() {
@@ -33,24 +34,27 @@ class BudgetTest {
     void 예산_소비_정수() throws Exception {
         // given
         MemberProfile profile = getMember();
-        Budget budget = new DailyBudget(profile, BigDecimal.valueOf(100000), LocalDate.now());
+        Budget budget = new DailyBudget(profile, 100000, LocalDate.now());
         // when
         budget.addSpent(1000);
         // then
-        assertThat(budget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(1000));
-        assertThat(budget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(99000));
+        assertThat(budget.getSpendAmount()).isEqualTo(1000);
+        assertThat(budget.getAvailableAmount()).isEqualTo(99000);
     }
 
     @Test
     void 예산_소비_소수() throws Exception {
         // given
+        // 금액이 원 단위 long 으로 바뀌기 전에 소수로 저장된 값은 컨버터를 거치며 절사되어 들어온다.
+        WonAmountConverter converter = new WonAmountConverter();
         MemberProfile profile = getMember();
-        Budget budget = new DailyBudget(profile, BigDecimal.valueOf(100000), LocalDate.now());
+        Budget budget = new DailyBudget(profile, converter.convertToEntityAttribute(new BigDecimal("100000.5")),
+                LocalDate.now());
         // when
-        budget.addSpent(9999.9);
+        budget.addSpent(converter.convertToEntityAttribute(new BigDecimal("9999.9")));
         // then
-        assertThat(budget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(9999.9));
-        assertThat(budget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(90000.1));
+        assertThat(budget.getSpendAmount()).isEqualTo(9999);
+        assertThat(budget.getAvailableAmount()).isEqualTo(90001);
     }
 
     @Test
@@ -58,8 +62,8 @@ class BudgetTest {
         // given
         MemberProfile profile1 = getMember();
         MemberProfile profile2 = getMember();
-        Budget budget1 = new DailyBudget(profile1, BigDecimal.valueOf(100000), LocalDate.now());
-        Budget budget2 = new DailyBudget(profile2, BigDecimal.valueOf(100000), LocalDate.now());
+        Budget budget1 = new DailyBudget(profile1, 100000, LocalDate.now());
+        Budget budget2 = new DailyBudget(profile2, 100000, LocalDate.now());
 
         // when
         budget1.addSpent(99000);
@@ -3,7 +3,6 @@ package com.stcom.smartmealtable.domain.Budget;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.stcom.smartmealtable.domain.member.MemberProfile;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +14,7 @@ class DailyBudgetTest {
     void createDailyBudget() {
         // given
         MemberProfile memberProfile = new MemberProfile();
-        BigDecimal limit = BigDecimal.valueOf(10000);
+        long limit = 10000;
         LocalDate today = LocalDate.now();
 
         // when
@@ -25,7 +24,7 @@ class DailyBudgetTest {
         assertThat(dailyBudget.getMemberProfile()).isEqualTo(memberProfile);
         assertThat(dailyBudget.getLimit()).isEqualTo(limit);
         assertThat(dailyBudget.getDate()).isEqualTo(today);
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(0);
     }
 
     @Test
@@ -33,18 +32,18 @@ class DailyBudgetTest {
     void addSpentAmount() {
         // given
         MemberProfile memberProfile = new MemberProfile();
-        BigDecimal limit = BigDecimal.valueOf(10000);
+        long limit = 10000;
         LocalDate today = LocalDate.now();
         DailyBudget dailyBudget = new DailyBudget(memberProfile, limit, today);
 
         // when
-        dailyBudget.addSpent(BigDecimal.valueOf(3000));
+        dailyBudget.addSpent(3000);
         dailyBudget.addSpent(1000);
-        dailyBudget.addSpent(1500.5);
+        dailyBudget.addSpent(1500);
 
         // then
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(5500.5));
-        assertThat(dailyBudget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(4499.5));
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(5500);
+        assertThat(dailyBudget.getAvailableAmount()).isEqualTo(4500);
     }
 
     @Test
@@ -52,7 +51,7 @@ class DailyBudgetTest {
     void checkIfOverLimit() {
         // given
         MemberProfile memberProfile = new MemberProfile();
-        BigDecimal limit = BigDecimal.valueOf(5000);
+        long limit = 5000;
         LocalDate today = LocalDate.now();
         DailyBudget dailyBudget = new DailyBudget(memberProfile, limit, today);
 
@@ -66,7 +65,7 @@ class DailyBudgetTest {
         // then
         assertThat(beforeOverLimit).isFalse();
         assertThat(afterOverLimit).isTrue();
-        assertThat(dailyBudget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(-500));
+        assertThat(dailyBudget.getAvailableAmount()).isEqualTo(-500);
     }
 
     @Test
@@ -74,7 +73,7 @@ class DailyBudgetTest {
     void resetSpentAmount() {
         // given
         MemberProfile memberProfile = new MemberProfile();
-        BigDecimal limit = BigDecimal.valueOf(10000);
+        long limit = 10000;
         LocalDate today = LocalDate.now();
         DailyBudget dailyBudget = new DailyBudget(memberProfile, limit, today);
         dailyBudget.addSpent(5000);
@@ -83,7 +82,7 @@ class DailyBudgetTest {
         dailyBudget.resetSpent();
 
         // then
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(0);
         assertThat(dailyBudget.getAvailableAmount()).isEqualTo(limit);
     }
 } 
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.stcom.smartmealtable.domain.Budget;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.stcom.smartmealtable.domain.member.MemberProfile;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -23,8 +22,8 @@ class ExpenditureTest {
         LocalDate today = LocalDate.now();
         YearMonth thisMonth = YearMonth.from(today);
         
-        dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(50_000), today);
-        monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(1_000_000), thisMonth);
+        dailyBudget = new DailyBudget(memberProfile, 50_000, today);
+        monthlyBudget = new MonthlyBudget(memberProfile, 1_000_000, thisMonth);
     }
 
     @Test
@@ -69,8 +68,8 @@ class ExpenditureTest {
                 .build();
         
         // 초기 예산에 지출 추가
-        dailyBudget.addSpent(BigDecimal.valueOf(originalAmount));
-        monthlyBudget.addSpent(BigDecimal.valueOf(originalAmount));
+        dailyBudget.addSpent(originalAmount);
+        monthlyBudget.addSpent(originalAmount);
         
         LocalDateTime newSpentDate = LocalDateTime.now().plusHours(1);
         Long newAmount = 15000L; // 3000원 증가
@@ -85,8 +84,8 @@ class ExpenditureTest {
         assertThat(expenditure.getTradeName()).isEqualTo(newTradeName);
         
         // 예산에 차액(3000원)이 추가로 반영되어야 함
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(15000));
-        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(15000));
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(15000);
+        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(15000);
     }
 
     @Test
@@ -106,8 +105,8 @@ class ExpenditureTest {
                 .build();
         
         // 초기 예산에 지출 추가
-        dailyBudget.addSpent(BigDecimal.valueOf(originalAmount));
-        monthlyBudget.addSpent(BigDecimal.valueOf(originalAmount));
+        dailyBudget.addSpent(originalAmount);
+        monthlyBudget.addSpent(originalAmount);
         
         LocalDateTime newSpentDate = LocalDateTime.now().plusHours(1);
         Long newAmount = 10000L; // 5000원 감소
@@ -120,8 +119,8 @@ class ExpenditureTest {
         assertThat(expenditure.getAmount()).isEqualTo(newAmount);
         
         // 예산에서 차액(5000원)이 차감되어야 함
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(10000));
-        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(10000));
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(10000);
+        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(10000);
     }
 
     @Test
@@ -141,8 +140,8 @@ class ExpenditureTest {
                 .build();
         
         // 초기 예산에 지출 추가
-        dailyBudget.addSpent(BigDecimal.valueOf(originalAmount));
-        monthlyBudget.addSpent(BigDecimal.valueOf(originalAmount));
+        dailyBudget.addSpent(originalAmount);
+        monthlyBudget.addSpent(originalAmount);
         
         LocalDateTime newSpentDate = LocalDateTime.now().plusHours(1);
         Long newAmount = 12000L; // 동일한 금액
@@ -157,8 +156,8 @@ class ExpenditureTest {
         assertThat(expenditure.getTradeName()).isEqualTo(newTradeName);
         
         // 예산에 변화가 없어야 함
-        assertThat(dailyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(originalAmount));
-        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(originalAmount));
+        assertThat(dailyBudget.getSpendAmount()).isEqualTo(originalAmount);
+        assertThat(monthlyBudget.getSpendAmount()).isEqualTo(originalAmount);
     }
 
     @Test
@@ -178,11 +177,11 @@ class ExpenditureTest {
                 .build();
         
         // 초기 예산에 지출 추가
-        dailyBudget.addSpent(BigDecimal.valueOf(amount));
-        monthlyBudget.addSpent(BigDecimal.valueOf(amount));
+        dailyBudget.addSpent(amount);
+        monthlyBudget.addSpent(amount);
         
-        BigDecimal originalDailySpent = dailyBudget.getSpendAmount();
-        BigDecimal originalMonthlySpent = monthlyBudget.getSpendAmount();
+        long originalDailySpent = dailyBudget.getSpendAmount();
+        long originalMonthlySpent = monthlyBudget.getSpendAmount();
         
         LocalDateTime newSpentDate = LocalDateTime.now().plusHours(2);
         String newTradeName = "Late Lunch";
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import com.stcom.smartmealtable.domain.member.MemberProfile;
-import java.math.BigDecimal;
 import java.time.YearMonth;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +15,7 @@ class MonthlyBudgetTest {
     void createMonthlyBudget() {
         // given
         MemberProfile memberProfile = mock(MemberProfile.class);
-        BigDecimal limit = BigDecimal.valueOf(300000);
+        long limit = 300000;
         YearMonth yearMonth = YearMonth.of(2025, 5);
 
         // when
@@ -26,7 +25,7 @@ class MonthlyBudgetTest {
         assertThat(budget.getMemberProfile()).isEqualTo(memberProfile);
         assertThat(budget.getLimit()).isEqualTo(limit);
         assertThat(budget.getYearMonth()).isEqualTo(yearMonth);
-        assertThat(budget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(budget.getSpendAmount()).isEqualTo(0);
     }
 
     @Test
@@ -34,17 +33,17 @@ class MonthlyBudgetTest {
     void addSpent() {
         // given
         MemberProfile memberProfile = mock(MemberProfile.class);
-        BigDecimal limit = BigDecimal.valueOf(300000);
+        long limit = 300000;
         YearMonth yearMonth = YearMonth.of(2025, 5);
         MonthlyBudget budget = new MonthlyBudget(memberProfile, limit, yearMonth);
 
         // when
-        budget.addSpent(BigDecimal.valueOf(50000));
+        budget.addSpent(50000);
         budget.addSpent(10000); // int 값 추가
-        budget.addSpent(5000.5); // double 값 추가
+        budget.addSpent(5000L); // long 값 추가
 
         // then
-        assertThat(budget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(65000.5));
+        assertThat(budget.getSpendAmount()).isEqualTo(65000);
     }
 
     @Test
@@ -52,15 +51,15 @@ class MonthlyBudgetTest {
     void getAvailableAmount() {
         // given
         MemberProfile memberProfile = mock(MemberProfile.class);
-        BigDecimal limit = BigDecimal.valueOf(300000);
+        long limit = 300000;
         YearMonth yearMonth = YearMonth.of(2025, 5);
         MonthlyBudget budget = new MonthlyBudget(memberProfile, limit, yearMonth);
 
         // when
-        budget.addSpent(BigDecimal.valueOf(100000));
+        budget.addSpent(100000);
 
         // then
-        assertThat(budget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(200000));
+        assertThat(budget.getAvailableAmount()).isEqualTo(200000);
     }
 
     @Test
@@ -68,18 +67,18 @@ class MonthlyBudgetTest {
     void isOverLimit() {
         // given
         MemberProfile memberProfile = mock(MemberProfile.class);
-        BigDecimal limit = BigDecimal.valueOf(300000);
+        long limit = 300000;
         YearMonth yearMonth = YearMonth.of(2025, 5);
         MonthlyBudget budget = new MonthlyBudget(memberProfile, limit, yearMonth);
 
         // when - 예산 이내 지출
-        budget.addSpent(BigDecimal.valueOf(200000));
+        budget.addSpent(200000);
         
         // then
         assertThat(budget.isOverLimit()).isFalse();
         
         // when - 예산 초과 지출
-        budget.addSpent(BigDecimal.valueOf(150000));
+        budget.addSpent(150000);
         
         // then
         assertThat(budget.isOverLimit()).isTrue();
@@ -90,15 +89,15 @@ class MonthlyBudgetTest {
     void resetSpent() {
         // given
         MemberProfile memberProfile = mock(MemberProfile.class);
-        BigDecimal limit = BigDecimal.valueOf(300000);
+        long limit = 300000;
         YearMonth yearMonth = YearMonth.of(2025, 5);
         MonthlyBudget budget = new MonthlyBudget(memberProfile, limit, yearMonth);
-        budget.addSpent(BigDecimal.valueOf(100000));
+        budget.addSpent(100000);
         
         // when
         budget.resetSpent();
         
         // then
-        assertThat(budget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(budget.getSpendAmount()).isEqualTo(0);
     }
 } 
\ No newline at end of file
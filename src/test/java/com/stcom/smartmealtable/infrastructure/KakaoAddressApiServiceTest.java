@@ -1,69 +1,101 @@
 package com.stcom.smartmealtable.infrastructure;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stcom.smartmealtable.domain.Address.Address;
 import com.stcom.smartmealtable.exception.ExternApiStatusError;
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
+import com.stcom.smartmealtable.infrastructure.cache.AddressLookupCache;
 import com.stcom.smartmealtable.infrastructure.dto.AddressRequest;
-import java.util.List;
-import java.util.function.Function;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClient.RequestHeadersSpec;
-import org.springframework.web.client.RestClient.RequestHeadersUriSpec;
-import org.springframework.web.client.RestClient.ResponseSpec;
 
+/**
+ * 로컬 HTTP 스텁 서버를 카카오 로컬 API 대신 띄워 실제 요청/응답 변환까지 확인한다.
+ */
 @SuppressWarnings("unchecked")
 class KakaoAddressApiServiceTest {
 
+    private HttpServer server;
+    private final AtomicReference<String> responseBody = new AtomicReference<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
     private KakaoAddressApiService kakaoAddressApiService;
-    private RestClient mockClient;
-    private RequestHeadersUriSpec<?> uriSpec;
-    private RequestHeadersSpec<?> headersSpec;
-    private ResponseSpec responseSpec;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
-    void setUp() {
-        kakaoAddressApiService = new KakaoAddressApiService();
-        mockClient = Mockito.mock(RestClient.class);
-        uriSpec = Mockito.mock(RequestHeadersUriSpec.class);
-        headersSpec = Mockito.mock(RequestHeadersSpec.class);
-        responseSpec = Mockito.mock(ResponseSpec.class);
-
-        // stub common chain
-        Mockito.when(mockClient.get()).thenAnswer(invocation -> uriSpec);
-        Mockito.when((uriSpec).uri(Mockito.any(Function.class))).thenAnswer(invocation -> headersSpec);
-        Mockito.when(headersSpec.header(Mockito.eq("Authorization"), Mockito.anyString())).thenAnswer(invocation -> headersSpec);
-        
-        ReflectionTestUtils.setField(kakaoAddressApiService, "client", mockClient);
-        ReflectionTestUtils.setField(kakaoAddressApiService, "clientId", "testKey");
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/local/search/address", exchange -> {
+            requestCount.incrementAndGet();
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = responseBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(responseStatus.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = Mockito.mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+
+        meterRegistry = new SimpleMeterRegistry();
+        AddressLookupCache cache = new AddressLookupCache(redisTemplate, meterRegistry, new ObjectMapper());
+        kakaoAddressApiService = new KakaoAddressApiService("testKey",
+                "http://127.0.0.1:" + server.getAddress().getPort(), RestClient.builder(), cache,
+                new ExternalApiCircuitBreakers(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static String searchResponse(int totalCount, String documents) {
+        return """
+                {"meta":{"total_count":%d,"pageable_count":%d,"is_end":true},"documents":[%s]}
+                """.formatted(totalCount, totalCount, documents);
+    }
+
+    private static String document(String lotAddress, String roadAddress, String x, String y) {
+        return """
+                {"address_name":"%s","address_type":"ROAD_ADDR","x":"%s","y":"%s",
+                 "address":{"address_name":"%s","x":"%s","y":"%s"},
+                 "road_address":{"address_name":"%s","zone_no":"06142","x":"%s","y":"%s"}}
+                """.formatted(lotAddress, x, y, lotAddress, x, y, roadAddress, x, y);
     }
 
     @DisplayName("정상적으로 주소를 생성한다")
     @Test
     void createAddressFromRequest_success() {
         // given
-        KakaoAddressApiService.Meta meta = new KakaoAddressApiService.Meta(1, 1, true);
-        KakaoAddressApiService.LotAddress lotAddress = new KakaoAddressApiService.LotAddress(
-                "lotaddr", "reg1", "reg2", "reg3", "reg3H", "hCode", "bCode", "N",
-                "123", "4", "127.123", "37.123");
-        KakaoAddressApiService.RoadAddress roadAddress = new KakaoAddressApiService.RoadAddress(
-                "roadaddr", "reg1", "reg2", "reg3", "road", "N", "1", "2", "building",
-                "12345", "127.123", "37.123");
-        KakaoAddressApiService.Document document = new KakaoAddressApiService.Document(
-                "address", "type", "127.123", "37.123", lotAddress, roadAddress);
-        KakaoAddressApiService.AddressSearchResponse response = new KakaoAddressApiService.AddressSearchResponse(
-                meta, List.of(document));
-
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(response);
-
+        responseBody.set(searchResponse(1, document("lotaddr", "roadaddr", "127.123", "37.123")));
         AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
 
         // when
@@ -75,142 +107,106 @@ class KakaoAddressApiServiceTest {
         assertEquals("lotaddr", result.getLotNumberAddress());
         assertEquals("roadaddr", result.getRoadAddress());
         assertEquals("detailaddr", result.getDetailAddress());
+        assertEquals("KakaoAK testKey", authorization.get());
     }
 
-    @DisplayName("외부 API 호출 실패 시 ExternApiStatusError를 던진다")
+    @DisplayName("같은 도로명 주소는 API 를 한 번만 호출하고 상세 주소는 요청마다 반영한다")
     @Test
-    void createAddressFromRequest_fail() {
+    void createAddressFromRequest_cached() {
         // given
-        Mockito.when(headersSpec.retrieve()).thenThrow(new RuntimeException("connection error"));
+        responseBody.set(searchResponse(1,
+                document("서울특별시 강남구 역삼동 123-4", "서울특별시 강남구 테헤란로 123", "127.0333334", "37.5000001")));
 
+        // when
+        Address first = kakaoAddressApiService.createAddressFromRequest(
+                new AddressRequest("서울특별시 강남구 테헤란로 123", "101호"));
+        Address second = kakaoAddressApiService.createAddressFromRequest(
+                new AddressRequest(" 서울특별시  강남구 테헤란로 123", "202호"));
+
+        // then
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(second.getDetailAddress()).isEqualTo("202호");
+        assertThat(second.getLongitude()).isEqualTo(first.getLongitude()).isEqualTo(127.033333);
+        assertThat(second.getLatitude()).isEqualTo(37.5);
+        assertThat(meterRegistry.get("address.lookup.cache").tag("result", "local_hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("외부 API 호출 실패 시 ExternApiStatusError를 던지고 결과를 캐시하지 않는다")
+    @Test
+    void createAddressFromRequest_fail() {
+        // given
+        responseStatus.set(500);
+        responseBody.set("{}");
         AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
 
         // when & then
         assertThrows(ExternApiStatusError.class, () -> kakaoAddressApiService.createAddressFromRequest(request));
+        assertThrows(ExternApiStatusError.class, () -> kakaoAddressApiService.createAddressFromRequest(request));
+        assertThat(requestCount.get()).isEqualTo(2);
     }
 
-    @DisplayName("조회 결과가 null인 경우 IllegalArgumentException을 던진다")
+    @DisplayName("외부 API 가 연속으로 실패하면 서킷을 열고 호출하지 않고 바로 실패한다")
     @Test
-    void createAddressFromRequest_nullResponse() {
+    void createAddressFromRequest_circuitOpen() {
         // given
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(null);
-
-        AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
+        responseStatus.set(500);
+        responseBody.set("{}");
+        for (int i = 0; i < 5; i++) {
+            AddressRequest request = new AddressRequest("roadaddr" + i, "detailaddr");
+            assertThrows(ExternApiStatusError.class, () -> kakaoAddressApiService.createAddressFromRequest(request));
+        }
 
         // when & then
-        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class, 
+        AddressRequest request = new AddressRequest("another roadaddr", "detailaddr");
+        assertThrows(ExternApiUnavailableException.class,
                 () -> kakaoAddressApiService.createAddressFromRequest(request));
-        assertEquals("카카오 주소 Api 호출 중 오류가 발생했습니다.", exception.getMessage());
+        assertThat(requestCount.get()).isEqualTo(5);
     }
 
-    @DisplayName("조회 결과가 2개 이상인 경우 IllegalArgumentException을 던진다")
+    @DisplayName("조회 결과가 2개 이상인 경우 ExternApiStatusError를 던지고 모호한 결과를 캐시한다")
     @Test
     void createAddressFromRequest_ambiguousAddress() {
         // given
-        KakaoAddressApiService.Meta meta = new KakaoAddressApiService.Meta(2, 2, true);
-        KakaoAddressApiService.LotAddress lotAddress = new KakaoAddressApiService.LotAddress(
-                "lotaddr", "reg1", "reg2", "reg3", "reg3H", "hCode", "bCode", "N",
-                "123", "4", "127.123", "37.123");
-        KakaoAddressApiService.RoadAddress roadAddress = new KakaoAddressApiService.RoadAddress(
-                "roadaddr", "reg1", "reg2", "reg3", "road", "N", "1", "2", "building",
-                "12345", "127.123", "37.123");
-        KakaoAddressApiService.Document document = new KakaoAddressApiService.Document(
-                "address", "type", "127.123", "37.123", lotAddress, roadAddress);
-        KakaoAddressApiService.AddressSearchResponse response = new KakaoAddressApiService.AddressSearchResponse(
-                meta, List.of(document, document));
-
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(response);
-
+        String document = document("lotaddr", "roadaddr", "127.123", "37.123");
+        responseBody.set(searchResponse(2, document + "," + document));
         AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
 
         // when & then
-        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class, 
+        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class,
                 () -> kakaoAddressApiService.createAddressFromRequest(request));
         assertEquals("카카오 주소 Api 호출 중 오류가 발생했습니다.", exception.getMessage());
+        assertThat(exception.getCause()).hasMessage("주소가 모호합니다. 정확한 주소를 입력하세요");
+
+        assertThrows(ExternApiStatusError.class, () -> kakaoAddressApiService.createAddressFromRequest(request));
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("address.lookup.cache").tag("result", "negative_hit").counter().count())
+                .isEqualTo(1);
     }
 
-    @DisplayName("조회 결과가 0개인 경우 정상 처리된다")
+    @DisplayName("조회 결과가 0개인 경우 ExternApiStatusError를 던진다")
     @Test
     void createAddressFromRequest_noResults() {
         // given
-        KakaoAddressApiService.Meta meta = new KakaoAddressApiService.Meta(0, 0, true);
-        KakaoAddressApiService.AddressSearchResponse response = new KakaoAddressApiService.AddressSearchResponse(
-                meta, List.of());
-
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(response);
-
+        responseBody.set(searchResponse(0, ""));
         AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
 
         // when & then
-        assertThrows(ExternApiStatusError.class, 
+        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class,
                 () -> kakaoAddressApiService.createAddressFromRequest(request));
-    }
-
-    @DisplayName("좌표값이 문자열로 전달되어도 정상 변환된다")
-    @Test
-    void createAddressFromRequest_stringCoordinates() {
-        // given
-        KakaoAddressApiService.Meta meta = new KakaoAddressApiService.Meta(1, 1, true);
-        KakaoAddressApiService.LotAddress lotAddress = new KakaoAddressApiService.LotAddress(
-                "서울특별시 강남구 역삼동 123-4", "서울특별시", "강남구", "역삼동", "", 
-                "1168010500", "1168010500", "N", "123", "4", "127.033333", "37.500000");
-        KakaoAddressApiService.RoadAddress roadAddress = new KakaoAddressApiService.RoadAddress(
-                "서울특별시 강남구 테헤란로 123", "서울특별시", "강남구", "역삼동", "테헤란로", 
-                "N", "123", "", "타워빌딩", "06142", "127.033333", "37.500000");
-        KakaoAddressApiService.Document document = new KakaoAddressApiService.Document(
-                "서울특별시 강남구 역삼동 123-4", "ROAD_ADDR", "127.033333", "37.500000", 
-                lotAddress, roadAddress);
-        KakaoAddressApiService.AddressSearchResponse response = new KakaoAddressApiService.AddressSearchResponse(
-                meta, List.of(document));
-
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(response);
-
-        AddressRequest request = new AddressRequest("서울특별시 강남구 테헤란로 123", "101호");
-
-        // when
-        Address result = kakaoAddressApiService.createAddressFromRequest(request);
-
-        // then
-        assertEquals(127.033333, result.getLongitude());
-        assertEquals(37.500000, result.getLatitude());
-        assertEquals("서울특별시 강남구 역삼동 123-4", result.getLotNumberAddress());
-        assertEquals("서울특별시 강남구 테헤란로 123", result.getRoadAddress());
-        assertEquals("101호", result.getDetailAddress());
+        assertThat(exception.getCause()).hasMessage("조회된 결과가 없습니다");
     }
 
     @DisplayName("숫자 변환 오류 시 ExternApiStatusError를 던진다")
     @Test
     void createAddressFromRequest_invalidCoordinates() {
         // given
-        KakaoAddressApiService.Meta meta = new KakaoAddressApiService.Meta(1, 1, true);
-        KakaoAddressApiService.LotAddress lotAddress = new KakaoAddressApiService.LotAddress(
-                "lotaddr", "reg1", "reg2", "reg3", "reg3H", "hCode", "bCode", "N",
-                "123", "4", "invalid", "invalid");
-        KakaoAddressApiService.RoadAddress roadAddress = new KakaoAddressApiService.RoadAddress(
-                "roadaddr", "reg1", "reg2", "reg3", "road", "N", "1", "2", "building",
-                "12345", "invalid", "invalid");
-        KakaoAddressApiService.Document document = new KakaoAddressApiService.Document(
-                "address", "type", "invalid", "invalid", lotAddress, roadAddress);
-        KakaoAddressApiService.AddressSearchResponse response = new KakaoAddressApiService.AddressSearchResponse(
-                meta, List.of(document));
-
-        Mockito.when(headersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.body(KakaoAddressApiService.AddressSearchResponse.class))
-                .thenReturn(response);
-
+        responseBody.set(searchResponse(1, document("lotaddr", "roadaddr", "invalid", "invalid")));
         AddressRequest request = new AddressRequest("roadaddr", "detailaddr");
 
         // when & then
-        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class, 
+        ExternApiStatusError exception = assertThrows(ExternApiStatusError.class,
                 () -> kakaoAddressApiService.createAddressFromRequest(request));
         assertEquals("카카오 주소 Api 호출 중 오류가 발생했습니다.", exception.getMessage());
     }
-} 
\ No newline at end of file
+}
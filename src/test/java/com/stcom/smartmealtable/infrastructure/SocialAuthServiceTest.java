@@ -4,18 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 // ... existing code ...
 
 import com.stcom.smartmealtable.exception.ExternApiStatusError;
 import com.stcom.smartmealtable.infrastructure.dto.TokenDto;
+import com.stcom.smartmealtable.infrastructure.resilience.CircuitBreaker;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import com.stcom.smartmealtable.infrastructure.social.GoogleHttpMessage;
 import com.stcom.smartmealtable.infrastructure.social.KakaoHttpMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestClient;
@@ -35,11 +38,14 @@ class SocialAuthServiceTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
-    @InjectMocks
+    private ExternalApiCircuitBreakers circuitBreakers;
     private SocialAuthService socialAuthService;
 
     @BeforeEach
     void setUp() {
+        circuitBreakers = new ExternalApiCircuitBreakers(new SimpleMeterRegistry());
+        socialAuthService = new SocialAuthService(kakaoHttpMessage, googleHttpMessage, circuitBreakers,
+                RestClient.builder());
         socialAuthService.init();
     }
 
@@ -77,4 +83,25 @@ class SocialAuthServiceTest {
         assertThrows(ExternApiStatusError.class,
                 () -> socialAuthService.getTokenResponse("kakao", "authCode"));
     }
-} 
\ No newline at end of file
+
+    @DisplayName("ID 토큰 검증 실패는 서킷 실패로 세지 않는다")
+    @Test
+    void getTokenResponse_invalidIdToken() {
+        // given
+        when(kakaoHttpMessage.getRequestMessage(any(RestClient.class), eq("authCode")))
+                .thenReturn(requestBodySpec);
+        when(requestBodySpec.retrieve()).thenReturn(responseSpec);
+        when(kakaoHttpMessage.getTokenResponse(responseSpec)).thenReturn(TokenDto.builder().idToken("token").build());
+        doThrow(new IllegalArgumentException("ID 토큰 대상이 올바르지 않습니다."))
+                .when(kakaoHttpMessage).applyIdTokenClaims(any());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThrows(ExternApiStatusError.class,
+                    () -> socialAuthService.getTokenResponse("kakao", "authCode"));
+        }
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.getKakaoOauth().getState());
+    }
+}
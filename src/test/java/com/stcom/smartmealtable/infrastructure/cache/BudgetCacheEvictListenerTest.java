@@ -0,0 +1,102 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.stcom.smartmealtable.infrastructure.config.CacheConfig;
+import com.stcom.smartmealtable.service.event.DailyBudgetChangedEvent;
+import com.stcom.smartmealtable.service.event.MonthlyBudgetChangedEvent;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class BudgetCacheEvictListenerTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private BudgetCacheEvictListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                CacheConfig.DAILY_BUDGET, CacheConfig.WEEKLY_BUDGET, CacheConfig.MONTHLY_BUDGET);
+        listener = new BudgetCacheEvictListener(cacheManager);
+    }
+
+    @DisplayName("일일 예산 변경 시 해당 일자와 그 주의 캐시가 삭제된다")
+    @Test
+    void onDailyBudgetChanged() {
+        // given
+        Cache daily = cacheManager.getCache(CacheConfig.DAILY_BUDGET);
+        Cache weekly = cacheManager.getCache(CacheConfig.WEEKLY_BUDGET);
+        daily.put("1:2025-06-12", "cached");
+        daily.put("1:2025-06-13", "other day");
+        weekly.put("1:2025-06-09", "cached week");
+        daily.put("2:2025-06-12", "other profile");
+
+        // when
+        listener.onDailyBudgetChanged(DailyBudgetChangedEvent.of(1L, LocalDate.of(2025, 6, 12)));
+
+        // then
+        assertThat(daily.get("1:2025-06-12")).isNull();
+        assertThat(weekly.get("1:2025-06-09")).isNull();
+        assertThat(daily.get("1:2025-06-13")).isNotNull();
+        assertThat(daily.get("2:2025-06-12")).isNotNull();
+    }
+
+    @DisplayName("구간 변경 시 구간에 걸친 모든 주의 캐시가 삭제된다")
+    @Test
+    void onDailyBudgetChanged_range() {
+        // given
+        Cache weekly = cacheManager.getCache(CacheConfig.WEEKLY_BUDGET);
+        weekly.put("1:2025-06-23", "week 1");
+        weekly.put("1:2025-06-30", "week 2");
+
+        // when
+        listener.onDailyBudgetChanged(
+                new DailyBudgetChangedEvent(1L, LocalDate.of(2025, 6, 25), LocalDate.of(2025, 6, 30)));
+
+        // then
+        assertThat(weekly.get("1:2025-06-23")).isNull();
+        assertThat(weekly.get("1:2025-06-30")).isNull();
+    }
+
+    @DisplayName("끝이 없는 구간 변경 시 해당 프로필의 일일/주간 캐시가 모두 삭제된다")
+    @Test
+    void onDailyBudgetChanged_openEnded() {
+        // given
+        Cache daily = cacheManager.getCache(CacheConfig.DAILY_BUDGET);
+        Cache weekly = cacheManager.getCache(CacheConfig.WEEKLY_BUDGET);
+        daily.put("1:2025-06-12", "cached");
+        daily.put("1:2026-01-05", "far future");
+        weekly.put("1:2025-06-09", "cached week");
+        daily.put("10:2025-06-12", "other profile");
+        weekly.put("2:2025-06-09", "other profile week");
+
+        // when
+        listener.onDailyBudgetChanged(DailyBudgetChangedEvent.from(1L, LocalDate.of(2025, 6, 12)));
+
+        // then
+        assertThat(daily.get("1:2025-06-12")).isNull();
+        assertThat(daily.get("1:2026-01-05")).isNull();
+        assertThat(weekly.get("1:2025-06-09")).isNull();
+        assertThat(daily.get("10:2025-06-12")).isNotNull();
+        assertThat(weekly.get("2:2025-06-09")).isNotNull();
+    }
+
+    @DisplayName("월별 예산 변경 시 해당 월의 캐시가 삭제된다")
+    @Test
+    void onMonthlyBudgetChanged() {
+        // given
+        Cache monthly = cacheManager.getCache(CacheConfig.MONTHLY_BUDGET);
+        monthly.put("1:2025-06", "cached");
+
+        // when
+        listener.onMonthlyBudgetChanged(new MonthlyBudgetChangedEvent(1L, YearMonth.of(2025, 6)));
+
+        // then
+        assertThat(monthly.get("1:2025-06")).isNull();
+    }
+}
@@ -0,0 +1,148 @@
+package com.stcom.smartmealtable.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class TwoLevelCacheTest {
+
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache<String> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = TwoLevelCache.<String>builder()
+                .name("테스트")
+                .keyPrefix("test:")
+                .redisTemplate(redisTemplate)
+                .meterRegistry(meterRegistry)
+                .metricPrefix("test.lookup")
+                .codec(new TwoLevelCache.Codec<>() {
+                    @Override
+                    public String encode(String value) {
+                        return value;
+                    }
+
+                    @Override
+                    public String decode(String serialized) {
+                        return serialized;
+                    }
+                })
+                .localMaxSize(100)
+                .localTtl(value -> Duration.ofHours(1))
+                .redisTtl(value -> value.isEmpty() ? Duration.ofMinutes(5) : Duration.ofDays(1))
+                .negative(String::isEmpty)
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("test.lookup.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("한 번 가져온 값은 로컬 캐시에서 돌려주고, Redis 유지 시간은 값마다 정한다")
+    void cachesWithPerValueTtl() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get("found", () -> {
+            calls.incrementAndGet();
+            return "value";
+        });
+        String cached = cache.get("found", () -> {
+            calls.incrementAndGet();
+            return "other";
+        });
+        cache.get("missing", () -> "");
+        cache.get("missing", () -> "");
+
+        // then
+        assertThat(cached).isEqualTo("value");
+        assertThat(calls).hasValue(1);
+        verify(valueOperations).set(anyString(), eq("value"), eq(Duration.ofDays(1)));
+        verify(valueOperations).set(anyString(), eq(""), eq(Duration.ofMinutes(5)));
+        assertThat(count("miss")).isEqualTo(2);
+        assertThat(count("local_hit")).isEqualTo(1);
+        assertThat(count("negative_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 loader 결과를 돌려준다")
+    void fallsBackToLoaderWhenRedisFails() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("Redis 연결 실패"));
+
+        // when
+        String value = cache.get("key", () -> "value");
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("loader 가 Error 로 끝나도 함께 기다리던 요청은 같은 Error 로 끝난다")
+    void completesWaitersWhenLoaderThrowsError() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> failing = () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new AssertionError("loader 실패");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<String> leader = executor.submit(() -> cache.get("key", failing));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> follower = executor.submit(() -> cache.get("key", () -> "value"));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+            assertThat(count("coalesced")).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
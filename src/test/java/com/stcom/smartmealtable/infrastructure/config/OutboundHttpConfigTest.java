@@ -0,0 +1,128 @@
+package com.stcom.smartmealtable.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 2초 동안 응답하지 않는 외부 API 를 로컬 스텁 서버로 흉내 내어 타임아웃과 커넥션 재사용을 확인한다.
+ */
+class OutboundHttpConfigTest {
+
+    private static final Duration PROVIDER_STALL = Duration.ofSeconds(2);
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient httpClient;
+    private RestClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(PROVIDER_STALL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        server.createContext("/port", exchange ->
+                respond(exchange, String.valueOf(exchange.getRemoteAddress().getPort())));
+        server.start();
+
+        OutboundHttpConfig config = new OutboundHttpConfig();
+        httpClient = config.outboundHttpClient(Duration.ofSeconds(1));
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        config.outboundRestClientCustomizer(httpClient, READ_TIMEOUT).customize(builder);
+        client = builder.build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.shutdownNow();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String get(String path) {
+        return client.get().uri(path).retrieve().body(String.class);
+    }
+
+    @DisplayName("외부 API 응답이 응답 타임아웃보다 늦으면 기다리지 않고 실패한다")
+    @Test
+    void readTimeout() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> get("/slow"))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(PROVIDER_STALL);
+    }
+
+    @DisplayName("외부 API 가 멈춰도 동시 요청들은 각자 응답 타임아웃 안에 실패한다")
+    @Test
+    void readTimeout_concurrent() throws Exception {
+        int requests = 50;
+        long start = System.nanoTime();
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                results.add(callers.submit(() -> {
+                    try {
+                        get("/slow");
+                        return false;
+                    } catch (ResourceAccessException e) {
+                        return true;
+                    }
+                }));
+            }
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(PROVIDER_STALL);
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    @DisplayName("연속된 요청은 같은 keep-alive 커넥션을 재사용한다")
+    @Test
+    void keepAlive() {
+        String first = get("/port");
+        String second = get("/port");
+
+        assertThat(second).isEqualTo(first);
+    }
+}
@@ -0,0 +1,61 @@
+package com.stcom.smartmealtable.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WonAmountConverterTest {
+
+    private WonAmountConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new WonAmountConverter();
+    }
+
+    @Test
+    @DisplayName("원 단위 금액은 DECIMAL 로 저장했다가 그대로 읽어온다")
+    void bidirectionalConversion() {
+        for (long amount : new long[]{0L, 1L, 9999L, -1000L, 1_000_000_000_000L, Long.MAX_VALUE}) {
+            // when
+            BigDecimal dbValue = converter.convertToDatabaseColumn(amount);
+            Long converted = converter.convertToEntityAttribute(dbValue);
+
+            // then
+            assertThat(dbValue).isEqualByComparingTo(BigDecimal.valueOf(amount));
+            assertThat(converted).isEqualTo(amount);
+        }
+    }
+
+    @Test
+    @DisplayName("소수 금액이 저장된 컬럼은 0 방향으로 절사해 읽는다")
+    void convertToEntityAttribute_truncatesFraction() {
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("9999.9"))).isEqualTo(9999L);
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("90000.10"))).isEqualTo(90000L);
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("-0.5"))).isEqualTo(0L);
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("-1000.99"))).isEqualTo(-1000L);
+    }
+
+    @Test
+    @DisplayName("절사해 읽은 값을 다시 저장하면 소수부가 사라진 값이 쓰인다")
+    void writeBackAfterTruncation() {
+        // given
+        Long loaded = converter.convertToEntityAttribute(new BigDecimal("9999.90"));
+
+        // when
+        BigDecimal written = converter.convertToDatabaseColumn(loaded);
+
+        // then
+        assertThat(written).isEqualByComparingTo("9999");
+    }
+
+    @Test
+    @DisplayName("null 은 양방향 모두 null 로 변환한다")
+    void nullInput() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,195 @@
+package com.stcom.smartmealtable.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.stcom.smartmealtable.exception.ExternApiUnavailableException;
+import com.stcom.smartmealtable.infrastructure.resilience.CircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker("test", 3, OPEN_DURATION, 2, meterRegistry, now::get);
+    }
+
+    private String succeed() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private String fail() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("provider down");
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("external.api.calls").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 닿으면 서킷을 열고 외부 API 를 호출하지 않고 바로 실패한다")
+    void opensAfterConsecutiveFailures() {
+        // when
+        failTimes(3);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(this::succeed))
+                .isInstanceOf(ExternApiUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(outcome("rejected_open")).isEqualTo(1);
+        assertThat(meterRegistry.get("external.api.circuit.state").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패 수를 다시 센다")
+    void successResetsFailures() {
+        // when
+        failTimes(2);
+        circuitBreaker.execute(this::succeed);
+        failTimes(2);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 외부 API 장애로 세지 않는다")
+    void clientErrorIsNotFailure() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 한 건만 시험 호출하고 성공하면 서킷을 닫는다")
+    void halfOpenProbeSuccessCloses() {
+        // given
+        failTimes(3);
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        // when
+        String result = circuitBreaker.execute(this::succeed);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.execute(this::succeed)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 서킷을 다시 열고 열린 시간을 새로 센다")
+    void halfOpenProbeFailureReopens() {
+        // given
+        failTimes(3);
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        // when
+        failTimes(1);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        now.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThatThrownBy(() -> circuitBreaker.execute(this::succeed))
+                .isInstanceOf(ExternApiUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("시험 호출 중에는 다른 요청을 바로 실패시킨다")
+    void rejectsWhileProbing() throws Exception {
+        // given
+        failTimes(3);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> probe = executor.submit(() -> circuitBreaker.execute(() -> {
+                probing.countDown();
+                await(release);
+                return "probe";
+            }));
+            probing.await(5, TimeUnit.SECONDS);
+
+            // when & then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+            assertThatThrownBy(() -> circuitBreaker.execute(this::succeed))
+                    .isInstanceOf(ExternApiUnavailableException.class);
+
+            release.countDown();
+            assertThat(probe.get(5, TimeUnit.SECONDS)).isEqualTo("probe");
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 요청은 기다리지 않고 바로 실패한다")
+    void bulkheadRejectsExcessCalls() throws Exception {
+        // given
+        CountDownLatch inFlight = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> circuitBreaker.execute(() -> {
+                    inFlight.countDown();
+                    await(release);
+                    return "slow";
+                }));
+            }
+            inFlight.await(5, TimeUnit.SECONDS);
+
+            // when & then
+            assertThatThrownBy(() -> circuitBreaker.execute(this::succeed))
+                    .isInstanceOf(ExternApiUnavailableException.class);
+            assertThat(outcome("rejected_bulkhead")).isEqualTo(1);
+
+            release.countDown();
+        }
+        assertThat(circuitBreaker.execute(this::succeed)).isEqualTo("ok");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
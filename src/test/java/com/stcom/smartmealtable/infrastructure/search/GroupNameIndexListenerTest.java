@@ -0,0 +1,115 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.repository.GroupRepository;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class GroupNameIndexListenerTest {
+
+    private GroupNameIndex index;
+    private GroupNameIndexSync sync;
+    private GroupNameIndexListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllNames()).thenReturn(List.of(new GroupNameDto(1L, "서울대학교")));
+        index = new GroupNameIndex(groupRepository);
+        index.load();
+        sync = mock(GroupNameIndexSync.class);
+
+        ObjectProvider<GroupNameIndex> indexProvider = mock(ObjectProvider.class);
+        when(indexProvider.getIfAvailable()).thenReturn(index);
+        ObjectProvider<GroupNameIndexSync> syncProvider = mock(ObjectProvider.class);
+        when(syncProvider.getIfAvailable()).thenReturn(sync);
+        listener = new GroupNameIndexListener(indexProvider, syncProvider);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Group group(Long id, String name) {
+        Group group = mock(Group.class);
+        when(group.getId()).thenReturn(id);
+        when(group.getName()).thenReturn(name);
+        return group;
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("커밋되기 전에는 인덱스에 반영하지 않고, 커밋되면 마지막 이름으로 반영한 뒤 바뀐 그룹마다 한 번씩 알린다")
+    void appliesAndPublishesAfterCommit() {
+        // when
+        listener.onSaved(group(2L, "연세대학교"));
+        listener.onSaved(group(2L, "연세대학교 신촌캠퍼스"));
+        listener.onRemoved(group(1L, "서울대학교"));
+
+        // then
+        assertThat(index.search("연세", 10)).isEmpty();
+        assertThat(index.search("서울", 10)).containsExactly(1L);
+        assertThat(GroupNameIndexListener.hasPendingChanges(index)).isTrue();
+        verify(sync, never()).publish(any());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(GroupNameIndexListener.hasPendingChanges(index)).isFalse();
+        assertThat(index.suggest("연세", 10)).containsExactly(new GroupSuggestion(2L, "연세대학교 신촌캠퍼스"));
+        assertThat(index.search("서울", 10)).isEmpty();
+        verify(sync, times(1)).publish(2L);
+        verify(sync, times(1)).publish(1L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 인덱스에 반영하지 않고 알리지 않는다")
+    void ignoresRolledBackChanges() {
+        // when
+        listener.onSaved(group(1L, "서울대학교 관악캠퍼스"));
+        listener.onSaved(group(2L, "연세대학교"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(index.suggest("서울", 10)).containsExactly(new GroupSuggestion(1L, "서울대학교"));
+        assertThat(index.search("연세", 10)).isEmpty();
+        verify(sync, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 변경은 바로 반영하고 알린다")
+    void appliesImmediatelyWithoutTransaction() {
+        // given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        listener.onSaved(group(2L, "연세대학교"));
+
+        // then
+        assertThat(index.search("연세", 10)).containsExactly(2L);
+        verify(sync).publish(2L);
+    }
+}
@@ -0,0 +1,133 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.domain.group.Group;
+import com.stcom.smartmealtable.repository.GroupRepository;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+class GroupNameIndexSyncTest {
+
+    // 두 인스턴스가 함께 쓰는 DB 와 pub/sub 구독자
+    private final List<MessageListener> subscribers = new ArrayList<>();
+    private GroupRepository groupRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllNames()).thenReturn(List.of(
+                new GroupNameDto(1L, "서울대학교"),
+                new GroupNameDto(2L, "연세대학교")));
+        when(groupRepository.findById(any())).thenReturn(Optional.empty());
+
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+            byte[] channel = invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            List.copyOf(subscribers).forEach(subscriber ->
+                    subscriber.onMessage(new DefaultMessage(channel, body), null));
+            return (long) subscribers.size();
+        });
+
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        doAnswer(invocation -> subscribers.add(invocation.getArgument(0)))
+                .when(listenerContainer).addMessageListener(any(MessageListener.class), any(Topic.class));
+    }
+
+    private GroupNameIndexSync newInstance(GroupNameIndex index) {
+        GroupNameIndexSync sync = new GroupNameIndexSync(index, groupRepository, redisTemplate, listenerContainer);
+        sync.subscribe();
+        return sync;
+    }
+
+    private GroupNameIndex loadedIndex() {
+        GroupNameIndex index = new GroupNameIndex(groupRepository);
+        index.load();
+        return index;
+    }
+
+    private void storedInDb(Long groupId, String name) {
+        Group group = mock(Group.class);
+        when(group.getName()).thenReturn(name);
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+    }
+
+    @Test
+    @DisplayName("시작 시 그룹 이름 인덱스 채널을 구독한다")
+    void subscribesToChannel() {
+        // when
+        GroupNameIndexSync sync = newInstance(loadedIndex());
+
+        // then
+        verify(listenerContainer).addMessageListener(eq(sync),
+                argThat((Topic topic) -> GroupNameIndexSync.CHANNEL.equals(topic.getTopic())));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 커밋한 그룹 추가/변경/삭제를 DB 에서 다시 읽어 반영한다")
+    void appliesChangesFromOtherInstance() {
+        // given
+        GroupNameIndex index = loadedIndex();
+        newInstance(index);
+        GroupNameIndexSync otherInstance = newInstance(loadedIndex());
+
+        // when
+        storedInDb(3L, "고려대학교");
+        otherInstance.publish(3L);
+        storedInDb(1L, "서울대학교 관악캠퍼스");
+        otherInstance.publish(1L);
+        otherInstance.publish(2L);
+
+        // then
+        verify(redisTemplate).convertAndSend(GroupNameIndexSync.CHANNEL, "3");
+        assertThat(index.search("고려", 10)).containsExactly(3L);
+        assertThat(index.suggest("관악", 10)).containsExactly(new GroupSuggestion(1L, "서울대학교 관악캠퍼스"));
+        assertThat(index.search("연세", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림을 보내지 못해도 예외를 던지지 않고, 주기적 재적재로 놓친 변경을 맞춘다")
+    void reloadsAfterMissedMessage() {
+        // given
+        GroupNameIndex index = loadedIndex();
+        GroupNameIndexSync sync = newInstance(index);
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(redisTemplate).convertAndSend(anyString(), any());
+        when(groupRepository.findAllNames()).thenReturn(List.of(
+                new GroupNameDto(1L, "서울대학교"),
+                new GroupNameDto(2L, "연세대학교"),
+                new GroupNameDto(3L, "고려대학교")));
+
+        // when
+        sync.publish(3L);
+        assertThat(index.search("고려", 10)).isEmpty();
+        sync.reload();
+
+        // then
+        assertThat(index.search("고려", 10)).containsExactly(3L);
+    }
+}
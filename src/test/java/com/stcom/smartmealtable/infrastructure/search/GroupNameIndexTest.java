@@ -0,0 +1,168 @@
+package com.stcom.smartmealtable.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.repository.GroupRepository;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GroupNameIndexTest {
+
+    private GroupRepository groupRepository;
+    private GroupNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllNames()).thenReturn(List.of(
+                new GroupNameDto(1L, "서울대학교"),
+                new GroupNameDto(2L, "서울과학기술대학교"),
+                new GroupNameDto(3L, "국립서울대학교병원"),
+                new GroupNameDto(4L, "서울"),
+                new GroupNameDto(5L, "연세대학교"),
+                new GroupNameDto(6L, "KAIST 한국과학기술원")));
+        index = new GroupNameIndex(groupRepository);
+        index.load();
+    }
+
+    @Test
+    @DisplayName("완전 일치, 앞부분 일치, 중간 일치 순으로 정렬하고 같으면 짧은 이름이 먼저다")
+    void ranksExactThenPrefixThenInfix() {
+        assertThat(index.search("서울", 10)).containsExactly(4L, 1L, 2L, 3L);
+        assertThat(index.search("대학교", 10)).containsExactly(1L, 5L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시한다")
+    void ignoresCaseAndWhitespace() {
+        assertThat(index.search("kaist", 10)).containsExactly(6L);
+        assertThat(index.search("서울 대", 10)).containsExactly(1L, 3L);
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성으로 찾는다")
+    void searchesByChoseong() {
+        assertThat(index.search("ㅅㅇㄷ", 10)).containsExactly(1L, 3L);
+        assertThat(index.search("ㅇㅅ", 10)).containsExactly(5L);
+        assertThat(index.search("ㅎㄱㄱ", 10)).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("일치하는 부분 문자열이 없으면 n-gram 이 겹쳐도 결과에 넣지 않는다")
+    void requiresSubstringMatch() {
+        // "서울" 과 "대학" 은 모두 색인되어 있지만 "서울학" 은 어느 이름에도 없다.
+        assertThat(index.search("서울학", 10)).isEmpty();
+        assertThat(index.search("고려대", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limit 개까지만 돌려준다")
+    void limitsResults() {
+        assertThat(index.search("서울", 2)).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("이름 변경과 삭제가 바로 검색에 반영된다")
+    void reflectsChanges() {
+        // when
+        String previous = index.put(5L, "연세대학교 미래캠퍼스");
+        index.put(7L, "고려대학교");
+        index.remove(1L);
+
+        // then
+        assertThat(previous).isEqualTo("연세대학교");
+        assertThat(index.search("미래캠퍼스", 10)).containsExactly(5L);
+        assertThat(index.search("고려", 10)).containsExactly(7L);
+        assertThat(index.search("서울대", 10)).containsExactly(3L);
+        assertThat(index.remove(1L)).isNull();
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("전체 이름을 읽는 동안 반영된 변경은 다시 적재해도 잃지 않는다")
+    void keepsChangesMadeDuringLoad() {
+        // given
+        when(groupRepository.findAllNames())
+                .thenAnswer(invocation -> {
+                    index.put(7L, "고려대학교");
+                    return List.of(new GroupNameDto(1L, "서울대학교"));
+                })
+                .thenReturn(List.of(new GroupNameDto(1L, "서울대학교"), new GroupNameDto(7L, "고려대학교")));
+
+        // when
+        index.load();
+
+        // then
+        assertThat(index.search("고려", 10)).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제가 많이 쌓여 다시 색인해도 결과가 같다")
+    void compactsAfterManyRemovals() {
+        // given
+        for (long id = 100; id < 2_100; id++) {
+            index.put(id, "임시학교" + id);
+        }
+
+        // when
+        for (long id = 100; id < 2_100; id++) {
+            index.remove(id);
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.search("임시", 10)).isEmpty();
+        assertThat(index.search("서울", 10)).containsExactly(4L, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("학교 2만 개에서도 공백을 뺀 이름의 부분 문자열 검색과 같은 결과를 순위대로 돌려준다")
+    void matchesSubstringSearchOnLargeDataset() {
+        // given
+        String[] regions = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "수원", "청주"};
+        String[] stems = {"한빛", "새솔", "푸른", "중앙", "동산", "가람", "누리", "하늘", "으뜸", "미래"};
+        String[] types = {"초등학교", "중학교", "고등학교", "여자고등학교", "대학교"};
+        List<GroupNameDto> names = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; names.size() < 20_000; i++) {
+            String name = regions[i % regions.length] + stems[(i / 10) % stems.length]
+                    + types[(i / 100) % types.length] + (i / 500 == 0 ? "" : " 제" + (i / 500) + "캠퍼스");
+            names.add(new GroupNameDto(id++, name));
+        }
+        when(groupRepository.findAllNames()).thenReturn(names);
+        index.load();
+
+        for (String keyword : List.of("서울한빛", "고등학교", "새솔중", "캠퍼스", "제7캠", "울산가람대학교")) {
+            // when
+            List<Long> result = index.search(keyword, 10);
+
+            // then
+            List<Long> expected = names.stream()
+                    .filter(name -> name.getName().replace(" ", "").contains(keyword))
+                    .sorted(Comparator.<GroupNameDto>comparingInt(name -> rank(name.getName(), keyword))
+                            .thenComparingInt(name -> name.getName().replace(" ", "").indexOf(keyword))
+                            .thenComparingInt(name -> name.getName().replace(" ", "").length())
+                            .thenComparing(GroupNameDto::getName)
+                            .thenComparing(GroupNameDto::getId))
+                    .limit(10)
+                    .map(GroupNameDto::getId)
+                    .toList();
+            assertThat(result).as(keyword).isNotEmpty().isEqualTo(expected);
+        }
+    }
+
+    private static int rank(String name, String keyword) {
+        String normalized = name.replace(" ", "");
+        return normalized.equals(keyword) ? 0 : normalized.startsWith(keyword) ? 1 : 2;
+    }
+}
@@ -0,0 +1,272 @@
+package com.stcom.smartmealtable.infrastructure.social;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class IdTokenDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+    private static final String ISSUER = "https://kauth.kakao.com";
+    private static final String CLIENT_ID = "client-id";
+
+    private static KeyPair signingKey;
+    private static KeyPair otherKey;
+
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private HttpServer server;
+    private MutableClock clock;
+    private IdTokenDecoder decoder;
+    private IdTokenIssuer issuer;
+
+    @BeforeAll
+    static void generateKeys() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKey = generator.generateKeyPair();
+        otherKey = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        jwks.set(jwks(jwk("key-1", signingKey)));
+
+        clock = new MutableClock(NOW);
+        decoder = new IdTokenDecoder(new ObjectMapper(), RestClient.builder(), clock);
+        issuer = new IdTokenIssuer(Set.of(ISSUER), "http://127.0.0.1:" + server.getAddress().getPort() + "/jwks",
+                CLIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return """
+                {"kty":"RSA","kid":"%s","alg":"RS256","use":"sig","n":"%s","e":"%s"}
+                """.formatted(kid, base64(publicKey.getModulus()), base64(publicKey.getPublicExponent()));
+    }
+
+    private static String base64(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String token(String kid, KeyPair keyPair, String payload) throws GeneralSecurityException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = "{\"alg\":\"RS256\",\"kid\":\"" + kid + "\",\"typ\":\"JWT\"}";
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encoder.encodeToString(signature.sign());
+    }
+
+    private static String payload(String issuer, String audience, Instant expiresAt) {
+        return """
+                {"iss":"%s","aud":"%s","sub":"12345","exp":%d,"iat":%d,"email":"user@example.com","nickname":"홍길동"}
+                """.formatted(issuer, audience, expiresAt.getEpochSecond(), NOW.getEpochSecond());
+    }
+
+    private String validToken() throws GeneralSecurityException {
+        return token("key-1", signingKey, payload(ISSUER, CLIENT_ID, NOW.plusSeconds(3600)));
+    }
+
+    @Test
+    @DisplayName("서명과 클레임이 올바른 ID 토큰을 한 번에 디코딩한다")
+    void decode() throws Exception {
+        // when
+        IdTokenClaims claims = decoder.decode(validToken(), issuer);
+
+        // then
+        assertThat(claims.subject()).isEqualTo("12345");
+        assertThat(claims.email()).isEqualTo("user@example.com");
+        assertThat(claims.issuer()).isEqualTo(ISSUER);
+        assertThat(claims.audience()).containsExactly(CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("JWKS 는 캐시되어 로그인마다 다시 받지 않는다")
+    void cachesKeySet() throws Exception {
+        // when
+        decoder.decode(validToken(), issuer);
+        decoder.decode(validToken(), issuer);
+
+        // then
+        assertThat(jwksRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 가 오면 키 교체로 보고 JWKS 를 다시 받되, 1분에 한 번만 받는다")
+    void refreshesOnUnknownKid() throws Exception {
+        // given
+        decoder.decode(validToken(), issuer);
+        jwks.set(jwks(jwk("key-1", signingKey), jwk("key-2", otherKey)));
+        String rotated = token("key-2", otherKey, payload(ISSUER, CLIENT_ID, NOW.plusSeconds(3600)));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(rotated, issuer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kid=key-2");
+        assertThat(jwksRequests.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(decoder.decode(rotated, issuer).subject()).isEqualTo("12345");
+        assertThat(jwksRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 JWKS 갱신에 실패하면 캐시된 키로 검증하고, 1분 동안은 다시 받지 않는다")
+    void backsOffAfterFailedRefresh() throws Exception {
+        // given
+        decoder.decode(validToken(), issuer);
+        jwks.set("{}");
+        clock.advance(Duration.ofHours(7));
+        String token = token("key-1", signingKey, payload(ISSUER, CLIENT_ID, NOW.plus(Duration.ofHours(8))));
+
+        // when & then
+        assertThat(decoder.decode(token, issuer).subject()).isEqualTo("12345");
+        assertThat(decoder.decode(token, issuer).subject()).isEqualTo("12345");
+        assertThat(jwksRequests.get()).isEqualTo(2);
+
+        clock.advance(Duration.ofMinutes(1));
+        decoder.decode(token, issuer);
+        assertThat(jwksRequests.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부한다")
+    void rejectsInvalidSignature() throws Exception {
+        // given
+        String forged = token("key-1", otherKey, payload(ISSUER, CLIENT_ID, NOW.plusSeconds(3600)));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(forged, issuer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ID 토큰 서명이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("서명 이후 페이로드를 바꾼 토큰은 거부한다")
+    void rejectsTamperedPayload() throws Exception {
+        // given
+        String[] parts = validToken().split("\\.");
+        String tamperedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                payload(ISSUER, CLIENT_ID, NOW.plusSeconds(7200)).getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + tamperedPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(tampered, issuer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ID 토큰 서명이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("발급자, 대상, 만료 시각이 올바르지 않으면 거부한다")
+    void rejectsInvalidClaims() throws Exception {
+        // given
+        String otherIssuer = token("key-1", signingKey, payload("https://evil.example.com", CLIENT_ID,
+                NOW.plusSeconds(3600)));
+        String otherAudience = token("key-1", signingKey, payload(ISSUER, "other-app", NOW.plusSeconds(3600)));
+        String expired = token("key-1", signingKey, payload(ISSUER, CLIENT_ID, NOW.minusSeconds(3600)));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(otherIssuer, issuer))
+                .hasMessageStartingWith("ID 토큰 발급자가 올바르지 않습니다.");
+        assertThatThrownBy(() -> decoder.decode(otherAudience, issuer))
+                .hasMessage("ID 토큰 대상이 올바르지 않습니다.");
+        assertThatThrownBy(() -> decoder.decode(expired, issuer))
+                .hasMessage("만료된 ID 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 토큰은 거부한다")
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> decoder.decode(null, issuer))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decoder.decode("a.b", issuer))
+                .hasMessage("ID 토큰 형식이 올바르지 않습니다.");
+        assertThatThrownBy(() -> decoder.decode("a.b.c.d", issuer))
+                .hasMessage("ID 토큰 형식이 올바르지 않습니다.");
+        assertThatThrownBy(() -> decoder.decode("!!.@@.##", issuer))
+                .hasMessage("ID 토큰을 읽을 수 없습니다.");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -63,13 +63,13 @@ class BudgetIntegrationTest {
         // given - 일일 예산 생성
         LocalDate today = LocalDate.now();
         Long dailyLimit = 30000L;
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(dailyLimit), today);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, dailyLimit, today);
         budgetRepository.save(dailyBudget);
 
         // when & then - 1. 초기 상태 확인
         DailyBudget savedBudget = budgetService.getDailyBudgetBy(memberProfile.getId(), today);
-        assertThat(savedBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(savedBudget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(dailyLimit));
+        assertThat(savedBudget.getSpendAmount()).isEqualTo(0);
+        assertThat(savedBudget.getAvailableAmount()).isEqualTo(dailyLimit);
         assertThat(savedBudget.isOverLimit()).isFalse();
 
         // when & then - 2. 첫 번째 지출 추가 (아직 한도 내)
@@ -77,8 +77,8 @@ class BudgetIntegrationTest {
         budgetRepository.save(savedBudget);
         
         DailyBudget afterFirstSpent = budgetService.getDailyBudgetBy(memberProfile.getId(), today);
-        assertThat(afterFirstSpent.getSpendAmount()).isEqualTo(BigDecimal.valueOf(15000));
-        assertThat(afterFirstSpent.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(15000));
+        assertThat(afterFirstSpent.getSpendAmount()).isEqualTo(15000);
+        assertThat(afterFirstSpent.getAvailableAmount()).isEqualTo(15000);
         assertThat(afterFirstSpent.isOverLimit()).isFalse();
 
         // when & then - 3. 두 번째 지출 추가 (한도 초과)
@@ -86,8 +86,8 @@ class BudgetIntegrationTest {
         budgetRepository.save(afterFirstSpent);
         
         DailyBudget afterSecondSpent = budgetService.getDailyBudgetBy(memberProfile.getId(), today);
-        assertThat(afterSecondSpent.getSpendAmount()).isEqualTo(BigDecimal.valueOf(35000));
-        assertThat(afterSecondSpent.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(-5000));
+        assertThat(afterSecondSpent.getSpendAmount()).isEqualTo(35000);
+        assertThat(afterSecondSpent.getAvailableAmount()).isEqualTo(-5000);
         assertThat(afterSecondSpent.isOverLimit()).isTrue();
 
         // when & then - 4. 지출 리셋
@@ -95,8 +95,8 @@ class BudgetIntegrationTest {
         budgetRepository.save(afterSecondSpent);
         
         DailyBudget afterReset = budgetService.getDailyBudgetBy(memberProfile.getId(), today);
-        assertThat(afterReset.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(afterReset.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(dailyLimit));
+        assertThat(afterReset.getSpendAmount()).isEqualTo(0);
+        assertThat(afterReset.getAvailableAmount()).isEqualTo(dailyLimit);
         assertThat(afterReset.isOverLimit()).isFalse();
     }
 
@@ -106,24 +106,24 @@ class BudgetIntegrationTest {
         // given - 월별 예산 생성
         YearMonth currentMonth = YearMonth.now();
         Long monthlyLimit = 500000L;
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(monthlyLimit), currentMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, monthlyLimit, currentMonth);
         budgetRepository.save(monthlyBudget);
 
         // when & then - 1. 초기 상태 확인
         MonthlyBudget savedBudget = budgetService.getMonthlyBudgetBy(memberProfile.getId(), currentMonth);
-        assertThat(savedBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(savedBudget.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(monthlyLimit));
+        assertThat(savedBudget.getSpendAmount()).isEqualTo(0);
+        assertThat(savedBudget.getAvailableAmount()).isEqualTo(monthlyLimit);
         assertThat(savedBudget.isOverLimit()).isFalse();
 
         // when & then - 2. 여러 번에 걸친 지출 추가
-        savedBudget.addSpent(BigDecimal.valueOf(150000)); // 첫 번째 지출
+        savedBudget.addSpent(150000); // 첫 번째 지출
         savedBudget.addSpent(200000); // 두 번째 지출 (int)
-        savedBudget.addSpent(99999.99); // 세 번째 지출 (double)
+        savedBudget.addSpent(99999L); // 세 번째 지출 (long)
         budgetRepository.save(savedBudget);
         
         MonthlyBudget afterSpending = budgetService.getMonthlyBudgetBy(memberProfile.getId(), currentMonth);
-        assertThat(afterSpending.getSpendAmount()).isEqualTo(BigDecimal.valueOf(449999.99));
-        assertThat(afterSpending.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(50000.01));
+        assertThat(afterSpending.getSpendAmount()).isEqualTo(449999);
+        assertThat(afterSpending.getAvailableAmount()).isEqualTo(50001);
         assertThat(afterSpending.isOverLimit()).isFalse();
 
         // when & then - 3. 한도 변경
@@ -131,8 +131,8 @@ class BudgetIntegrationTest {
         budgetService.editMonthlyBudgetCustom(memberProfile.getId(), currentMonth, newLimit);
         
         MonthlyBudget afterLimitChange = budgetService.getMonthlyBudgetBy(memberProfile.getId(), currentMonth);
-        assertThat(afterLimitChange.getLimit()).isEqualTo(BigDecimal.valueOf(newLimit));
-        assertThat(afterLimitChange.getSpendAmount()).isEqualTo(BigDecimal.valueOf(449999.99));
+        assertThat(afterLimitChange.getLimit()).isEqualTo(newLimit);
+        assertThat(afterLimitChange.getSpendAmount()).isEqualTo(449999);
         assertThat(afterLimitChange.isOverLimit()).isTrue(); // 새 한도로 인해 초과 상태
     }
 
@@ -157,12 +157,12 @@ class BudgetIntegrationTest {
         budgetService.editDailyBudgetCustom(memberProfile.getId(), specificDate, newLimitForSpecificDate);
 
         DailyBudget modifiedBudget = budgetService.getDailyBudgetBy(memberProfile.getId(), specificDate);
-        assertThat(modifiedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(newLimitForSpecificDate));
+        assertThat(modifiedBudget.getLimit()).isEqualTo(newLimitForSpecificDate);
 
         // when & then - 3. 다른 날짜의 예산은 그대로인지 확인
         LocalDate anotherDate = firstDayOfMonth.plusDays(5);
         DailyBudget unchangedBudget = budgetService.getDailyBudgetBy(memberProfile.getId(), anotherDate);
-        assertThat(unchangedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(defaultDailyLimit));
+        assertThat(unchangedBudget.getLimit()).isEqualTo(defaultDailyLimit);
     }
 
     @DisplayName("주간 예산 조회 및 주간별 지출 패턴 분석 시나리오")
@@ -174,7 +174,7 @@ class BudgetIntegrationTest {
 
         for (int i = 0; i < 7; i++) {
             LocalDate date = monday.plusDays(i);
-            DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(dailyLimit), date);
+            DailyBudget dailyBudget = new DailyBudget(memberProfile, dailyLimit, date);
             
             // 요일별 다른 지출 패턴 설정
             if (i < 5) { // 평일 (월~금)
@@ -196,24 +196,24 @@ class BudgetIntegrationTest {
         // 평일 예산 검증
         for (int i = 0; i < 5; i++) {
             DailyBudget weekdayBudget = weeklyBudgets.get(i);
-            assertThat(weekdayBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(15000 + i * 2000));
+            assertThat(weekdayBudget.getSpendAmount()).isEqualTo(15000 + i * 2000);
             assertThat(weekdayBudget.isOverLimit()).isFalse();
         }
 
         // 주말 예산 검증 (한도 초과)
         for (int i = 5; i < 7; i++) {
             DailyBudget weekendBudget = weeklyBudgets.get(i);
-            assertThat(weekendBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(30000));
+            assertThat(weekendBudget.getSpendAmount()).isEqualTo(30000);
             assertThat(weekendBudget.isOverLimit()).isTrue();
         }
 
         // 주간 총 지출 계산
-        BigDecimal totalWeeklySpent = weeklyBudgets.stream()
-                .map(DailyBudget::getSpendAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalWeeklySpent = weeklyBudgets.stream()
+                .mapToLong(DailyBudget::getSpendAmount)
+                .sum();
         
-        BigDecimal expectedTotal = BigDecimal.valueOf(
-                15000 + 17000 + 19000 + 21000 + 23000 + 30000 + 30000); // 155,000원
+        long expectedTotal =
+                15000 + 17000 + 19000 + 21000 + 23000 + 30000 + 30000; // 155,000원
         assertThat(totalWeeklySpent).isEqualTo(expectedTotal);
     }
 
@@ -235,8 +235,8 @@ class BudgetIntegrationTest {
 
         // when - 두 사용자 모두에게 같은 날짜의 예산 생성
         LocalDate sameDate = LocalDate.now();
-        DailyBudget firstUserBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(20000), sameDate);
-        DailyBudget secondUserBudget = new DailyBudget(secondProfile, BigDecimal.valueOf(30000), sameDate);
+        DailyBudget firstUserBudget = new DailyBudget(memberProfile, 20000, sameDate);
+        DailyBudget secondUserBudget = new DailyBudget(secondProfile, 30000, sameDate);
         
         budgetRepository.save(firstUserBudget);
         budgetRepository.save(secondUserBudget);
@@ -252,12 +252,12 @@ class BudgetIntegrationTest {
         DailyBudget retrievedFirstBudget = budgetService.getDailyBudgetBy(memberProfile.getId(), sameDate);
         DailyBudget retrievedSecondBudget = budgetService.getDailyBudgetBy(secondProfile.getId(), sameDate);
 
-        assertThat(retrievedFirstBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(15000));
-        assertThat(retrievedFirstBudget.getLimit()).isEqualTo(BigDecimal.valueOf(20000));
+        assertThat(retrievedFirstBudget.getSpendAmount()).isEqualTo(15000);
+        assertThat(retrievedFirstBudget.getLimit()).isEqualTo(20000);
         assertThat(retrievedFirstBudget.isOverLimit()).isFalse();
 
-        assertThat(retrievedSecondBudget.getSpendAmount()).isEqualTo(BigDecimal.valueOf(25000));
-        assertThat(retrievedSecondBudget.getLimit()).isEqualTo(BigDecimal.valueOf(30000));
+        assertThat(retrievedSecondBudget.getSpendAmount()).isEqualTo(25000);
+        assertThat(retrievedSecondBudget.getLimit()).isEqualTo(30000);
         assertThat(retrievedSecondBudget.isOverLimit()).isFalse();
     }
 
@@ -266,13 +266,13 @@ class BudgetIntegrationTest {
     void budgetDataConsistencyTest() {
         // given - 월별 예산과 여러 일일 예산 생성
         YearMonth currentMonth = YearMonth.now();
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(600000), currentMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 600000, currentMonth);
         budgetRepository.save(monthlyBudget);
 
         LocalDate startDate = currentMonth.atDay(1);
         for (int i = 0; i < 10; i++) {
             LocalDate date = startDate.plusDays(i);
-            DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(20000), date);
+            DailyBudget dailyBudget = new DailyBudget(memberProfile, 20000, date);
             budgetRepository.save(dailyBudget);
         }
 
@@ -290,18 +290,18 @@ class BudgetIntegrationTest {
 
         // then - 데이터 일관성 확인
         MonthlyBudget retrievedMonthly = budgetService.getMonthlyBudgetBy(memberProfile.getId(), currentMonth);
-        assertThat(retrievedMonthly.getSpendAmount()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(retrievedMonthly.getSpendAmount()).isEqualTo(100000);
 
         List<DailyBudget> retrievedDailies = budgetRepository.findDailyBudgetsViaType(memberProfile.getId());
         for (int i = 0; i < retrievedDailies.size(); i++) {
             assertThat(retrievedDailies.get(i).getSpendAmount())
-                    .isEqualTo(BigDecimal.valueOf(10000 + i * 1000));
+                    .isEqualTo(10000 + i * 1000);
         }
 
         // 총 일일 지출과 월별 지출의 독립성 확인
-        BigDecimal totalDailySpent = retrievedDailies.stream()
-                .map(DailyBudget::getSpendAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalDailySpent = retrievedDailies.stream()
+                .mapToLong(DailyBudget::getSpendAmount)
+                .sum();
         
         // 월별 예산과 일일 예산의 지출은 독립적으로 관리됨
         assertThat(retrievedMonthly.getSpendAmount()).isNotEqualTo(totalDailySpent);
@@ -6,7 +6,6 @@ import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -72,18 +71,18 @@ class BudgetRepositoryAdvancedTest {
 
         // 일일 예산들
         for (int i = 0; i < 5; i++) {
-            DailyBudget dailyBudget = new DailyBudget(profile1, BigDecimal.valueOf(20000 + i * 1000), today.plusDays(i));
+            DailyBudget dailyBudget = new DailyBudget(profile1, 20000 + i * 1000, today.plusDays(i));
             budgetRepository.save(dailyBudget);
         }
 
         // 월별 예산들
         for (int i = 0; i < 3; i++) {
-            MonthlyBudget monthlyBudget = new MonthlyBudget(profile1, BigDecimal.valueOf(500000 + i * 100000), currentMonth.plusMonths(i));
+            MonthlyBudget monthlyBudget = new MonthlyBudget(profile1, 500000 + i * 100000, currentMonth.plusMonths(i));
             budgetRepository.save(monthlyBudget);
         }
 
         // 다른 사용자의 예산들 (격리 테스트용)
-        DailyBudget otherUserDaily = new DailyBudget(profile2, BigDecimal.valueOf(30000), today);
+        DailyBudget otherUserDaily = new DailyBudget(profile2, 30000, today);
         budgetRepository.save(otherUserDaily);
 
         // when
@@ -127,18 +126,18 @@ class BudgetRepositoryAdvancedTest {
         YearMonth baseMonth = YearMonth.of(2025, 8);
 
         // 일일 예산들 (날짜 순서 뒤섞어서 생성)
-        DailyBudget dailyBudget1 = new DailyBudget(testProfile, BigDecimal.valueOf(20000), baseDate.plusDays(5));
-        DailyBudget dailyBudget2 = new DailyBudget(testProfile, BigDecimal.valueOf(25000), baseDate.plusDays(2));
-        DailyBudget dailyBudget3 = new DailyBudget(testProfile, BigDecimal.valueOf(30000), baseDate.plusDays(10)); // 가장 최신
+        DailyBudget dailyBudget1 = new DailyBudget(testProfile, 20000, baseDate.plusDays(5));
+        DailyBudget dailyBudget2 = new DailyBudget(testProfile, 25000, baseDate.plusDays(2));
+        DailyBudget dailyBudget3 = new DailyBudget(testProfile, 30000, baseDate.plusDays(10)); // 가장 최신
 
         budgetRepository.save(dailyBudget1);
         budgetRepository.save(dailyBudget2);
         budgetRepository.save(dailyBudget3);
 
         // 월별 예산들 - 각각 다른 년월로 생성
-        MonthlyBudget monthlyBudget1 = new MonthlyBudget(testProfile, BigDecimal.valueOf(500000), baseMonth.plusMonths(1));
-        MonthlyBudget monthlyBudget2 = new MonthlyBudget(testProfile, BigDecimal.valueOf(600000), baseMonth.plusMonths(3)); // 가장 최신
-        MonthlyBudget monthlyBudget3 = new MonthlyBudget(testProfile, BigDecimal.valueOf(550000), baseMonth.plusMonths(2));
+        MonthlyBudget monthlyBudget1 = new MonthlyBudget(testProfile, 500000, baseMonth.plusMonths(1));
+        MonthlyBudget monthlyBudget2 = new MonthlyBudget(testProfile, 600000, baseMonth.plusMonths(3)); // 가장 최신
+        MonthlyBudget monthlyBudget3 = new MonthlyBudget(testProfile, 550000, baseMonth.plusMonths(2));
 
         budgetRepository.save(monthlyBudget1);
         budgetRepository.save(monthlyBudget2);
@@ -151,11 +150,11 @@ class BudgetRepositoryAdvancedTest {
         // then - 가장 최신 날짜/년월의 예산이 조회되어야 함
         assertThat(latestDaily).isPresent();
         assertThat(latestDaily.get().getDate()).isEqualTo(baseDate.plusDays(10));
-        assertThat(latestDaily.get().getLimit()).isEqualTo(BigDecimal.valueOf(30000));
+        assertThat(latestDaily.get().getLimit()).isEqualTo(30000);
 
         assertThat(latestMonthly).isPresent();
         assertThat(latestMonthly.get().getYearMonth()).isEqualTo(baseMonth.plusMonths(3));
-        assertThat(latestMonthly.get().getLimit()).isEqualTo(BigDecimal.valueOf(600000));
+        assertThat(latestMonthly.get().getLimit()).isEqualTo(600000);
     }
 
     @DisplayName("날짜 범위 조회 쿼리가 정확한 경계값으로 동작한다")
@@ -166,7 +165,7 @@ class BudgetRepositoryAdvancedTest {
         
         for (int i = -5; i <= 5; i++) {
             LocalDate date = baseDate.plusDays(i);
-            DailyBudget budget = new DailyBudget(profile1, BigDecimal.valueOf(10000 + Math.abs(i) * 1000), date);
+            DailyBudget budget = new DailyBudget(profile1, 10000 + Math.abs(i) * 1000, date);
             budgetRepository.save(budget);
         }
 
@@ -199,14 +198,14 @@ class BudgetRepositoryAdvancedTest {
         YearMonth sameMonth = YearMonth.now();
 
         // 프로필1의 예산들
-        DailyBudget daily1 = new DailyBudget(profile1, BigDecimal.valueOf(20000), sameDate);
-        MonthlyBudget monthly1 = new MonthlyBudget(profile1, BigDecimal.valueOf(500000), sameMonth);
+        DailyBudget daily1 = new DailyBudget(profile1, 20000, sameDate);
+        MonthlyBudget monthly1 = new MonthlyBudget(profile1, 500000, sameMonth);
         budgetRepository.save(daily1);
         budgetRepository.save(monthly1);
 
         // 프로필2의 예산들
-        DailyBudget daily2 = new DailyBudget(profile2, BigDecimal.valueOf(30000), sameDate);
-        MonthlyBudget monthly2 = new MonthlyBudget(profile2, BigDecimal.valueOf(600000), sameMonth);
+        DailyBudget daily2 = new DailyBudget(profile2, 30000, sameDate);
+        MonthlyBudget monthly2 = new MonthlyBudget(profile2, 600000, sameMonth);
         budgetRepository.save(daily2);
         budgetRepository.save(monthly2);
 
@@ -219,16 +218,16 @@ class BudgetRepositoryAdvancedTest {
 
         // then - 각 프로필별로 올바른 예산이 조회되어야 함
         assertThat(profile1Daily).isPresent();
-        assertThat(profile1Daily.get().getLimit()).isEqualTo(BigDecimal.valueOf(20000));
+        assertThat(profile1Daily.get().getLimit()).isEqualTo(20000);
 
         assertThat(profile2Daily).isPresent();
-        assertThat(profile2Daily.get().getLimit()).isEqualTo(BigDecimal.valueOf(30000));
+        assertThat(profile2Daily.get().getLimit()).isEqualTo(30000);
 
         assertThat(profile1Monthly).isPresent();
-        assertThat(profile1Monthly.get().getLimit()).isEqualTo(BigDecimal.valueOf(500000));
+        assertThat(profile1Monthly.get().getLimit()).isEqualTo(500000);
 
         assertThat(profile2Monthly).isPresent();
-        assertThat(profile2Monthly.get().getLimit()).isEqualTo(BigDecimal.valueOf(600000));
+        assertThat(profile2Monthly.get().getLimit()).isEqualTo(600000);
 
         // 서로 다른 객체여야 함
         assertThat(profile1Daily.get().getId()).isNotEqualTo(profile2Daily.get().getId());
@@ -256,7 +255,7 @@ class BudgetRepositoryAdvancedTest {
         
         for (int i = 0; i < 365; i++) { // 1년치 데이터
             LocalDate date = startDate.plusDays(i);
-            DailyBudget budget = new DailyBudget(performanceProfile, BigDecimal.valueOf(20000 + i), date);
+            DailyBudget budget = new DailyBudget(performanceProfile, 20000 + i, date);
             budgetRepository.save(budget);
         }
 
@@ -314,7 +313,7 @@ class BudgetRepositoryAdvancedTest {
         LocalDate monday = testDate.with(java.time.DayOfWeek.MONDAY);
         for (int i = 0; i < 7; i++) {
             LocalDate date = monday.plusDays(i);
-            BigDecimal limit = BigDecimal.valueOf(15000 + i * 2000); // 점진적 증가
+            long limit = 15000 + i * 2000; // 점진적 증가
             DailyBudget budget = new DailyBudget(complexProfile, limit, date);
             budget.addSpent(5000 + i * 1000); // 지출도 점진적 증가
             budgetRepository.save(budget);
@@ -323,7 +322,7 @@ class BudgetRepositoryAdvancedTest {
         // 여러 월의 월별 예산들 - 각기 다른 년월
         for (int i = 0; i < 6; i++) {
             YearMonth month = testMonth.plusMonths(i); // 미래 월로 변경하여 충돌 방지
-            MonthlyBudget budget = new MonthlyBudget(complexProfile, BigDecimal.valueOf(400000 + i * 50000), month);
+            MonthlyBudget budget = new MonthlyBudget(complexProfile, 400000 + i * 50000, month);
             budget.addSpent(200000 + i * 30000);
             budgetRepository.save(budget);
         }
@@ -356,7 +355,7 @@ class BudgetRepositoryAdvancedTest {
         // 지출 금액 검증
         for (int i = 0; i < weeklyBudgets.size(); i++) {
             DailyBudget budget = weeklyBudgets.get(i);
-            BigDecimal expectedSpent = BigDecimal.valueOf(5000 + i * 1000);
+            long expectedSpent = 5000 + i * 1000;
             assertThat(budget.getSpendAmount()).isEqualTo(expectedSpent);
         }
     }
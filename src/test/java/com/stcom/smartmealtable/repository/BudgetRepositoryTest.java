@@ -6,13 +6,16 @@ import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -28,6 +31,9 @@ class BudgetRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TestEntityManager em;
+
     @DisplayName("프로필 ID와 일자 정보로 일일 예산을 조회한다.")
     @Test
     void findDailyBudgetByMemberProfileIdAndDate() throws Exception {
@@ -45,7 +51,7 @@ class BudgetRepositoryTest {
                 .build();
         memberProfileRepository.save(memberProfile);
 
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(1000), LocalDate.now());
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 1000, LocalDate.now());
         budgetRepository.save(dailyBudget);
 
         // when
@@ -56,7 +62,7 @@ class BudgetRepositoryTest {
         // then
         assertThat(foundBudget).isNotNull();
         assertThat(foundBudget.getMemberProfile()).isEqualTo(memberProfile);
-        assertThat(foundBudget.getLimit()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(foundBudget.getLimit()).isEqualTo(1000);
         assertThat(foundBudget.getDate()).isEqualTo(LocalDate.now());
         assertThat(foundBudget.getId()).isNotNull();
     }
@@ -79,7 +85,7 @@ class BudgetRepositoryTest {
         memberProfileRepository.save(memberProfile);
 
         LocalDate date = LocalDate.now();
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(1000), date);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 1000, date);
         budgetRepository.save(dailyBudget);
 
         // when
@@ -110,7 +116,7 @@ class BudgetRepositoryTest {
         memberProfileRepository.save(memberProfile);
 
         YearMonth yearMonth = YearMonth.now();
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(3000), yearMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 3000, yearMonth);
         budgetRepository.save(monthlyBudget);
 
         // when
@@ -148,7 +154,7 @@ class BudgetRepositoryTest {
         // 예시로 5일의 일일 예산을 생성
         for (int i = 0; i < 5; i++) {
             LocalDate date = today.minusDays(i);
-            DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(1000 + i * 100), date);
+            DailyBudget dailyBudget = new DailyBudget(memberProfile, 1000 + i * 100, date);
             budgetRepository.save(dailyBudget);
         }
 
@@ -161,4 +167,110 @@ class BudgetRepositoryTest {
         assertThat(dailyBudgets.size()).isEqualTo(4);
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("일일/월별 예산 사용 금액을 한 번의 업데이트로 증가시킨다.")
+    @Test
+    void addSpendAmount() throws Exception {
+        // given
+        Member member = Member.builder()
+                .email("abcd@naver.com")
+                .rawPassword("@absdv123")
+                .build();
+        memberRepository.save(member);
+
+        MemberProfile memberProfile = MemberProfile.builder()
+                .nickName("testUser")
+                .member(member)
+                .build();
+        memberProfileRepository.save(memberProfile);
+
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 10000, LocalDate.now());
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 300000, YearMonth.now());
+        budgetRepository.save(dailyBudget);
+        budgetRepository.save(monthlyBudget);
+
+        // when
+        int updated = budgetRepository.addSpendAmount(List.of(dailyBudget.getId(), monthlyBudget.getId()),
+                3000);
+        budgetRepository.addSpendAmount(List.of(dailyBudget.getId(), monthlyBudget.getId()),
+                -1000);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(budgetRepository.findById(dailyBudget.getId()).orElseThrow().getSpendAmount())
+                .isEqualTo(2000);
+        assertThat(budgetRepository.findById(monthlyBudget.getId()).orElseThrow().getSpendAmount())
+                .isEqualTo(2000);
+    }
+
+    @DisplayName("일일 예산의 사용 금액과 한도만 projection 으로 조회한다.")
+    @Test
+    void findDailyBudgetAmountByMemberProfileIdAndDate() throws Exception {
+        // given
+        Member member = Member.builder()
+                .email("abcd@naver.com")
+                .rawPassword("@absdv123")
+                .build();
+        memberRepository.save(member);
+
+        MemberProfile memberProfile = MemberProfile.builder()
+                .nickName("testUser")
+                .member(member)
+                .build();
+        memberProfileRepository.save(memberProfile);
+
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 10000, LocalDate.now());
+        dailyBudget.addSpent(2500);
+        budgetRepository.save(dailyBudget);
+
+        // when
+        BudgetAmountDto amount = budgetRepository.findDailyBudgetAmountByMemberProfileIdAndDate(
+                memberProfile.getId(), LocalDate.now()).orElseThrow();
+
+        // then
+        assertThat(amount.getLimit()).isEqualTo(10000);
+        assertThat(amount.getSpendAmount()).isEqualTo(2500);
+        assertThat(amount.getAvailableAmount()).isEqualTo(7500);
+    }
+
+    @DisplayName("소수 금액이 남아 있는 예산은 절사해 읽고, 변경되어 저장되면 절사된 값이 컬럼에 쓰인다.")
+    @Test
+    void truncatesFractionalAmountOnWriteBack() throws Exception {
+        // given
+        Member member = Member.builder()
+                .email("abcd@naver.com")
+                .rawPassword("@absdv123")
+                .build();
+        memberRepository.save(member);
+
+        MemberProfile memberProfile = MemberProfile.builder()
+                .nickName("testUser")
+                .member(member)
+                .build();
+        memberProfileRepository.save(memberProfile);
+
+        DailyBudget dailyBudget = budgetRepository.save(new DailyBudget(memberProfile, 10000, LocalDate.now()));
+        em.flush();
+        // 금액이 long 으로 바뀌기 전에 소수로 저장된 행
+        em.getEntityManager()
+                .createNativeQuery("update budget set spend_amount = 2500.9 where budget_id = ?1")
+                .setParameter(1, dailyBudget.getId())
+                .executeUpdate();
+        em.clear();
+
+        // when
+        DailyBudget loaded = (DailyBudget) budgetRepository.findById(dailyBudget.getId()).orElseThrow();
+        long loadedSpend = loaded.getSpendAmount();
+        loaded.addSpent(100);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(loadedSpend).isEqualTo(2500);
+        Object stored = em.getEntityManager()
+                .createNativeQuery("select spend_amount from budget where budget_id = ?1")
+                .setParameter(1, dailyBudget.getId())
+                .getSingleResult();
+        assertThat(new BigDecimal(stored.toString())).isEqualByComparingTo("2600");
+    }
+}
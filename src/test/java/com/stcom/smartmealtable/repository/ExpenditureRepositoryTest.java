@@ -8,11 +8,11 @@ import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
 import com.stcom.smartmealtable.domain.member.MemberType;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,8 +62,8 @@ class ExpenditureRepositoryTest {
         LocalDate today = LocalDate.now();
         YearMonth thisMonth = YearMonth.now();
 
-        DailyBudget dailyBudget = new DailyBudget(profile, BigDecimal.valueOf(10_000), today);
-        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, BigDecimal.valueOf(300_000), thisMonth);
+        DailyBudget dailyBudget = new DailyBudget(profile, 10_000, today);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, 300_000, thisMonth);
         budgetRepository.save(dailyBudget);
         budgetRepository.save(monthlyBudget);
 
@@ -98,4 +98,52 @@ class ExpenditureRepositoryTest {
                 .equals(slice.getContent());
         assertThat(sortedDesc).isTrue();
     }
-}
\ No newline at end of file
+
+    @DisplayName("커서 이후의 지출 내역을 (spentDate, id) 내림차순으로 조회한다")
+    @Test
+    void keysetScrollByProfile() {
+        // given
+        Member member = Member.builder()
+                .email("scroll@test.com")
+                .rawPassword("@Password1")
+                .build();
+        memberRepository.save(member);
+
+        MemberProfile profile = MemberProfile.builder()
+                .member(member)
+                .nickName("tester")
+                .type(MemberType.OTHER)
+                .build();
+        memberProfileRepository.save(profile);
+
+        DailyBudget dailyBudget = new DailyBudget(profile, 10_000, LocalDate.now());
+        MonthlyBudget monthlyBudget = new MonthlyBudget(profile, 300_000, YearMonth.now());
+        budgetRepository.save(dailyBudget);
+        budgetRepository.save(monthlyBudget);
+
+        // 같은 시각의 지출이 섞여 있어도 id 로 순서가 결정되어야 한다
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        IntStream.range(0, 6).forEach(i -> expenditureRepository.save(Expenditure.builder()
+                .spentDate(base.minusMinutes(i / 2))
+                .amount(1000L + i)
+                .tradeName("coffee" + i)
+                .dailyBudget(dailyBudget)
+                .monthlyBudget(monthlyBudget)
+                .build()));
+
+        // when
+        List<Expenditure> first = expenditureRepository.findFirstScrollByMemberProfileId(profile.getId(),
+                Pageable.ofSize(3));
+        Expenditure cursor = first.getLast();
+        List<Expenditure> next = expenditureRepository.findNextScrollByMemberProfileId(profile.getId(),
+                cursor.getSpentDate(), cursor.getId(), Pageable.ofSize(3));
+
+        // then
+        assertThat(first).hasSize(3);
+        assertThat(first).allMatch(e -> e.getMemberProfileId().equals(profile.getId()));
+        assertThat(next).hasSize(3);
+        assertThat(next).extracting(Expenditure::getId).doesNotContainAnyElementsOf(
+                first.stream().map(Expenditure::getId).toList());
+        assertThat(next.getFirst().getSpentDate()).isBeforeOrEqualTo(cursor.getSpentDate());
+    }
+}
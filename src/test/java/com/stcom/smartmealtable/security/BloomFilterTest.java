@@ -0,0 +1,37 @@
+package com.stcom.smartmealtable.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단해야 한다")
+    void noFalseNegative() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처여야 한다")
+    void falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,270 @@
+package com.stcom.smartmealtable.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+class JwtBlacklistFilterTest {
+
+    // Redis 상태: 만료 버킷 Set, 이전 형식 키, pub/sub 구독자
+    private final Map<String, Set<String>> buckets = new LinkedHashMap<>();
+    private final Set<String> legacyKeys = new LinkedHashSet<>();
+    private final List<MessageListener> subscribers = new ArrayList<>();
+    private boolean redisDown;
+    private Runnable duringScan = () -> { };
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtBlacklistFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            if (redisDown) {
+                throw new IllegalStateException("Redis 연결 실패");
+            }
+            String pattern = invocation.<ScanOptions>getArgument(0).getPattern();
+            if (pattern.startsWith(JwtBlacklistService.BUCKET_PREFIX)) {
+                return cursor(buckets.keySet());
+            }
+            return cursor(legacyKeys);
+        });
+        when(setOperations.scan(anyString(), any(ScanOptions.class))).thenAnswer(invocation -> {
+            duringScan.run();
+            return cursor(buckets.get(invocation.<String>getArgument(0)));
+        });
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+            byte[] channel = invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            List.copyOf(subscribers).forEach(subscriber ->
+                    subscriber.onMessage(new DefaultMessage(channel, body), null));
+            return (long) subscribers.size();
+        });
+
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        doAnswer(invocation -> subscribers.add(invocation.getArgument(0)))
+                .when(listenerContainer).addMessageListener(any(MessageListener.class), any(Topic.class));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = newInstance();
+    }
+
+    private JwtBlacklistFilter newInstance() {
+        JwtBlacklistFilter instance = new JwtBlacklistFilter(redisTemplate, listenerContainer, meterRegistry);
+        instance.subscribe();
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(Set<String> values) {
+        Iterator<String> iterator = List.copyOf(values == null ? Set.of() : values).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private void storeInRedis(String id) {
+        buckets.computeIfAbsent(JwtBlacklistService.BUCKET_PREFIX + 1, key -> new LinkedHashSet<>()).add(id);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("jwt.blacklist.lookups").tag("result", result).counter().count();
+    }
+
+    // 필터가 Redis 조회를 했는지 세는 조회 함수
+    private static class RedisLookup implements BooleanSupplier {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final boolean result;
+
+        RedisLookup(boolean result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            calls.incrementAndGet();
+            return result;
+        }
+    }
+
+    @Test
+    @DisplayName("시작 시 블랙리스트 채널을 구독한다")
+    void subscribesToChannel() {
+        verify(listenerContainer).addMessageListener(eq(filter),
+                argThat((Topic topic) -> JwtBlacklistFilter.CHANNEL.equals(topic.getTopic())));
+    }
+
+    @Test
+    @DisplayName("Redis 와 한 번도 동기화하지 않았으면 필터를 믿지 않고 Redis 를 조회한다")
+    void bypassesBeforeFirstSync() {
+        // given
+        RedisLookup lookup = new RedisLookup(true);
+
+        // when
+        boolean result = filter.isBlacklisted("jti-1", lookup);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(lookup.calls).hasValue(1);
+        assertThat(count("bypassed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 Redis 를 조회하지 않고 통과시킨다")
+    void skipsRedisOnNegative() {
+        // given
+        storeInRedis("jti-blacklisted");
+        filter.rebuild();
+        RedisLookup lookup = new RedisLookup(true);
+
+        // when
+        boolean result = filter.isBlacklisted("jti-other", lookup);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(lookup.calls).hasValue(0);
+        assertThat(count("filtered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터에 있을 수도 있는 토큰은 Redis 결과를 따른다")
+    void checksRedisOnPossiblePositive() {
+        // given
+        storeInRedis("jti-blacklisted");
+        filter.rebuild();
+        RedisLookup hit = new RedisLookup(true);
+        RedisLookup falsePositive = new RedisLookup(false);
+
+        // when & then
+        assertThat(filter.isBlacklisted("jti-blacklisted", hit)).isTrue();
+        assertThat(filter.isBlacklisted("jti-blacklisted", falsePositive)).isFalse();
+        assertThat(hit.calls).hasValue(1);
+        assertThat(falsePositive.calls).hasValue(1);
+        assertThat(count("blacklisted")).isEqualTo(1);
+        assertThat(count("false_positive")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 시 이전 형식 키는 토큰 다이제스트로 필터에 넣는다")
+    void rebuildIncludesLegacyKeys() {
+        // given
+        String token = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIn0.signature";
+        legacyKeys.add(JwtBlacklistService.LEGACY_PREFIX + token);
+
+        // when
+        filter.rebuild();
+
+        // then
+        RedisLookup lookup = new RedisLookup(true);
+        assertThat(filter.isBlacklisted(JwtBlacklistService.digest(token), lookup)).isTrue();
+        assertThat(lookup.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 등록한 토큰은 pub/sub 으로 전달받아 Redis 를 확인한다")
+    void propagatesThroughPubSub() {
+        // given
+        JwtBlacklistFilter otherInstance = newInstance();
+        filter.rebuild();
+        otherInstance.rebuild();
+
+        // when
+        storeInRedis("jti-new");
+        otherInstance.publish("jti-new");
+
+        // then
+        verify(redisTemplate).convertAndSend(JwtBlacklistFilter.CHANNEL, "jti-new");
+        RedisLookup lookup = new RedisLookup(true);
+        assertThat(filter.isBlacklisted("jti-new", lookup)).isTrue();
+        assertThat(lookup.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("주기적 재구성으로 Redis 에서 만료된 토큰은 필터에서 빠진다")
+    void rebuildDropsExpiredEntries() {
+        // given
+        filter.rebuild();
+        storeInRedis("jti-expiring");
+        filter.publish("jti-expiring");
+
+        // when: 버킷 키가 만료된 뒤 재구성
+        buckets.clear();
+        filter.rebuild();
+
+        // then
+        RedisLookup lookup = new RedisLookup(true);
+        assertThat(filter.isBlacklisted("jti-expiring", lookup)).isFalse();
+        assertThat(lookup.calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("재구성 도중 들어온 토큰도 새 필터에 남는다")
+    void keepsEntriesAddedDuringRebuild() {
+        // given
+        storeInRedis("jti-existing");
+        duringScan = () -> filter.onMessage(new DefaultMessage(
+                JwtBlacklistFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-racing".getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        filter.rebuild();
+
+        // then
+        RedisLookup lookup = new RedisLookup(true);
+        assertThat(filter.isBlacklisted("jti-racing", lookup)).isTrue();
+        assertThat(lookup.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재구성에 실패하면 다음 재구성까지 항상 Redis 를 조회한다")
+    void bypassesAfterFailedRebuild() {
+        // given
+        filter.rebuild();
+        redisDown = true;
+
+        // when
+        filter.rebuild();
+
+        // then
+        RedisLookup lookup = new RedisLookup(false);
+        assertThat(filter.isBlacklisted("jti-any", lookup)).isFalse();
+        assertThat(lookup.calls).hasValue(1);
+        assertThat(count("bypassed")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,201 @@
+package com.stcom.smartmealtable.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+class JwtBlacklistServiceTest {
+
+    private static final Key KEY = Keys.hmacShaKeyFor(
+            "test-secret-key-that-is-long-enough-for-hs256".getBytes(StandardCharsets.UTF_8));
+
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(KEY).build();
+
+    // Redis 상태를 흉내 내는 Set 키와 만료 시각
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    private final Map<String, Date> expireAts = new HashMap<>();
+    private final Set<String> legacyKeys = new HashSet<>();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private SetOperations<String, String> setOperations;
+    private JwtBlacklistFilter blacklistFilter;
+    private JwtBlacklistService blacklistService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(anyString(), any())).thenAnswer(invocation ->
+                sets.getOrDefault(invocation.<String>getArgument(0), Set.of())
+                        .contains(invocation.<String>getArgument(1)));
+        when(redisTemplate.expireAt(anyString(), any(Date.class))).thenAnswer(invocation -> {
+            expireAts.put(invocation.getArgument(0), invocation.getArgument(1));
+            return true;
+        });
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation ->
+                legacyKeys.contains(invocation.<String>getArgument(0)));
+
+        // 필터는 항상 "있을 수도 있음" 으로 보고 Redis 조회 결과를 그대로 돌려준다.
+        blacklistFilter = mock(JwtBlacklistFilter.class);
+        when(blacklistFilter.isBlacklisted(anyString(), any())).thenAnswer(invocation ->
+                invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+
+        blacklistService = new JwtBlacklistService(redisTemplate, blacklistFilter, jwtParser);
+    }
+
+    private static String token(String jti, Date expiration) {
+        return Jwts.builder()
+                .claim("memberId", "1")
+                .setId(jti)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 1000 * 60 * 60);
+    }
+
+    private Claims claims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private static String bucketKey(Date expiration) {
+        return JwtBlacklistService.BUCKET_PREFIX + expiration.getTime() / JwtBlacklistService.BUCKET_MILLIS;
+    }
+
+    // addToBlacklist 가 쓰는 것과 같은 버킷에 식별자를 넣어 둔다.
+    private void stored(Date expiration, String id) {
+        sets.computeIfAbsent(bucketKey(expiration), key -> new HashSet<>()).add(id);
+    }
+
+    @Test
+    @DisplayName("jti 를 토큰 만료 시각의 1시간 버킷에 저장하고, 버킷은 그 시간이 끝날 때 만료된다")
+    void addToBlacklist() {
+        // given
+        Date expiration = inOneHour();
+        String token = token("jti-1", expiration);
+
+        // when
+        blacklistService.addToBlacklist("Bearer " + token);
+
+        // then
+        String key = bucketKey(expiration);
+        long bucket = expiration.getTime() / JwtBlacklistService.BUCKET_MILLIS;
+        verify(setOperations).add(key, "jti-1");
+        assertThat(expireAts.get(key)).isEqualTo(new Date((bucket + 1) * JwtBlacklistService.BUCKET_MILLIS));
+        // 버킷은 그 안의 어떤 토큰보다도 먼저 만료되지 않는다.
+        assertThat(expireAts.get(key)).isAfter(expiration);
+        verify(blacklistFilter).publish("jti-1");
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 토큰은 토큰 원문 대신 다이제스트를 저장한다")
+    void addToBlacklistWithoutJti() {
+        // given
+        Date expiration = inOneHour();
+        String token = token(null, expiration);
+        String digest = JwtBlacklistService.digest(token);
+
+        // when
+        blacklistService.addToBlacklist(token);
+
+        // then
+        assertThat(digest).hasSize(22);
+        verify(setOperations).add(bucketKey(expiration), digest);
+        verify(blacklistFilter).publish(digest);
+    }
+
+    @Test
+    @DisplayName("jti 로 등록된 토큰은 블랙리스트로 판단한다")
+    void jtiHit() {
+        // given
+        Date expiration = inOneHour();
+        String token = token("jti-1", expiration);
+        stored(expiration, "jti-1");
+
+        // when & then
+        assertThat(blacklistService.isBlacklisted("Bearer " + token, claims(token))).isTrue();
+        String other = token("jti-2", inOneHour());
+        assertThat(blacklistService.isBlacklisted(other, claims(other))).isFalse();
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 토큰은 다이제스트로 찾는다")
+    void digestHit() {
+        // given
+        Date expiration = inOneHour();
+        String token = token(null, expiration);
+        stored(expiration, JwtBlacklistService.digest(token));
+
+        // when & then
+        assertThat(blacklistService.isBlacklisted(token, claims(token))).isTrue();
+        String other = token(null, new Date(System.currentTimeMillis() + 1000 * 60 * 90));
+        assertThat(blacklistService.isBlacklisted(other, claims(other))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 형식(토큰 원문) 키로 등록된 jti 없는 토큰도 블랙리스트로 판단한다")
+    void legacyHit() {
+        // given
+        String token = token(null, inOneHour());
+        legacyKeys.add(JwtBlacklistService.LEGACY_PREFIX + token);
+
+        // when & then
+        assertThat(blacklistService.isBlacklisted(token, claims(token))).isTrue();
+    }
+
+    @Test
+    @DisplayName("jti 가 있는 토큰은 이전 형식 키를 조회하지 않는다")
+    void skipsLegacyLookupForJti() {
+        // given
+        String token = token("jti-1", inOneHour());
+        legacyKeys.add(JwtBlacklistService.LEGACY_PREFIX + token);
+
+        // when & then
+        assertThat(blacklistService.isBlacklisted(token, claims(token))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("버킷 키가 만료되어 사라지면 그 버킷의 토큰은 더 이상 블랙리스트가 아니다")
+    void expiredBucket() {
+        // given
+        Date expiration = inOneHour();
+        String token = token("jti-1", expiration);
+        stored(expiration, "jti-1");
+        assertThat(blacklistService.isBlacklisted(token, claims(token))).isTrue();
+
+        // when: Redis 가 expireAt 에 버킷 키를 지운다.
+        sets.remove(bucketKey(expiration));
+
+        // then
+        assertThat(blacklistService.isBlacklisted(token, claims(token))).isFalse();
+    }
+}
@@ -10,7 +10,6 @@ import com.stcom.smartmealtable.domain.member.MemberProfile;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
 import com.stcom.smartmealtable.repository.MemberRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -141,8 +140,8 @@ class BudgetServiceAdditionalIntegrationTest {
         YearMonth thisMonth = YearMonth.of(2025, 6);
 
         // 예산 생성
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(dailyLimit), today);
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(monthlyLimit), thisMonth);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, dailyLimit, today);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, monthlyLimit, thisMonth);
         budgetRepository.saveAll(List.of(dailyBudget, monthlyBudget));
 
         // when
@@ -150,8 +149,8 @@ class BudgetServiceAdditionalIntegrationTest {
         MonthlyBudget foundMonthly = budgetService.getMonthlyBudgetBy(memberProfile.getId(), thisMonth);
 
         // then
-        assertThat(foundDaily.getLimit()).isEqualTo(BigDecimal.valueOf(dailyLimit));
-        assertThat(foundMonthly.getLimit()).isEqualTo(BigDecimal.valueOf(monthlyLimit));
+        assertThat(foundDaily.getLimit()).isEqualTo(dailyLimit);
+        assertThat(foundMonthly.getLimit()).isEqualTo(monthlyLimit);
     }
 
     @Test
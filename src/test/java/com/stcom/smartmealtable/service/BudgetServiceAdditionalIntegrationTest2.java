@@ -10,7 +10,6 @@ import com.stcom.smartmealtable.domain.member.MemberProfile;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
 import com.stcom.smartmealtable.repository.MemberRepository;
-import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -72,7 +71,7 @@ class BudgetServiceAdditionalIntegrationTest2 {
             // 요일별로 다른 금액 설정
             DailyBudget dailyBudget = new DailyBudget(
                     memberProfile, 
-                    BigDecimal.valueOf(10000 + i * 1000), 
+                    10000 + i * 1000, 
                     date);
             budgetRepository.save(dailyBudget);
         }
@@ -89,7 +88,7 @@ class BudgetServiceAdditionalIntegrationTest2 {
         for (int i = 0; i < weekBudgets.size(); i++) {
             assertThat(weekBudgets.get(i).getDate()).isEqualTo(monday.plusDays(i));
             // 금액 확인 (10000 + i * 1000)
-            assertThat(weekBudgets.get(i).getLimit()).isEqualTo(BigDecimal.valueOf(10000 + i * 1000));
+            assertThat(weekBudgets.get(i).getLimit()).isEqualTo(10000 + i * 1000);
         }
     }
     
@@ -115,8 +114,8 @@ class BudgetServiceAdditionalIntegrationTest2 {
         LocalDate friday = monday.plusDays(4);
         
         // 수요일과 금요일에만 예산 설정
-        DailyBudget wednesdayBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(15000), wednesday);
-        DailyBudget fridayBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(20000), friday);
+        DailyBudget wednesdayBudget = new DailyBudget(memberProfile, 15000, wednesday);
+        DailyBudget fridayBudget = new DailyBudget(memberProfile, 20000, friday);
         budgetRepository.saveAll(List.of(wednesdayBudget, fridayBudget));
         
         // when
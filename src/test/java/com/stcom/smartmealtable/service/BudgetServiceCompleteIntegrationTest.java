@@ -10,7 +10,6 @@ import com.stcom.smartmealtable.domain.member.MemberProfile;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
 import com.stcom.smartmealtable.repository.MemberRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -62,7 +61,7 @@ class BudgetServiceCompleteIntegrationTest {
     void getDailyBudgetBy() {
         // given
         LocalDate date = LocalDate.of(2025, 7, 15);
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(25000), date);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 25000, date);
         budgetRepository.save(dailyBudget);
 
         // when
@@ -70,7 +69,7 @@ class BudgetServiceCompleteIntegrationTest {
 
         // then
         assertThat(result.getDate()).isEqualTo(date);
-        assertThat(result.getLimit()).isEqualTo(BigDecimal.valueOf(25000));
+        assertThat(result.getLimit()).isEqualTo(25000);
         assertThat(result.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
     }
 
@@ -91,7 +90,7 @@ class BudgetServiceCompleteIntegrationTest {
     void getMonthlyBudgetBy() {
         // given
         YearMonth yearMonth = YearMonth.of(2025, 7);
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(800000), yearMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 800000, yearMonth);
         budgetRepository.save(monthlyBudget);
 
         // when
@@ -99,7 +98,7 @@ class BudgetServiceCompleteIntegrationTest {
 
         // then
         assertThat(result.getYearMonth()).isEqualTo(yearMonth);
-        assertThat(result.getLimit()).isEqualTo(BigDecimal.valueOf(800000));
+        assertThat(result.getLimit()).isEqualTo(800000);
         assertThat(result.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
     }
 
@@ -136,7 +135,7 @@ class BudgetServiceCompleteIntegrationTest {
         assertThat(budgets).hasSize(17);
         assertThat(budgets.get(0).getDate()).isEqualTo(startDate);
         assertThat(budgets.get(budgets.size() - 1).getDate()).isEqualTo(LocalDate.of(2025, 7, 31));
-        assertThat(budgets.stream().allMatch(b -> b.getLimit().equals(BigDecimal.valueOf(dailyLimit)))).isTrue();
+        assertThat(budgets.stream().allMatch(b -> b.getLimit() == dailyLimit)).isTrue();
     }
 
     @Test
@@ -155,7 +154,7 @@ class BudgetServiceCompleteIntegrationTest {
         ).orElseThrow();
         
         assertThat(budget.getYearMonth()).isEqualTo(startYearMonth);
-        assertThat(budget.getLimit()).isEqualTo(BigDecimal.valueOf(monthlyLimit));
+        assertThat(budget.getLimit()).isEqualTo(monthlyLimit);
         assertThat(budget.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
     }
 
@@ -182,7 +181,7 @@ class BudgetServiceCompleteIntegrationTest {
     void editDailyBudgetCustom() {
         // given
         LocalDate date = LocalDate.of(2025, 8, 10);
-        DailyBudget originalBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(20000), date);
+        DailyBudget originalBudget = new DailyBudget(memberProfile, 20000, date);
         budgetRepository.save(originalBudget);
         
         Long newLimit = 35000L;
@@ -195,7 +194,7 @@ class BudgetServiceCompleteIntegrationTest {
                 memberProfile.getId(), date
         ).orElseThrow();
         
-        assertThat(updatedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(newLimit));
+        assertThat(updatedBudget.getLimit()).isEqualTo(newLimit);
     }
 
     @Test
@@ -203,7 +202,7 @@ class BudgetServiceCompleteIntegrationTest {
     void editMonthlyBudgetCustom() {
         // given
         YearMonth yearMonth = YearMonth.of(2025, 8);
-        MonthlyBudget originalBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(800000), yearMonth);
+        MonthlyBudget originalBudget = new MonthlyBudget(memberProfile, 800000, yearMonth);
         budgetRepository.save(originalBudget);
         
         Long newLimit = 1200000L;
@@ -216,7 +215,7 @@ class BudgetServiceCompleteIntegrationTest {
                 memberProfile.getId(), yearMonth
         ).orElseThrow();
         
-        assertThat(updatedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(newLimit));
+        assertThat(updatedBudget.getLimit()).isEqualTo(newLimit);
     }
 
     @Test
@@ -251,7 +250,7 @@ class BudgetServiceCompleteIntegrationTest {
                 memberProfile.getId(), LocalDate.now()
         ).orElseThrow();
         
-        assertThat(savedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(dailyLimit));
+        assertThat(savedBudget.getLimit()).isEqualTo(dailyLimit);
         assertThat(savedBudget.getDate()).isEqualTo(LocalDate.now());
     }
 
@@ -270,7 +269,7 @@ class BudgetServiceCompleteIntegrationTest {
                 memberProfile.getId(), YearMonth.now()
         ).orElseThrow();
         
-        assertThat(savedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(monthlyLimit));
+        assertThat(savedBudget.getLimit()).isEqualTo(monthlyLimit);
         assertThat(savedBudget.getYearMonth()).isEqualTo(YearMonth.now());
     }
 
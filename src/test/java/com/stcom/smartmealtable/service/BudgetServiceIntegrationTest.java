@@ -10,7 +10,6 @@ import com.stcom.smartmealtable.domain.member.MemberProfile;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
 import com.stcom.smartmealtable.repository.MemberRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -68,9 +67,9 @@ class BudgetServiceIntegrationTest {
 
         // then
         DailyBudget savedBudget = budgetService.findRecentDailyBudgetByMemberProfileId(memberProfile.getId());
-        assertThat(savedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(limit));
+        assertThat(savedBudget.getLimit()).isEqualTo(limit);
         assertThat(savedBudget.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
-        assertThat(savedBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(savedBudget.getSpendAmount()).isEqualTo(0);
     }
 
     @DisplayName("월별 예산을 저장하고 조회할 수 있다")
@@ -84,9 +83,9 @@ class BudgetServiceIntegrationTest {
 
         // then
         MonthlyBudget savedBudget = budgetService.findRecentMonthlyBudgetByMemberProfileId(memberProfile.getId());
-        assertThat(savedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(limit));
+        assertThat(savedBudget.getLimit()).isEqualTo(limit);
         assertThat(savedBudget.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
-        assertThat(savedBudget.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(savedBudget.getSpendAmount()).isEqualTo(0);
     }
 
     @DisplayName("특정 날짜의 일일 예산을 조회할 수 있다")
@@ -94,7 +93,7 @@ class BudgetServiceIntegrationTest {
     void getDailyBudgetByDate() {
         // given
         LocalDate targetDate = LocalDate.of(2025, 6, 15);
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(30000), targetDate);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 30000, targetDate);
         budgetRepository.save(dailyBudget);
 
         // when
@@ -102,7 +101,7 @@ class BudgetServiceIntegrationTest {
 
         // then
         assertThat(foundBudget.getDate()).isEqualTo(targetDate);
-        assertThat(foundBudget.getLimit()).isEqualTo(BigDecimal.valueOf(30000));
+        assertThat(foundBudget.getLimit()).isEqualTo(30000);
         assertThat(foundBudget.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
     }
 
@@ -111,7 +110,7 @@ class BudgetServiceIntegrationTest {
     void getMonthlyBudgetByYearMonth() {
         // given
         YearMonth targetYearMonth = YearMonth.of(2025, 6);
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(800000), targetYearMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 800000, targetYearMonth);
         budgetRepository.save(monthlyBudget);
 
         // when
@@ -119,7 +118,7 @@ class BudgetServiceIntegrationTest {
 
         // then
         assertThat(foundBudget.getYearMonth()).isEqualTo(targetYearMonth);
-        assertThat(foundBudget.getLimit()).isEqualTo(BigDecimal.valueOf(800000));
+        assertThat(foundBudget.getLimit()).isEqualTo(800000);
         assertThat(foundBudget.getMemberProfile().getId()).isEqualTo(memberProfile.getId());
     }
 
@@ -132,7 +131,7 @@ class BudgetServiceIntegrationTest {
         // 월요일부터 일요일까지 일일 예산 생성
         for (int i = 0; i < 7; i++) {
             LocalDate date = monday.plusDays(i);
-            DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(10000 + i * 1000), date);
+            DailyBudget dailyBudget = new DailyBudget(memberProfile, 10000 + i * 1000, date);
             budgetRepository.save(dailyBudget);
         }
 
@@ -162,7 +161,7 @@ class BudgetServiceIntegrationTest {
         assertThat(dailyBudgets).hasSize(16);
 
         for (DailyBudget budget : dailyBudgets) {
-            assertThat(budget.getLimit()).isEqualTo(BigDecimal.valueOf(dailyLimit));
+            assertThat(budget.getLimit()).isEqualTo(dailyLimit);
             assertThat(budget.getDate()).isBetween(startDate, LocalDate.of(2025, 6, 30));
         }
     }
@@ -179,7 +178,7 @@ class BudgetServiceIntegrationTest {
 
         // then
         MonthlyBudget savedBudget = budgetService.getMonthlyBudgetBy(memberProfile.getId(), targetYearMonth);
-        assertThat(savedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(monthlyLimit));
+        assertThat(savedBudget.getLimit()).isEqualTo(monthlyLimit);
         assertThat(savedBudget.getYearMonth()).isEqualTo(targetYearMonth);
     }
 
@@ -188,7 +187,7 @@ class BudgetServiceIntegrationTest {
     void editDailyBudgetCustom() {
         // given
         LocalDate targetDate = LocalDate.of(2025, 6, 20);
-        DailyBudget dailyBudget = new DailyBudget(memberProfile, BigDecimal.valueOf(20000), targetDate);
+        DailyBudget dailyBudget = new DailyBudget(memberProfile, 20000, targetDate);
         budgetRepository.save(dailyBudget);
 
         Long newLimit = 35000L;
@@ -198,7 +197,7 @@ class BudgetServiceIntegrationTest {
 
         // then
         DailyBudget updatedBudget = budgetService.getDailyBudgetBy(memberProfile.getId(), targetDate);
-        assertThat(updatedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(newLimit));
+        assertThat(updatedBudget.getLimit()).isEqualTo(newLimit);
     }
 
     @DisplayName("월별 예산 한도를 수정할 수 있다")
@@ -206,7 +205,7 @@ class BudgetServiceIntegrationTest {
     void editMonthlyBudgetCustom() {
         // given
         YearMonth targetYearMonth = YearMonth.of(2025, 8);
-        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, BigDecimal.valueOf(600000), targetYearMonth);
+        MonthlyBudget monthlyBudget = new MonthlyBudget(memberProfile, 600000, targetYearMonth);
         budgetRepository.save(monthlyBudget);
 
         Long newLimit = 750000L;
@@ -216,7 +215,7 @@ class BudgetServiceIntegrationTest {
 
         // then
         MonthlyBudget updatedBudget = budgetService.getMonthlyBudgetBy(memberProfile.getId(), targetYearMonth);
-        assertThat(updatedBudget.getLimit()).isEqualTo(BigDecimal.valueOf(newLimit));
+        assertThat(updatedBudget.getLimit()).isEqualTo(newLimit);
     }
 
     @DisplayName("존재하지 않는 프로필 ID로 예산을 조회하면 예외가 발생한다")
@@ -0,0 +1,147 @@
+package com.stcom.smartmealtable.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.member.Member;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import com.stcom.smartmealtable.repository.MemberRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "budget.daily.lazy-provisioning=true")
+@ActiveProfiles("test")
+@Transactional
+class BudgetServiceLazyDailyBudgetIntegrationTest {
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    private MemberProfile memberProfile;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .email("lazy@test.com")
+                .rawPassword("testPassword!")
+                .build();
+        memberRepository.save(member);
+
+        memberProfile = MemberProfile.builder()
+                .nickName("lazyUser")
+                .member(member)
+                .build();
+        memberProfileRepository.save(memberProfile);
+    }
+
+    @DisplayName("기본 일일 예산을 등록하면 날짜별 행 대신 프로필에 기본 한도만 저장된다")
+    @Test
+    void registerDefaultDailyBudgetStoresLimitOnly() {
+        // when
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 20000L, LocalDate.of(2025, 6, 15));
+
+        // then
+        assertThat(budgetRepository.findDailyBudgetsViaType(memberProfile.getId())).isEmpty();
+        assertThat(memberProfile.getDefaultDailyLimit()).isEqualTo(20000);
+
+        DailyBudget virtual = budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 6, 20));
+        assertThat(virtual.getId()).isNull();
+        assertThat(virtual.getLimit()).isEqualTo(20000);
+        assertThat(virtual.getSpendAmount()).isEqualTo(0);
+    }
+
+    @DisplayName("주간 조회 시 행이 없는 날짜는 기본 한도로 채워 7일을 돌려준다")
+    @Test
+    void getDailyBudgetsByWeekFillsMissingDays() {
+        // given
+        LocalDate wednesday = LocalDate.of(2025, 6, 18);
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 20000L, LocalDate.of(2025, 6, 16));
+        budgetRepository.save(new DailyBudget(memberProfile, 35000, wednesday));
+
+        // when
+        List<DailyBudget> week = budgetService.getDailyBudgetsByWeek(memberProfile.getId(), wednesday);
+
+        // then
+        assertThat(week).hasSize(7);
+        assertThat(week).extracting(DailyBudget::getDate)
+                .containsExactly(LocalDate.of(2025, 6, 16), LocalDate.of(2025, 6, 17), wednesday,
+                        LocalDate.of(2025, 6, 19), LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 21),
+                        LocalDate.of(2025, 6, 22));
+        assertThat(week.get(2).getLimit()).isEqualTo(35000);
+        assertThat(week.get(0).getLimit()).isEqualTo(20000);
+    }
+
+    @DisplayName("행이 없는 날짜의 한도를 수정하면 그 날짜의 예산만 생성된다")
+    @Test
+    void editDailyBudgetCreatesRowLazily() {
+        // given
+        LocalDate date = LocalDate.of(2025, 6, 18);
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 20000L, date);
+
+        // when
+        budgetService.editDailyBudgetCustom(memberProfile.getId(), date, 15000L);
+
+        // then
+        List<DailyBudget> stored = budgetRepository.findDailyBudgetsViaType(memberProfile.getId());
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getDate()).isEqualTo(date);
+        assertThat(stored.get(0).getLimit()).isEqualTo(15000);
+    }
+
+    @DisplayName("기본 한도를 바꾸면 시작일 이전 날짜는 이전 한도로 저장되고, 이후 날짜만 새 한도를 따른다")
+    @Test
+    void changeDefaultDailyBudgetFreezesPastDays() {
+        // given
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 20000L, LocalDate.of(2025, 6, 10));
+        budgetRepository.save(new DailyBudget(memberProfile, 35000, LocalDate.of(2025, 6, 12)));
+
+        // when
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 30000L, LocalDate.of(2025, 6, 15));
+
+        // then
+        List<DailyBudget> stored = budgetRepository.findDailyBudgetsViaType(memberProfile.getId());
+        assertThat(stored).extracting(DailyBudget::getDate)
+                .containsExactlyInAnyOrder(LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 11),
+                        LocalDate.of(2025, 6, 12), LocalDate.of(2025, 6, 13), LocalDate.of(2025, 6, 14));
+        assertThat(budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 6, 11)).getLimit())
+                .isEqualTo(20000);
+        assertThat(budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 6, 12)).getLimit())
+                .isEqualTo(35000);
+        assertThat(budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 6, 15)).getLimit())
+                .isEqualTo(30000);
+        assertThat(budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 8, 1)).getLimit())
+                .isEqualTo(30000);
+    }
+
+    @DisplayName("기본 한도 적용 시작일 이전 날짜는 기본 한도로 대신하지 않는다")
+    @Test
+    void defaultDailyBudgetStartsAtStartDate() {
+        // given
+        budgetService.registerDefaultDailyBudgetBy(memberProfile.getId(), 20000L, LocalDate.of(2025, 6, 10));
+
+        // when & then
+        assertThatThrownBy(() -> budgetService.getDailyBudgetBy(memberProfile.getId(), LocalDate.of(2025, 6, 9)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("예산이 존재하지 않습니다.");
+        assertThat(budgetService.findOrCreateDailyBudget(memberProfile.getId(), LocalDate.of(2025, 6, 9))).isEmpty();
+    }
+}
@@ -0,0 +1,180 @@
+package com.stcom.smartmealtable.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageManager;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseResult;
+import com.stcom.smartmealtable.component.creditmessage.ExpenditureDto;
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import com.stcom.smartmealtable.service.dto.ExpenditureImportResultDto;
+import com.stcom.smartmealtable.service.dto.ExpenditureRegisterDto;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto.Status;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CreditMessageImportServiceTest {
+
+    @Mock
+    private CreditMessageManager creditMessageManager;
+
+    @Mock
+    private ExpenditureService expenditureService;
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private MemberProfileRepository memberProfileRepository;
+
+    @InjectMocks
+    private CreditMessageImportService importService;
+
+    @Test
+    @DisplayName("같은 승인은 한 번만 등록하고, 실패한 문자는 실패로 돌려준다")
+    void importMessages() {
+        // given
+        ExpenditureDto approval = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        ExpenditureDto sameApproval = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        when(creditMessageManager.parseMessages(anyList(), any())).thenReturn(List.of(
+                CreditMessageParseResult.success(approval),
+                CreditMessageParseResult.success(sameApproval),
+                CreditMessageParseResult.failure("승인 문자 형식을 인식하지 못했습니다.")));
+
+        MonthlyBudget june = Mockito.mock(MonthlyBudget.class);
+        when(june.getYearMonth()).thenReturn(YearMonth.of(2025, 6));
+        when(budgetRepository.findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(anyLong(), any(), any()))
+                .thenReturn(List.of(june));
+        DailyBudget june12 = dailyBudget(LocalDate.of(2025, 6, 12));
+        when(budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(anyLong(), any(), any()))
+                .thenReturn(List.of(june12));
+        when(expenditureService.importExpenditures(Mockito.eq(1L), anyList()))
+                .thenReturn(new ExpenditureImportResultDto(1, List.of(1)));
+
+        // when
+        List<MessageImportResultDto> results = importService.importMessages(1L, List.of("a", "a'", "b"), null);
+
+        // then
+        assertThat(results).extracting(MessageImportResultDto::getStatus)
+                .containsExactly(Status.REGISTERED, Status.DUPLICATE, Status.FAILED);
+
+        ArgumentCaptor<List<ExpenditureRegisterDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(expenditureService).importExpenditures(Mockito.eq(1L), captor.capture());
+        assertThat(captor.getValue()).hasSize(2)
+                .allMatch(request -> "KB".equals(request.getVendor()));
+    }
+
+    @Test
+    @DisplayName("월별 예산이 없는 달의 승인은 등록하지 않는다")
+    void rejectMonthWithoutBudget() {
+        // given
+        ExpenditureDto approval = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        when(creditMessageManager.parseMessages(anyList(), any())).thenReturn(List.of(
+                CreditMessageParseResult.success(approval)));
+        when(budgetRepository.findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(anyLong(), any(), any()))
+                .thenReturn(List.of());
+
+        // when
+        List<MessageImportResultDto> results = importService.importMessages(1L, List.of("a"), null);
+
+        // then
+        assertThat(results.get(0).getStatus()).isEqualTo(Status.FAILED);
+        Mockito.verifyNoInteractions(expenditureService);
+    }
+
+    @Test
+    @DisplayName("일일 예산이 생기기 전 날짜의 승인만 실패로 돌려주고 나머지는 등록한다")
+    void rejectDayWithoutBudget() {
+        // given
+        ExpenditureDto beforeSignup = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 3, 12, 0), 8000L, "김밥천국");
+        ExpenditureDto approval = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        when(creditMessageManager.parseMessages(anyList(), any())).thenReturn(List.of(
+                CreditMessageParseResult.success(beforeSignup),
+                CreditMessageParseResult.success(approval)));
+
+        MonthlyBudget june = Mockito.mock(MonthlyBudget.class);
+        when(june.getYearMonth()).thenReturn(YearMonth.of(2025, 6));
+        when(budgetRepository.findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(anyLong(), any(), any()))
+                .thenReturn(List.of(june));
+        when(memberProfileRepository.findById(1L)).thenReturn(Optional.of(new MemberProfile()));
+        List<DailyBudget> dailyBudgets = List.of(dailyBudget(LocalDate.of(2025, 6, 10)),
+                dailyBudget(LocalDate.of(2025, 6, 12)));
+        when(budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(1L, LocalDate.of(2025, 6, 3),
+                LocalDate.of(2025, 6, 12)))
+                .thenReturn(dailyBudgets);
+        when(expenditureService.importExpenditures(Mockito.eq(1L), anyList()))
+                .thenReturn(new ExpenditureImportResultDto(1, List.of()));
+
+        // when
+        List<MessageImportResultDto> results = importService.importMessages(1L, List.of("a", "b"), null);
+
+        // then
+        assertThat(results).extracting(MessageImportResultDto::getStatus)
+                .containsExactly(Status.FAILED, Status.REGISTERED);
+        assertThat(results.get(0).getErrorMessage()).isEqualTo("일일 예산이 존재하지 않습니다. 2025-06-03");
+
+        ArgumentCaptor<List<ExpenditureRegisterDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(expenditureService).importExpenditures(Mockito.eq(1L), captor.capture());
+        assertThat(captor.getValue()).extracting(ExpenditureRegisterDto::getTradeName)
+                .containsExactly("스타벅스");
+    }
+
+    @Test
+    @DisplayName("기본 일일 한도가 있는 프로필은 적용 시작일 이후 날짜만 일일 예산 행 없이 등록한다")
+    void skipDailyCheckForDefaultLimitDays() {
+        // given
+        ExpenditureDto beforeDefault = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 3, 12, 0), 8000L, "김밥천국");
+        ExpenditureDto approval = new ExpenditureDto("KB", LocalDateTime.of(2025, 6, 12, 10, 20), 11000L, "스타벅스");
+        when(creditMessageManager.parseMessages(anyList(), any())).thenReturn(List.of(
+                CreditMessageParseResult.success(beforeDefault),
+                CreditMessageParseResult.success(approval)));
+
+        MonthlyBudget june = Mockito.mock(MonthlyBudget.class);
+        when(june.getYearMonth()).thenReturn(YearMonth.of(2025, 6));
+        when(budgetRepository.findMonthlyBudgetsByMemberProfileIdAndYearMonthBetween(anyLong(), any(), any()))
+                .thenReturn(List.of(june));
+        MemberProfile profile = new MemberProfile();
+        profile.changeDefaultDailyLimit(10000L, LocalDate.of(2025, 6, 5));
+        when(memberProfileRepository.findById(1L)).thenReturn(Optional.of(profile));
+        when(budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(1L, LocalDate.of(2025, 6, 3),
+                LocalDate.of(2025, 6, 3)))
+                .thenReturn(List.of());
+        when(expenditureService.importExpenditures(Mockito.eq(1L), anyList()))
+                .thenReturn(new ExpenditureImportResultDto(1, List.of()));
+
+        // when
+        List<MessageImportResultDto> results = importService.importMessages(1L, List.of("a", "b"), null);
+
+        // then
+        assertThat(results).extracting(MessageImportResultDto::getStatus)
+                .containsExactly(Status.FAILED, Status.REGISTERED);
+        assertThat(results.get(0).getErrorMessage()).isEqualTo("일일 예산이 존재하지 않습니다. 2025-06-03");
+    }
+
+    private static DailyBudget dailyBudget(LocalDate date) {
+        DailyBudget budget = Mockito.mock(DailyBudget.class);
+        when(budget.getDate()).thenReturn(date);
+        return budget;
+    }
+}
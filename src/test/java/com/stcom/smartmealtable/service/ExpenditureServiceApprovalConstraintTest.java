@@ -0,0 +1,122 @@
+package com.stcom.smartmealtable.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.domain.Budget.ApprovalFingerprint;
+import com.stcom.smartmealtable.domain.Budget.DailyBudget;
+import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.domain.member.Member;
+import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.infrastructure.cache.ApprovalFingerprintRegistry;
+import com.stcom.smartmealtable.repository.BudgetRepository;
+import com.stcom.smartmealtable.repository.ExpenditureRepository;
+import com.stcom.smartmealtable.repository.MemberProfileRepository;
+import com.stcom.smartmealtable.repository.MemberRepository;
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Redis 선점을 통과한 중복 승인을 유니크 인덱스가 막는지 확인한다.
+ * <p>
+ * 롤백 후 지문 해제까지 확인하려면 서비스 트랜잭션이 실제로 커밋/롤백되어야 하므로
+ * 테스트 트랜잭션 없이 실행하고, 만든 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ExpenditureService.class, BudgetService.class, ApprovalFingerprintRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpenditureServiceApprovalConstraintTest {
+
+    @Autowired
+    private ExpenditureService expenditureService;
+    @Autowired
+    private ExpenditureRepository expenditureRepository;
+    @Autowired
+    private BudgetRepository budgetRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private MemberProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .email("approval-constraint@example.com")
+                .rawPassword("P@ssw0rd!")
+                .build();
+        memberRepository.save(member);
+
+        profile = MemberProfile.builder()
+                .member(member)
+                .nickName("tester")
+                .build();
+        memberProfileRepository.save(profile);
+
+        LocalDate today = LocalDate.now();
+        budgetRepository.save(new DailyBudget(profile, 50_000, today));
+        budgetRepository.save(new MonthlyBudget(profile, 1_000_000, YearMonth.from(today)));
+
+        // Redis 선점은 항상 성공한다(핫 윈도우가 지났거나 Redis 가 비워진 경우).
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        expenditureRepository.deleteAllInBatch();
+        spendRollupRepository.deleteAllInBatch();
+        budgetRepository.deleteAllInBatch();
+        memberProfileRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("Redis 선점을 통과한 중복 승인은 유니크 인덱스가 막고, 롤백되면 선점한 지문을 풀어 준다")
+    @Test
+    void uniqueIndexRejectsDuplicateApproval() {
+        // given
+        LocalDateTime spentDate = LocalDate.now().atTime(12, 30);
+        String key = "expenditure:approval:"
+                + ApprovalFingerprint.of(profile.getId(), "KB", spentDate, 11_000L, "스타벅스");
+        expenditureService.registerExpenditure(profile.getId(), spentDate, 11_000L, "스타벅스", "KB");
+        verify(redisTemplate, never()).delete(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> expenditureService.registerExpenditure(profile.getId(), spentDate.withSecond(30),
+                11_000L, "스타벅스", "KB"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 등록된 승인 내역입니다.")
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(expenditureRepository.findAll()).hasSize(1);
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate).delete(List.of(key));
+    }
+}
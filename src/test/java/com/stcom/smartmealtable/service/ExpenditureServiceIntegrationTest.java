@@ -2,31 +2,39 @@ package com.stcom.smartmealtable.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
 
 import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.Expenditure;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
 import com.stcom.smartmealtable.domain.member.Member;
 import com.stcom.smartmealtable.domain.member.MemberProfile;
+import com.stcom.smartmealtable.infrastructure.cache.ApprovalFingerprintRegistry;
 import com.stcom.smartmealtable.repository.BudgetRepository;
 import com.stcom.smartmealtable.repository.ExpenditureRepository;
 import com.stcom.smartmealtable.repository.MemberProfileRepository;
 import com.stcom.smartmealtable.repository.MemberRepository;
-import java.math.BigDecimal;
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import com.stcom.smartmealtable.service.dto.ExpenditureImportResultDto;
+import com.stcom.smartmealtable.service.dto.ExpenditureRegisterDto;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(ExpenditureService.class)
+@Import({ExpenditureService.class, BudgetService.class})
 class ExpenditureServiceIntegrationTest {
 
     @Autowired
@@ -39,6 +47,10 @@ class ExpenditureServiceIntegrationTest {
     private MemberRepository memberRepository;
     @Autowired
     private MemberProfileRepository memberProfileRepository;
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+    @MockBean
+    private ApprovalFingerprintRegistry approvalRegistry;
 
     private Member member;
     private MemberProfile profile;
@@ -62,8 +74,8 @@ class ExpenditureServiceIntegrationTest {
         LocalDate today = LocalDate.now();
         YearMonth thisMonth = YearMonth.from(today);
 
-        dailyBudget = new DailyBudget(profile, BigDecimal.valueOf(50_000), today);
-        monthlyBudget = new MonthlyBudget(profile, BigDecimal.valueOf(1_000_000), thisMonth);
+        dailyBudget = new DailyBudget(profile, 50_000, today);
+        monthlyBudget = new MonthlyBudget(profile, 1_000_000, thisMonth);
         budgetRepository.save(dailyBudget);
         budgetRepository.save(monthlyBudget);
     }
@@ -92,8 +104,8 @@ class ExpenditureServiceIntegrationTest {
         MonthlyBudget reloadedMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(),
                 monthlyBudget.getYearMonth()).orElseThrow();
 
-        assertThat(reloadedDaily.getSpendAmount()).isEqualTo(BigDecimal.valueOf(amount));
-        assertThat(reloadedMonthly.getSpendAmount()).isEqualTo(BigDecimal.valueOf(amount));
+        assertThat(reloadedDaily.getSpendAmount()).isEqualTo(amount);
+        assertThat(reloadedMonthly.getSpendAmount()).isEqualTo(amount);
     }
 
     @DisplayName("지출 내역을 페이징으로 조회할 수 있다")
@@ -141,6 +153,13 @@ class ExpenditureServiceIntegrationTest {
         assertThat(updatedExpenditure.getSpentDate()).isEqualTo(newSpentDate);
         assertThat(updatedExpenditure.getAmount()).isEqualTo(newAmount);
         assertThat(updatedExpenditure.getTradeName()).isEqualTo(newTradeName);
+
+        DailyBudget reloadedDaily = budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profile.getId(),
+                dailyBudget.getDate()).orElseThrow();
+        MonthlyBudget reloadedMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(),
+                monthlyBudget.getYearMonth()).orElseThrow();
+        assertThat(reloadedDaily.getSpendAmount()).isEqualTo(newAmount);
+        assertThat(reloadedMonthly.getSpendAmount()).isEqualTo(newAmount);
     }
 
     @DisplayName("지출 내역을 삭제하면 예산에서 해당 금액이 차감된다")
@@ -160,8 +179,8 @@ class ExpenditureServiceIntegrationTest {
         MonthlyBudget beforeDeleteMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(),
                 monthlyBudget.getYearMonth()).orElseThrow();
         
-        assertThat(beforeDeleteDaily.getSpendAmount()).isEqualTo(BigDecimal.valueOf(amount));
-        assertThat(beforeDeleteMonthly.getSpendAmount()).isEqualTo(BigDecimal.valueOf(amount));
+        assertThat(beforeDeleteDaily.getSpendAmount()).isEqualTo(amount);
+        assertThat(beforeDeleteMonthly.getSpendAmount()).isEqualTo(amount);
 
         // when
         expenditureService.deleteExpenditure(profile.getId(), savedExpenditure.getId());
@@ -174,8 +193,8 @@ class ExpenditureServiceIntegrationTest {
         MonthlyBudget afterDeleteMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(),
                 monthlyBudget.getYearMonth()).orElseThrow();
         
-        assertThat(afterDeleteDaily.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(afterDeleteMonthly.getSpendAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(afterDeleteDaily.getSpendAmount()).isEqualTo(0);
+        assertThat(afterDeleteMonthly.getSpendAmount()).isEqualTo(0);
     }
 
     @DisplayName("존재하지 않는 지출 내역 수정 시 예외가 발생한다")
@@ -205,4 +224,139 @@ class ExpenditureServiceIntegrationTest {
                 .hasMessage("지출 내역이 존재하지 않습니다.");
     }
 
-} 
\ No newline at end of file
+    @DisplayName("여러 건의 지출을 한 번에 등록하면 예산 사용금액에 합계가 반영된다")
+    @Test
+    void importExpenditures() {
+        // given
+        LocalDateTime base = LocalDate.now().atTime(9, 0);
+        List<ExpenditureRegisterDto> requests = List.of(
+                new ExpenditureRegisterDto(base, 3000L, "Coffee"),
+                new ExpenditureRegisterDto(base.plusHours(3), 9000L, "Lunch"),
+                new ExpenditureRegisterDto(base.plusHours(9), 12000L, "Dinner")
+        );
+
+        // when
+        ExpenditureImportResultDto imported = expenditureService.importExpenditures(profile.getId(), requests);
+
+        // then
+        assertThat(imported.getImportedCount()).isEqualTo(3);
+        assertThat(expenditureRepository.findAll()).hasSize(3)
+                .allMatch(e -> e.getDailyBudget().getId().equals(dailyBudget.getId()));
+
+        DailyBudget reloadedDaily = budgetRepository.findDailyBudgetByMemberProfileIdAndDate(profile.getId(),
+                dailyBudget.getDate()).orElseThrow();
+        MonthlyBudget reloadedMonthly = budgetRepository.findMonthlyBudgetByMemberProfileIdAndYearMonth(profile.getId(),
+                monthlyBudget.getYearMonth()).orElseThrow();
+        assertThat(reloadedDaily.getSpendAmount()).isEqualTo(24000);
+        assertThat(reloadedMonthly.getSpendAmount()).isEqualTo(24000);
+    }
+
+    @DisplayName("예산이 없는 날짜가 섞여 있으면 일괄 등록 전체가 실패한다")
+    @Test
+    void importExpenditures_missingBudget() {
+        // given
+        List<ExpenditureRegisterDto> requests = List.of(
+                new ExpenditureRegisterDto(LocalDateTime.now(), 3000L, "Coffee"),
+                new ExpenditureRegisterDto(LocalDateTime.now().minusYears(1), 9000L, "Lunch")
+        );
+
+        // when & then
+        assertThatThrownBy(() -> expenditureService.importExpenditures(profile.getId(), requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("일일 예산이 존재하지 않습니다.");
+        assertThat(expenditureRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("기본 일일 한도가 있는 프로필은 일일 예산이 없는 날 첫 지출 시 예산이 생성된다")
+    @Test
+    void registerExpenditure_createsDailyBudgetLazily() {
+        // given
+        YearMonth month = YearMonth.of(2024, 3);
+        LocalDate date = month.atDay(10);
+        budgetRepository.save(new MonthlyBudget(profile, 900_000, month));
+        profile.changeDefaultDailyLimit(30_000, month.atDay(1));
+
+        // when
+        expenditureService.registerExpenditure(profile.getId(), date.atTime(12, 0), 8_000L, "Lunch");
+        expenditureService.registerExpenditure(profile.getId(), date.atTime(19, 0), 12_000L, "Dinner");
+
+        // then
+        List<DailyBudget> created = budgetRepository.findDailyBudgetsByMemberProfileIdAndDateBetween(
+                profile.getId(), month.atDay(1), month.atEndOfMonth());
+        assertThat(created).hasSize(1);
+        assertThat(created.get(0).getDate()).isEqualTo(date);
+        assertThat(created.get(0).getLimit()).isEqualTo(30_000);
+        assertThat(created.get(0).getSpendAmount()).isEqualTo(20_000);
+    }
+
+    @DisplayName("최근에 등록된 승인 문자 지출을 다시 등록하면 예외가 발생한다")
+    @Test
+    void registerExpenditure_duplicateApproval() {
+        // given
+        LocalDateTime spentDate = LocalDate.now().atTime(12, 30);
+        when(approvalRegistry.claim(anyString())).thenReturn(true, false);
+        expenditureService.registerExpenditure(profile.getId(), spentDate, 11_000L, "스타벅스", "KB");
+
+        // when & then
+        assertThatThrownBy(() -> expenditureService.registerExpenditure(profile.getId(), spentDate.withSecond(30),
+                11_000L, "스타벅스", "KB"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 등록된 승인 내역입니다.");
+        assertThat(expenditureRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("일괄 등록 시 요청 안의 중복과 이미 등록된 승인은 건너뛴다")
+    @Test
+    void importExpenditures_skipsDuplicateApprovals() {
+        // given
+        LocalDateTime base = LocalDate.now().atTime(9, 0);
+        expenditureService.importExpenditures(profile.getId(), List.of(
+                new ExpenditureRegisterDto(base, 3000L, "Coffee", "KB")));
+
+        List<ExpenditureRegisterDto> requests = List.of(
+                new ExpenditureRegisterDto(base, 3000L, "Coffee", "KB"),
+                new ExpenditureRegisterDto(base.plusHours(3), 9000L, "Lunch", "NH"),
+                new ExpenditureRegisterDto(base.plusHours(3), 9000L, "Lunch", "NH"),
+                new ExpenditureRegisterDto(base.plusHours(3), 9000L, "Lunch")
+        );
+
+        // when
+        ExpenditureImportResultDto imported = expenditureService.importExpenditures(profile.getId(), requests);
+
+        // then
+        assertThat(imported.getImportedCount()).isEqualTo(2);
+        assertThat(imported.getDuplicateIndexes()).containsExactly(0, 2);
+        assertThat(expenditureRepository.findAll()).hasSize(3);
+    }
+
+    @DisplayName("지출을 등록, 수정, 삭제하면 통계 롤업이 함께 갱신된다")
+    @Test
+    void spendRollupFollowsWrites() {
+        // given
+        LocalDateTime lunch = LocalDate.now().atTime(12, 10);
+        expenditureService.registerExpenditure(profile.getId(), lunch, 8_000L, "김밥천국");
+        expenditureService.importExpenditures(profile.getId(), List.of(
+                new ExpenditureRegisterDto(lunch.plusMinutes(20), 2_000L, "김밥천국"),
+                new ExpenditureRegisterDto(lunch.withHour(19), 15_000L, "고기집")));
+        Long dinnerId = expenditureRepository.findAll().stream()
+                .filter(e -> e.getTradeName().equals("고기집"))
+                .findFirst().orElseThrow().getId();
+        Long lunchId = expenditureRepository.findAll().stream()
+                .filter(e -> e.getAmount() == 8_000L)
+                .findFirst().orElseThrow().getId();
+
+        // when
+        expenditureService.editExpenditure(profile.getId(), lunchId, lunch, 9_000L, "김밥천국");
+        expenditureService.deleteExpenditure(profile.getId(), dinnerId);
+
+        // then
+        assertThat(spendRollupRepository.sumByMerchant(profile.getId(), lunch.toLocalDate(), lunch.toLocalDate(),
+                Pageable.unpaged()))
+                .singleElement()
+                .satisfies(merchant -> {
+                    assertThat(merchant.getTradeName()).isEqualTo("김밥천국");
+                    assertThat(merchant.getAmount()).isEqualTo(11_000);
+                    assertThat(merchant.getCount()).isEqualTo(2);
+                });
+    }
+}
@@ -8,7 +8,9 @@ import com.stcom.smartmealtable.domain.group.Group;
 import com.stcom.smartmealtable.domain.group.SchoolType;
 import com.stcom.smartmealtable.infrastructure.KakaoAddressApiService;
 import com.stcom.smartmealtable.infrastructure.dto.AddressRequest;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import com.stcom.smartmealtable.repository.GroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -31,7 +34,8 @@ class GroupServiceAdditionalIntegrationTest {
     static class FakeKakaoConfig {
         @Bean
         KakaoAddressApiService kakaoAddressApiService() {
-            return new KakaoAddressApiService() {
+            return new KakaoAddressApiService("test", "http://localhost", RestClient.builder(), null,
+                    new ExternalApiCircuitBreakers(new SimpleMeterRegistry())) {
                 @Override
                 public Address createAddressFromRequest(AddressRequest requestDto) {
                     return Address.builder()
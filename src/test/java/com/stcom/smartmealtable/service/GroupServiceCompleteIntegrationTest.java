@@ -8,13 +8,16 @@ import com.stcom.smartmealtable.domain.group.Group;
 import com.stcom.smartmealtable.domain.group.SchoolGroup;
 import com.stcom.smartmealtable.domain.group.SchoolType;
 import com.stcom.smartmealtable.infrastructure.dto.AddressRequest;
+import com.stcom.smartmealtable.infrastructure.resilience.ExternalApiCircuitBreakers;
 import com.stcom.smartmealtable.repository.GroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.annotation.Bean;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -234,7 +237,8 @@ class GroupServiceCompleteIntegrationTest {
         @Bean
         @org.springframework.context.annotation.Primary
         public KakaoAddressApiService kakaoAddressApiService() {
-            return new KakaoAddressApiService() {
+            return new KakaoAddressApiService("test", "http://localhost", RestClient.builder(), null,
+                    new ExternalApiCircuitBreakers(new SimpleMeterRegistry())) {
                 @Override
                 public Address createAddressFromRequest(AddressRequest requestDto) {
                     return Address.builder()
@@ -0,0 +1,94 @@
+package com.stcom.smartmealtable.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.stcom.smartmealtable.infrastructure.search.GroupNameIndex;
+import com.stcom.smartmealtable.infrastructure.search.GroupSuggestion;
+import com.stcom.smartmealtable.repository.GroupRepository;
+import com.stcom.smartmealtable.repository.dto.GroupNameDto;
+import com.stcom.smartmealtable.service.dto.GroupTypeaheadDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GroupTypeaheadServiceTest {
+
+    private GroupNameIndex groupNameIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private GroupTypeaheadService typeaheadService;
+
+    @BeforeEach
+    void setUp() {
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllNames()).thenReturn(List.of(
+                new GroupNameDto(1L, "서울대학교"),
+                new GroupNameDto(2L, "서울과학기술대학교"),
+                new GroupNameDto(3L, "연세대학교")));
+        groupNameIndex = new GroupNameIndex(groupRepository);
+        groupNameIndex.load();
+        meterRegistry = new SimpleMeterRegistry();
+        typeaheadService = new GroupTypeaheadService(groupNameIndex, meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("group.typeahead.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("인덱스 순위대로 그룹 ID 와 이름을 돌려준다")
+    void suggest() {
+        // when
+        GroupTypeaheadDto result = typeaheadService.suggest("서울", 10);
+
+        // then
+        assertThat(result.getSuggestions()).containsExactly(
+                new GroupSuggestion(1L, "서울대학교"), new GroupSuggestion(2L, "서울과학기술대학교"));
+        assertThat(result.getEtag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("정규화한 검색어가 같으면 캐시된 결과를 그대로 돌려준다")
+    void cachesByNormalizedKeyword() {
+        // when
+        GroupTypeaheadDto first = typeaheadService.suggest("서울 ", 10);
+        GroupTypeaheadDto second = typeaheadService.suggest(" 서 울", 10);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("그룹이 바뀌면 다시 계산하고, 결과가 달라졌을 때만 ETag 가 바뀐다")
+    void recomputesAfterIndexChange() {
+        // given
+        GroupTypeaheadDto before = typeaheadService.suggest("서울", 10);
+
+        // when
+        groupNameIndex.put(3L, "연세대학교 미래캠퍼스");
+        GroupTypeaheadDto unrelatedChange = typeaheadService.suggest("서울", 10);
+        groupNameIndex.put(4L, "서울시립대학교");
+        GroupTypeaheadDto relatedChange = typeaheadService.suggest("서울", 10);
+
+        // then
+        assertThat(unrelatedChange).isNotSameAs(before);
+        assertThat(unrelatedChange.getEtag()).isEqualTo(before.getEtag());
+        assertThat(relatedChange.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(relatedChange.getSuggestions()).extracting(GroupSuggestion::id).containsExactly(1L, 4L, 2L);
+        assertThat(count("miss")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 빈 목록을 돌려주고, 개수는 1 ~ MAX_LIMIT 로 맞춘다")
+    void handlesBlankKeywordAndLimit() {
+        assertThat(typeaheadService.suggest(" ", 10).getSuggestions()).isEmpty();
+        assertThat(typeaheadService.suggest(null, 10).getSuggestions()).isEmpty();
+        assertThat(typeaheadService.suggest("대학교", 0).getSuggestions()).hasSize(1);
+        assertThat(typeaheadService.suggest("대학교", 1_000).getSuggestions()).hasSize(3);
+    }
+}
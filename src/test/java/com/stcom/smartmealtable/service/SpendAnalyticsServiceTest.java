@@ -0,0 +1,75 @@
+package com.stcom.smartmealtable.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.stcom.smartmealtable.repository.SpendRollupRepository;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import com.stcom.smartmealtable.repository.dto.SpendRollupDelta;
+import com.stcom.smartmealtable.service.dto.SpendAnalyticsDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SpendAnalyticsService.class)
+class SpendAnalyticsServiceTest {
+
+    private static final Long PROFILE_ID = 1L;
+
+    @Autowired
+    private SpendAnalyticsService spendAnalyticsService;
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+
+    @DisplayName("롤업을 요일별, 시간대별, 가맹점별로 집계한다")
+    @Test
+    void getSpendAnalytics() {
+        // given - 2025-06-09 는 월요일
+        LocalDateTime monday = LocalDate.of(2025, 6, 9).atTime(12, 10);
+        spendRollupRepository.addSpend(List.of(
+                SpendRollupDelta.of(PROFILE_ID, monday, "김밥천국", 5_000L, 1),
+                SpendRollupDelta.of(PROFILE_ID, monday.plusMinutes(30), "김밥천국", 4_000L, 1),
+                SpendRollupDelta.of(PROFILE_ID, monday.plusDays(1).withHour(19), "스타벅스", 6_000L, 1),
+                SpendRollupDelta.of(PROFILE_ID, monday.plusDays(8), "스타벅스", 6_000L, 1),
+                SpendRollupDelta.of(2L, monday, "김밥천국", 100_000L, 1)
+        ));
+        // 같은 행에 두 번째 반영
+        spendRollupRepository.addSpend(List.of(SpendRollupDelta.of(PROFILE_ID, monday, "김밥천국", 1_000L, 1)));
+
+        // when
+        SpendAnalyticsDto analytics = spendAnalyticsService.getSpendAnalytics(PROFILE_ID,
+                LocalDate.of(2025, 6, 9), LocalDate.of(2025, 6, 15), 10);
+
+        // then
+        assertThat(analytics.getTotalAmount()).isEqualTo(16_000);
+        assertThat(analytics.getTotalCount()).isEqualTo(4);
+        assertThat(analytics.getByWeekday()).hasSize(7);
+        assertThat(analytics.getByWeekday().get(DayOfWeek.MONDAY.ordinal()).getAmount()).isEqualTo(10_000);
+        assertThat(analytics.getByWeekday().get(DayOfWeek.TUESDAY.ordinal()).getAmount()).isEqualTo(6_000);
+        assertThat(analytics.getByHour()).hasSize(24);
+        assertThat(analytics.getByHour().get(12).getCount()).isEqualTo(3);
+        assertThat(analytics.getByHour().get(19).getAmount()).isEqualTo(6_000);
+        assertThat(analytics.getTopMerchants()).extracting(MerchantSpendDto::getTradeName)
+                .containsExactly("김밥천국", "스타벅스");
+    }
+
+    @DisplayName("조회 기간이 잘못되면 예외가 발생한다")
+    @Test
+    void invalidRange() {
+        assertThatThrownBy(() -> spendAnalyticsService.getSpendAnalytics(PROFILE_ID,
+                LocalDate.of(2025, 6, 15), LocalDate.of(2025, 6, 9), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spendAnalyticsService.getSpendAnalytics(PROFILE_ID,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 6, 9), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
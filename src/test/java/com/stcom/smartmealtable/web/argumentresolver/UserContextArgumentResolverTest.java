@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
 
@@ -149,4 +151,25 @@ class UserContextArgumentResolverTest {
         assertThat(memberDto.getProfileId()).isNull();
         assertThat(memberDto.getEmail()).isEqualTo("test@example.com");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("인터셉터가 검증한 클레임이 요청에 있으면 토큰을 다시 검증하지 않아야 한다")
+    void resolveArgumentWithVerifiedClaimsAttribute() throws Exception {
+        // given
+        when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer valid-token");
+
+        Claims claims = mock(Claims.class);
+        when(claims.get("memberId", String.class)).thenReturn("1");
+        when(claims.containsKey("profileId")).thenReturn(false);
+        when(claims.containsKey("email")).thenReturn(false);
+
+        when(httpServletRequest.getAttribute(JwtTokenService.CLAIMS_ATTRIBUTE)).thenReturn(claims);
+
+        // when
+        MemberDto memberDto = (MemberDto) resolver.resolveArgument(methodParameter, null, webRequest, null);
+
+        // then
+        assertThat(memberDto.getMemberId()).isEqualTo(1L);
+        verify(jwtTokenService, never()).extractClaims(anyString());
+    }
+}
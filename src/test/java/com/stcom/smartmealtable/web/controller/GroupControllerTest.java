@@ -1,15 +1,20 @@
 package com.stcom.smartmealtable.web.controller;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.stcom.smartmealtable.domain.group.Group;
 import com.stcom.smartmealtable.domain.Address.Address;
+import com.stcom.smartmealtable.infrastructure.search.GroupSuggestion;
 import com.stcom.smartmealtable.service.GroupService;
+import com.stcom.smartmealtable.service.GroupTypeaheadService;
+import com.stcom.smartmealtable.service.dto.GroupTypeaheadDto;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +26,13 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 class GroupControllerTest extends ControllerTestSupport {
 
     private GroupService groupService;
+    private GroupTypeaheadService groupTypeaheadService;
 
     @BeforeEach
     void init() {
         groupService = Mockito.mock(GroupService.class);
-        GroupController controller = new GroupController(groupService);
+        groupTypeaheadService = Mockito.mock(GroupTypeaheadService.class);
+        GroupController controller = new GroupController(groupService, groupTypeaheadService);
         super.setUp(controller);
     }
 
@@ -46,6 +53,33 @@ class GroupControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/groups/autocomplete?keyword= - 자동 완성은 ETag 와 캐시 헤더를 함께 준다")
+    void autocomplete() throws Exception {
+        when(groupTypeaheadService.suggest(anyString(), anyInt())).thenReturn(
+                new GroupTypeaheadDto(1L, "\"abc\"", List.of(new GroupSuggestion(1L, "서울대학교"))));
+
+        mockMvc.perform(get("/api/v1/groups/autocomplete").param("keyword", "서울"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().string("Cache-Control", "max-age=30, private"))
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].name").value("서울대학교"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/groups/autocomplete - If-None-Match 가 같으면 본문 없이 304 를 준다")
+    void autocompleteNotModified() throws Exception {
+        when(groupTypeaheadService.suggest(anyString(), anyInt())).thenReturn(
+                new GroupTypeaheadDto(1L, "\"abc\"", List.of(new GroupSuggestion(1L, "서울대학교"))));
+
+        mockMvc.perform(get("/api/v1/groups/autocomplete").param("keyword", "서울")
+                        .header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc\""));
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/groups/{id} - 그룹 삭제")
     void deleteGroup() throws Exception {
@@ -11,10 +11,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.stcom.smartmealtable.domain.Budget.DailyBudget;
 import com.stcom.smartmealtable.domain.Budget.MonthlyBudget;
+import com.stcom.smartmealtable.repository.dto.BudgetAmountDto;
 import com.stcom.smartmealtable.service.BudgetService;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -42,15 +41,13 @@ class MemberBudgetControllerTest extends ControllerTestSupport {
     @Test
     @DisplayName("GET /daily/{date} - 일별 예산 조회")
     void dailyBudget() throws Exception {
-        DailyBudget budget = Mockito.mock(DailyBudget.class);
-        when(budget.getSpendAmount()).thenReturn(BigDecimal.valueOf(1000));
-        when(budget.getLimit()).thenReturn(BigDecimal.valueOf(10000));
-        when(budget.getAvailableAmount()).thenReturn(BigDecimal.valueOf(9000));
-        when(budgetService.getDailyBudgetBy(anyLong(), any(LocalDate.class))).thenReturn(budget);
+        BudgetAmountDto budget = new BudgetAmountDto(1000, 10000);
+        when(budgetService.getDailyBudgetAmountBy(anyLong(), any(LocalDate.class))).thenReturn(budget);
 
         mockMvc.perform(get("/api/v1/members/me/budgets/daily/2025-06-12"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("SUCCESS"));
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.dailyAvailableAmount").value(9000));
     }
 
     @Test
@@ -74,11 +71,8 @@ class MemberBudgetControllerTest extends ControllerTestSupport {
     @Test
     @DisplayName("GET /daily/{date}/week - 주간 일별 예산 리스트")
     void dailyWeek() throws Exception {
-        DailyBudget budget = Mockito.mock(DailyBudget.class);
-        when(budget.getSpendAmount()).thenReturn(BigDecimal.valueOf(1000));
-        when(budget.getLimit()).thenReturn(BigDecimal.valueOf(10000));
-        when(budget.getAvailableAmount()).thenReturn(BigDecimal.valueOf(9000));
-        when(budgetService.getDailyBudgetsByWeek(anyLong(), any(LocalDate.class))).thenReturn(List.of(budget));
+        BudgetAmountDto budget = new BudgetAmountDto(1000, 10000);
+        when(budgetService.getDailyBudgetAmountsByWeek(anyLong(), any(LocalDate.class))).thenReturn(List.of(budget));
 
         mockMvc.perform(get("/api/v1/members/me/budgets/daily/2025-06-12/week"))
                 .andExpect(status().isOk())
@@ -88,11 +82,8 @@ class MemberBudgetControllerTest extends ControllerTestSupport {
     @Test
     @DisplayName("GET /monthly/{yearMonth} - 월별 예산 조회")
     void monthly() throws Exception {
-        MonthlyBudget mb = Mockito.mock(MonthlyBudget.class);
-        when(mb.getSpendAmount()).thenReturn(BigDecimal.valueOf(1000));
-        when(mb.getLimit()).thenReturn(BigDecimal.valueOf(10000));
-        when(mb.getAvailableAmount()).thenReturn(BigDecimal.valueOf(9000));
-        when(budgetService.getMonthlyBudgetBy(anyLong(), any(YearMonth.class))).thenReturn(mb);
+        BudgetAmountDto mb = new BudgetAmountDto(1000, 10000);
+        when(budgetService.getMonthlyBudgetAmountBy(anyLong(), any(YearMonth.class))).thenReturn(mb);
 
         mockMvc.perform(get("/api/v1/members/me/budgets/monthly/2025-06"))
                 .andExpect(status().isOk())
@@ -121,14 +112,14 @@ class MemberBudgetControllerTest extends ControllerTestSupport {
     @DisplayName("GET /montly - 이전 6개월 월별 예산 조회")
     void monthlyBudgetsPreviousMonths() throws Exception {
         MonthlyBudget mb1 = Mockito.mock(MonthlyBudget.class);
-        when(mb1.getSpendAmount()).thenReturn(BigDecimal.valueOf(1000));
-        when(mb1.getLimit()).thenReturn(BigDecimal.valueOf(10000));
-        when(mb1.getAvailableAmount()).thenReturn(BigDecimal.valueOf(9000));
+        when(mb1.getSpendAmount()).thenReturn(1000L);
+        when(mb1.getLimit()).thenReturn(10000L);
+        when(mb1.getAvailableAmount()).thenReturn(9000L);
         
         MonthlyBudget mb2 = Mockito.mock(MonthlyBudget.class);
-        when(mb2.getSpendAmount()).thenReturn(BigDecimal.valueOf(2000));
-        when(mb2.getLimit()).thenReturn(BigDecimal.valueOf(15000));
-        when(mb2.getAvailableAmount()).thenReturn(BigDecimal.valueOf(13000));
+        when(mb2.getSpendAmount()).thenReturn(2000L);
+        when(mb2.getLimit()).thenReturn(15000L);
+        when(mb2.getAvailableAmount()).thenReturn(13000L);
         
         when(budgetService.getMonthlyBudgetsBy(anyLong(), any(LocalDate.class), anyInt())).thenReturn(List.of(mb1, mb2));
 
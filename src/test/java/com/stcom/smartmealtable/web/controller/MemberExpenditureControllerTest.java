@@ -3,6 +3,8 @@ package com.stcom.smartmealtable.web.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -13,11 +15,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stcom.smartmealtable.component.creditmessage.CreditMessageManager;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseJob;
+import com.stcom.smartmealtable.component.creditmessage.CreditMessageParseJobManager;
 import com.stcom.smartmealtable.component.creditmessage.ExpenditureDto;
 import com.stcom.smartmealtable.domain.Budget.Expenditure;
+import com.stcom.smartmealtable.service.CreditMessageImportService;
 import com.stcom.smartmealtable.service.ExpenditureService;
+import com.stcom.smartmealtable.service.dto.MessageImportResultDto;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +41,8 @@ class MemberExpenditureControllerTest extends ControllerTestSupport {
 
     private ExpenditureService expenditureService;
     private CreditMessageManager creditMessageManager;
+    private CreditMessageParseJobManager parseJobManager;
+    private CreditMessageImportService creditMessageImportService;
 
     private final ObjectMapper om = new ObjectMapper();
 
@@ -40,19 +50,69 @@ class MemberExpenditureControllerTest extends ControllerTestSupport {
     void init() {
         expenditureService = Mockito.mock(ExpenditureService.class);
         creditMessageManager = Mockito.mock(CreditMessageManager.class);
-        MemberExpenditureController controller = new MemberExpenditureController(expenditureService, creditMessageManager);
+        parseJobManager = Mockito.mock(CreditMessageParseJobManager.class);
+        creditMessageImportService = Mockito.mock(CreditMessageImportService.class);
+        MemberExpenditureController controller = new MemberExpenditureController(expenditureService,
+                creditMessageManager, parseJobManager, creditMessageImportService);
         super.setUp(controller);
     }
 
     @Test
     @DisplayName("POST /messages/parse - 카드 메시지 파싱")
     void parseMessage() throws Exception {
-        when(creditMessageManager.parseMessage(any())).thenReturn(new ExpenditureDto("vendor", LocalDateTime.now(), 1000L, "trade"));
+        when(creditMessageManager.parseMessage(any(), any())).thenReturn(new ExpenditureDto("vendor", LocalDateTime.now(), 1000L, "trade"));
         mockMvc.perform(post("/api/v1/members/me/expenditures/messages/parse")
                         .contentType("application/json")
-                        .content("{\"message\":\"some msg\"}"))
+                        .content("{\"message\":\"some msg\", \"receivedAt\":\"2026-01-01T00:05:00\"}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
+        verify(creditMessageManager).parseMessage("some msg", LocalDateTime.of(2026, 1, 1, 0, 5));
+    }
+
+    @Test
+    @DisplayName("POST /messages/parse-jobs - 파싱 작업 등록")
+    void submitParseJob() throws Exception {
+        CreditMessageParseJob job = Mockito.mock(CreditMessageParseJob.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getStatus()).thenReturn(CreditMessageParseJob.Status.PENDING);
+        when(parseJobManager.submit(anyLong(), any(), any())).thenReturn(job);
+
+        mockMvc.perform(post("/api/v1/members/me/expenditures/messages/parse-jobs")
+                        .contentType("application/json")
+                        .content("{\"message\":\"some msg\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("GET /messages/parse-jobs/{jobId} - 파싱 작업 조회")
+    void getParseJob() throws Exception {
+        CreditMessageParseJob job = Mockito.mock(CreditMessageParseJob.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getStatus()).thenReturn(CreditMessageParseJob.Status.FAILED);
+        when(job.getErrorMessage()).thenReturn("Gemini 파싱 실패");
+        when(parseJobManager.findJob(1L, "job-1")).thenReturn(Optional.of(job));
+
+        mockMvc.perform(get("/api/v1/members/me/expenditures/messages/parse-jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("FAILED"))
+                .andExpect(jsonPath("$.data.errorMessage").value("Gemini 파싱 실패"));
+    }
+
+    @Test
+    @DisplayName("POST /messages/import - 승인 문자 일괄 파싱 및 등록")
+    void importCreditMessages() throws Exception {
+        when(creditMessageImportService.importMessages(anyLong(), any(), any())).thenReturn(List.of(
+                new MessageImportResultDto(0, MessageImportResultDto.Status.REGISTERED, null, null),
+                new MessageImportResultDto(1, MessageImportResultDto.Status.DUPLICATE, null, null)));
+
+        mockMvc.perform(post("/api/v1/members/me/expenditures/messages/import")
+                        .contentType("application/json")
+                        .content("{\"messages\":[\"msg1\", \"msg1\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("REGISTERED"))
+                .andExpect(jsonPath("$.data[1].status").value("DUPLICATE"));
     }
 
     @Test
@@ -96,6 +156,27 @@ class MemberExpenditureControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
     }
 
+    @Test
+    @DisplayName("지출 등록/일괄 등록/수정은 카드사가 있어도 음수 금액을 거부한다")
+    void rejectNegativeAmountWithVendor() throws Exception {
+        String expenditure = "{\"spentDate\":\"2025-06-12T12:00:00\", \"amount\":-1000, \"tradeName\":\"점심\", "
+                + "\"vendor\":\"KB\"}";
+
+        mockMvc.perform(post("/api/v1/members/me/expenditures")
+                        .contentType("application/json")
+                        .content(expenditure))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/members/me/expenditures/import")
+                        .contentType("application/json")
+                        .content("{\"expenditures\":[" + expenditure + "]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/members/me/expenditures/1")
+                        .contentType("application/json")
+                        .content(expenditure))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(expenditureService);
+    }
+
     @Test
     @DisplayName("DELETE /{id} - 지출 삭제")
     void deleteExpenditure() throws Exception {
@@ -103,4 +184,26 @@ class MemberExpenditureControllerTest extends ControllerTestSupport {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /scroll - 커서 기반 목록 조회")
+    void scrollExpenditures() throws Exception {
+        Expenditure ex = Mockito.mock(Expenditure.class);
+        Mockito.when(ex.getId()).thenReturn(7L);
+        Mockito.when(ex.getSpentDate()).thenReturn(LocalDateTime.of(2025, 6, 12, 12, 0));
+        Mockito.when(ex.getAmount()).thenReturn(1000L);
+        Mockito.when(ex.getTradeName()).thenReturn("점심");
+
+        Slice<Expenditure> slice = new SliceImpl<>(Collections.singletonList(ex), Pageable.ofSize(1), true);
+        when(expenditureService.scrollExpenditures(anyLong(), any(), any(), anyInt())).thenReturn(slice);
+
+        mockMvc.perform(get("/api/v1/members/me/expenditures/scroll")
+                        .param("cursorSpentDate", "2025-06-13T09:00:00")
+                        .param("cursorId", "10")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursorId").value(7));
+    }
+}
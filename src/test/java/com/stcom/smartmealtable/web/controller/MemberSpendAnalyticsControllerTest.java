@@ -0,0 +1,67 @@
+package com.stcom.smartmealtable.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.stcom.smartmealtable.batch.SpendRollupBackfill;
+import com.stcom.smartmealtable.repository.dto.MerchantSpendDto;
+import com.stcom.smartmealtable.service.SpendAnalyticsService;
+import com.stcom.smartmealtable.service.dto.SpendAnalyticsDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class MemberSpendAnalyticsControllerTest extends ControllerTestSupport {
+
+    private SpendAnalyticsService spendAnalyticsService;
+    private SpendRollupBackfill spendRollupBackfill;
+
+    @BeforeEach
+    void setUpTest() {
+        spendAnalyticsService = Mockito.mock(SpendAnalyticsService.class);
+        spendRollupBackfill = Mockito.mock(SpendRollupBackfill.class);
+        super.setUp(new MemberSpendAnalyticsController(spendAnalyticsService, spendRollupBackfill));
+    }
+
+    @Test
+    @DisplayName("GET /analytics - 기간 지출 통계 조회")
+    void spendAnalytics() throws Exception {
+        SpendAnalyticsDto analytics = new SpendAnalyticsDto(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30),
+                9_000, 2, List.of(), List.of(), List.of(new MerchantSpendDto("김밥천국", 9_000, 2)));
+        when(spendAnalyticsService.getSpendAnalytics(anyLong(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .thenReturn(analytics);
+        when(spendRollupBackfill.isCompleted()).thenReturn(true);
+
+        mockMvc.perform(get("/api/v1/members/me/expenditures/analytics")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.totalAmount").value(9000))
+                .andExpect(jsonPath("$.data.topMerchants[0].tradeName").value("김밥천국"));
+    }
+
+    @Test
+    @DisplayName("GET /analytics - 롤업 백필이 끝나기 전에는 통계를 조회하지 않는다")
+    void spendAnalyticsBeforeBackfill() {
+        when(spendRollupBackfill.isCompleted()).thenReturn(false);
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/members/me/expenditures/analytics")
+                .param("from", "2025-06-01")
+                .param("to", "2025-06-30")))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(spendAnalyticsService);
+    }
+}